@@ -0,0 +1,30 @@
+package com.project.deliveryservice.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 위도, 경도 좌표 (WGS84)
+ * 좌표가 없는 엔티티에서는 두 컬럼 모두 null 로 저장되므로 wrapper 타입을 사용한다.
+ */
+@Getter
+@Embeddable
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeoPoint {
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Override
+    public String toString() {
+        return "(" + latitude + ", " + longitude + ')';
+    }
+}
@@ -17,4 +17,40 @@ public class ErrorMsg {
     public static final String PASSWORD_NOT_MATCH = "password does not match";
 
     public static final String DUPLICATED = " already exist";
+
+    public static final String ORDER_QUEUE_FULL = "too many orders, please retry later";
+
+    public static final String INVALID_STATUS_TRANSITION = "status cannot be changed from ";
+
+    public static final String STATUS_CONFLICT = "status has already been changed";
+
+    public static final String IDEMPOTENT_REQUEST_IN_PROGRESS = "request with the same idempotency key is in progress";
+
+    public static final String IDEMPOTENCY_KEY_TOO_LONG = "idempotency key must be 100 characters or less";
+
+    public static final String TOO_MANY_REQUESTS = "too many requests, please retry later";
+
+    public static final String INVALID_SALES_RANGE = "sales range must be within a year and from must not be after to";
+
+    public static final String INVALID_RECONCILE_RANGE = "reconcile range must end on a closed day before today and be within a year";
+
+    public static final String ORDER_NOT_EXIST = "order not exist";
+
+    public static final String UNSUPPORTED_EXPORT_FORMAT = "unsupported export format ";
+
+    public static final String INVALID_EXPORT_RANGE = "from must not be after to";
+
+    public static final String EXPORT_TIMED_OUT = "export exceeded the time limit, narrow the range";
+
+    public static final String SHOP_NOT_EXIST = "shop not exist";
+
+    public static final String USER_LOCATION_NOT_EXIST = "user address has no known location";
+
+    public static final String ITEM_NOT_EXIST = "item not exist";
+
+    public static final String SEARCH_QUERY_TOO_LONG = "search query must be at most 50 characters";
+
+    public static final String RIDER_LOCATION_NOT_EXIST = "rider location not exist";
+
+    public static final String TOO_MANY_TRACKING_STREAMS = "too many tracking streams, please retry later";
 }
@@ -56,4 +56,32 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.FORBIDDEN)
                 .body(fail(e.getMessage()));
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(fail(e.getMessage()));
+    }
+
+    @ExceptionHandler(NotExistException.class)
+    public ResponseEntity<ApiResponse> handleNotExistException(NotExistException e) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(fail(e.getMessage()));
+    }
+
+    @ExceptionHandler(StatusConflictException.class)
+    public ResponseEntity<ApiResponse> handleStatusConflictException(StatusConflictException e) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(fail(e.getMessage()));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(fail(e.getMessage()));
+    }
 }
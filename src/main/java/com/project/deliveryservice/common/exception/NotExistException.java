@@ -0,0 +1,8 @@
+package com.project.deliveryservice.common.exception;
+
+public class NotExistException extends IllegalArgumentException {
+
+    public NotExistException(String message) {
+        super(message);
+    }
+}
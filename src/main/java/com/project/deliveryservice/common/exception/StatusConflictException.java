@@ -0,0 +1,8 @@
+package com.project.deliveryservice.common.exception;
+
+public class StatusConflictException extends IllegalStateException {
+
+    public StatusConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.project.deliveryservice.common.id;
+
+/**
+ * 엔티티 식별자 생성기
+ * 구현체는 여러 스레드에서 동시에 호출되어도 중복되지 않는 값을 반환해야 한다.
+ */
+public interface IdGenerator {
+
+    long nextId();
+}
@@ -0,0 +1,20 @@
+package com.project.deliveryservice.common.id;
+
+import java.util.Objects;
+
+/**
+ * Hibernate 가 직접 생성하는 식별자 생성기에서 사용할 IdGenerator 를 보관한다.
+ * 애플리케이션 시작 시 설정된 구현체로 교체되며, 교체 전에는 node id 0 의 SnowflakeIdGenerator 를 사용한다.
+ */
+public abstract class IdGenerators {
+
+    private static volatile IdGenerator generator = new SnowflakeIdGenerator(0);
+
+    public static IdGenerator get() {
+        return generator;
+    }
+
+    public static void set(IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator);
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.deliveryservice.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 식별자를 애플리케이션에서 생성하도록 지정한다.
+ * IDENTITY 전략과 달리 insert 전에 식별자가 정해지므로 Hibernate 의 JDBC batch insert 가 가능하다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,93 @@
+package com.project.deliveryservice.common.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 정렬되는 64 bit 식별자 생성기
+ * <pre>
+ * | 0 | timestamp (41 bit) | node id (10 bit) | sequence (12 bit) |
+ * </pre>
+ * 마지막으로 발급한 (timestamp, sequence) 쌍을 하나의 long 으로 묶어 CAS 로 갱신하므로 락을 사용하지 않는다.
+ * 시계가 뒤로 돌아가면 마지막 timestamp 를 계속 사용하며, 한 밀리초의 sequence 를 모두 소진하면
+ * 다음 밀리초를 미리 사용하여 발급 순서가 항상 증가하도록 보장한다.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    // 2023-01-01T00:00:00Z
+    public static final long DEFAULT_EPOCH = 1672531200000L;
+
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    public static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int NODE_ID_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + NODE_ID_BITS;
+
+    private final long nodeId;
+    private final long epoch;
+    private final LongSupplier clock;
+
+    // (timestamp << SEQUENCE_BITS) | sequence
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, DEFAULT_EPOCH, System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, long epoch, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.epoch = epoch;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long prev = state.get();
+            long prevTimestamp = prev >>> SEQUENCE_BITS;
+            long now = Math.max(clock.getAsLong() - epoch, 0);
+
+            long next;
+            if (now > prevTimestamp) {
+                // 새로운 밀리초 - sequence 초기화
+                next = now << SEQUENCE_BITS;
+            } else if ((prev & MAX_SEQUENCE) < MAX_SEQUENCE) {
+                // 같은 밀리초 혹은 시계가 뒤로 돌아간 경우 - 마지막 timestamp 에서 sequence 증가
+                next = prev + 1;
+            } else {
+                // sequence 소진 - 다음 밀리초를 미리 사용
+                next = (prevTimestamp + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(prev, next)) {
+                return compose(next >>> SEQUENCE_BITS, next & MAX_SEQUENCE);
+            }
+        }
+    }
+
+    private long compose(long timestamp, long sequence) {
+        return (timestamp << TIMESTAMP_SHIFT) | (nodeId << NODE_ID_SHIFT) | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @param id 이 생성기가 발급한 식별자
+     * @return 식별자가 발급된 시각 (epoch millis)
+     */
+    public long extractTimestamp(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + epoch;
+    }
+
+    public static long extractNodeId(long id) {
+        return (id >>> NODE_ID_SHIFT) & MAX_NODE_ID;
+    }
+}
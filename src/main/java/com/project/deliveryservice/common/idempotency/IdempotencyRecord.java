@@ -0,0 +1,47 @@
+package com.project.deliveryservice.common.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "idempotency_record", indexes = @Index(name = "idx_idempotency_expires", columnList = "expiresAt"))
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(length = 200)
+    private String idempotencyKey;
+
+    // 처리 중인 경우 null
+    @Lob
+    private String response;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 선점 시 merge 가 아닌 insert 가 수행되도록 새 엔티티임을 표시
+    @Transient
+    private boolean isNew;
+
+    public IdempotencyRecord(String idempotencyKey, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.expiresAt = expiresAt;
+        this.isNew = true;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+}
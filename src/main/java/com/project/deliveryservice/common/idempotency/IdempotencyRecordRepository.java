@@ -0,0 +1,32 @@
+package com.project.deliveryservice.common.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Query("select r.response from IdempotencyRecord r" +
+            " where r.idempotencyKey = :key and r.expiresAt > :now and r.response is not null")
+    Optional<String> findResponse(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update IdempotencyRecord r set r.response = :response where r.idempotencyKey = :key")
+    int updateResponse(@Param("key") String key, @Param("response") String response);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.idempotencyKey = :key and r.response is null")
+    int deletePending(@Param("key") String key);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.idempotencyKey = :key and r.expiresAt <= :now")
+    int deleteExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,26 @@
+package com.project.deliveryservice.common.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 별 응답 저장소
+ * 키는 reserve 로 선점된 뒤 complete 로 응답이 기록되거나 release 로 해제된다.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * @return 만료되지 않은 완료된 응답, 처리 중이거나 없는 경우 empty
+     */
+    Optional<String> findResponse(String key);
+
+    /**
+     * 키를 처리 중 상태로 선점한다.
+     *
+     * @return 선점에 성공하면 true, 다른 요청이 이미 선점했거나 응답이 존재하면 false
+     */
+    boolean reserve(String key);
+
+    void complete(String key, String response);
+
+    void release(String key);
+}
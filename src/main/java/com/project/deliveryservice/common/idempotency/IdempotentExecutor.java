@@ -0,0 +1,80 @@
+package com.project.deliveryservice.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.common.exception.StatusConflictException;
+import com.project.deliveryservice.utils.JsonUtils;
+
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 같은 Idempotency-Key 로 재시도된 요청에 저장된 응답을 돌려준다.
+ * 같은 키의 동시 요청은 키 해시로 고른 stripe lock 으로 직렬화되어, 먼저 들어온 요청만 실제로 처리된다.
+ */
+public class IdempotentExecutor {
+
+    private final IdempotencyStore idempotencyStore;
+    private final JsonUtils jsonUtils;
+    private final ReentrantLock[] locks;
+
+    public IdempotentExecutor(IdempotencyStore idempotencyStore, JsonUtils jsonUtils, int lockStripes) {
+        this.idempotencyStore = idempotencyStore;
+        this.jsonUtils = jsonUtils;
+        this.locks = new ReentrantLock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * @param key 호출자 범위까지 포함된 멱등 키
+     * @param type 응답 타입
+     * @param action 키로 처리된 응답이 없을 때 한 번만 실행할 작업
+     * @throws StatusConflictException 다른 인스턴스에서 같은 키를 처리 중인 경우
+     */
+    public <T> T execute(String key, Class<T> type, Supplier<T> action) {
+        ReentrantLock lock = locks[(key.hashCode() & Integer.MAX_VALUE) % locks.length];
+        lock.lock();
+        try {
+            Optional<String> cached = idempotencyStore.findResponse(key);
+            if (cached.isPresent()) {
+                return deserialize(cached.get(), type);
+            }
+
+            if (!idempotencyStore.reserve(key)) {
+                throw new StatusConflictException(ErrorMsg.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            }
+
+            T result;
+            try {
+                result = action.get();
+            } catch (RuntimeException e) {
+                // 실패한 요청은 같은 키로 다시 시도할 수 있어야 함
+                idempotencyStore.release(key);
+                throw e;
+            }
+            idempotencyStore.complete(key, serialize(result));
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String serialize(Object value) {
+        try {
+            return jsonUtils.serialize(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T deserialize(String json, Class<T> type) {
+        try {
+            return jsonUtils.deserialize(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.deliveryservice.common.idempotency;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.common.exception.TooManyRequestsException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단일 인스턴스용 메모리 저장소
+ * 모든 키의 TTL 이 같으므로 저장 순서가 곧 만료 순서이며, 저장 시마다 만료된 키를 제거하고 최대 개수에 도달하면 응답이 기록된 가장 오래된 키부터 제거한다.
+ * 처리 중인 키는 제거하면 재시도된 요청이 작업을 다시 실행하므로 만료 전에는 제거하지 않으며, 처리 중인 키만으로 가득 차면 새 키를 거절한다.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    public InMemoryIdempotencyStore(Duration ttl, int maxEntries, Clock clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<String> findResponse(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired(clock.millis())) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry.response);
+    }
+
+    /**
+     * @throws TooManyRequestsException 처리 중인 키만으로 최대 개수에 도달한 경우
+     */
+    @Override
+    public boolean reserve(String key) {
+        long now = clock.millis();
+        Entry existing = entries.get(key);
+        if (existing != null && !existing.isExpired(now)) {
+            return false;
+        }
+
+        evict(now);
+        if (size.get() >= maxEntries) {
+            throw new TooManyRequestsException(ErrorMsg.TOO_MANY_REQUESTS);
+        }
+
+        Entry reserved = new Entry(key, now + ttlMillis);
+        Entry current = entries.compute(key, (k, entry) ->
+                entry == null || entry.isExpired(now) ? reserved : entry);
+        if (current != reserved) {
+            return false;
+        }
+
+        insertionOrder.add(reserved);
+        size.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void complete(String key, String response) {
+        entries.computeIfPresent(key, (k, entry) -> {
+            entry.response = response;
+            return entry;
+        });
+    }
+
+    @Override
+    public void release(String key) {
+        entries.computeIfPresent(key, (k, entry) -> entry.response == null ? null : entry);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null && (oldest.isExpired(now) || !isStored(oldest))) {
+            remove(oldest);
+        }
+
+        // 최대 개수에 도달하면 응답이 기록된 키만 오래된 순으로 제거
+        Iterator<Entry> iterator = insertionOrder.iterator();
+        while (size.get() >= maxEntries && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.response != null || !isStored(entry)) {
+                remove(entry);
+            }
+        }
+    }
+
+    // release 되었거나 같은 키로 다시 저장되어 map 에서 빠진 entry 는 false
+    private boolean isStored(Entry entry) {
+        return entries.get(entry.key) == entry;
+    }
+
+    private void remove(Entry entry) {
+        if (insertionOrder.remove(entry)) {
+            size.decrementAndGet();
+            // 같은 키로 다시 저장된 최신 entry 는 제거하지 않음
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    private static class Entry {
+
+        private final String key;
+        private final long expiresAt;
+        private volatile String response;
+
+        Entry(String key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
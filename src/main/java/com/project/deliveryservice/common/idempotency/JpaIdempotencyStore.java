@@ -0,0 +1,72 @@
+package com.project.deliveryservice.common.idempotency;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스가 공유하는 DB 저장소
+ * 키의 선점은 primary key 의 unique 제약으로 보장되며, 각 연산은 호출한 트랜잭션과 별개로 즉시 커밋된다.
+ * 제약 위반으로 실패한 insert 의 세션과 트랜잭션은 커밋할 수 없으므로, 선점 트랜잭션은 롤백된 뒤 트랜잭션 밖에서 실패를 판단한다.
+ */
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final Duration ttl;
+    private final TransactionTemplate reserveTransaction;
+
+    public JpaIdempotencyStore(IdempotencyRecordRepository recordRepository, Duration ttl,
+                               PlatformTransactionManager transactionManager) {
+        this.recordRepository = recordRepository;
+        this.ttl = ttl;
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<String> findResponse(String key) {
+        return recordRepository.findResponse(key, LocalDateTime.now());
+    }
+
+    @Override
+    public boolean reserve(String key) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            reserveTransaction.executeWithoutResult(status -> {
+                recordRepository.deleteExpired(key, now);
+                recordRepository.saveAndFlush(new IdempotencyRecord(key, now.plus(ttl)));
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 이미 선점함, 선점 트랜잭션은 이미 롤백됨
+            return false;
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(String key, String response) {
+        recordRepository.updateResponse(key, response);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String key) {
+        recordRepository.deletePending(key);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:600000}")
+    @Transactional
+    public void deleteExpired() {
+        recordRepository.deleteAllExpired(LocalDateTime.now());
+    }
+}
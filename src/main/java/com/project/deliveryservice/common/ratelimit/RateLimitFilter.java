@@ -0,0 +1,71 @@
+package com.project.deliveryservice.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.project.deliveryservice.utils.ApiUtils.fail;
+
+/**
+ * 인증 요청은 클라이언트 IP, 주문 생성 요청은 JwtAuthenticationFilter 가 설정한 사용자 기준으로 요청 수를 제한한다.
+ * 주문 조회, 배달 추적 구독, 관리자 상태 변경 등 다른 주문 API 는 제한하지 않는다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH = "/api/auth/";
+    private static final String ORDER_PATH = "/api/orders";
+
+    private final RateLimiters rateLimiters;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getRequestURI();
+        RateLimiter limiter = null;
+        String key = null;
+
+        if (path.startsWith(AUTH_PATH)) {
+            limiter = rateLimiters.getAuthLimiter();
+            // 위조 가능한 X-Forwarded-For 대신 연결 주소 사용, 프록시 뒤에서는 server.forward-headers-strategy 로 보정
+            key = request.getRemoteAddr();
+        } else if (HttpMethod.POST.matches(request.getMethod()) && path.equals(ORDER_PATH)) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            // 인증되지 않은 요청은 이후 인가 단계에서 거절됨
+            if (authentication != null && authentication.isAuthenticated()) {
+                limiter = rateLimiters.getOrderLimiter();
+                key = String.valueOf(authentication.getPrincipal());
+            }
+        }
+
+        if (limiter != null && !limiter.tryAcquire(key)) {
+            reject(response, limiter.retryAfterSeconds(key));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), fail(ErrorMsg.TOO_MANY_REQUESTS));
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.deliveryservice.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deliveryservice.jwt.JwtAuthenticationFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.DefaultSecurityFilterChain;
+
+@RequiredArgsConstructor
+public class RateLimitSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
+
+    private final RateLimiters rateLimiters;
+    private final ObjectMapper objectMapper;
+
+    // JwtSecurityConfig 다음에 적용되어야 토큰의 사용자를 키로 사용할 수 있음
+    @Override
+    public void configure(HttpSecurity http) throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiters, objectMapper);
+        http.addFilterAfter(filter, JwtAuthenticationFilter.class);
+    }
+}
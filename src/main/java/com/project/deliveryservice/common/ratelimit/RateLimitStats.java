@@ -0,0 +1,18 @@
+package com.project.deliveryservice.common.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RateLimitStats {
+
+    private String name;
+    private int trackedKeys;
+    private long allowedCount;
+    private long rejectedCount;
+    // 키 수 한도 초과로 공유 버킷에서 처리된 요청 수
+    private long overflowCount;
+}
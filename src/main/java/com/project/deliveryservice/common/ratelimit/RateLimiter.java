@@ -0,0 +1,135 @@
+package com.project.deliveryservice.common.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 키 별 token bucket 제한기
+ * 버킷의 상태는 다음 토큰이 채워지는 이론적 시각(theoretical arrival time) 하나로 표현되므로
+ * 토큰 수와 마지막 충전 시각을 따로 갱신할 필요 없이 AtomicLong 하나의 CAS 로 소비한다.
+ * 키 수가 한도에 도달하면 새 키는 하나의 공유 버킷(overflow)으로 제한되므로, 키를 바꿔 가며 요청해도 제한을 우회할 수 없다.
+ */
+public class RateLimiter {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder overflowCount = new LongAdder();
+
+    private final String name;
+    // 토큰 하나가 채워지는 간격
+    private final long emissionIntervalNanos;
+    // 버킷이 가득 찬 상태에서 연속으로 허용할 수 있는 시간 폭
+    private final long burstNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    // 키 수 한도를 넘어 추적하지 못한 키들이 함께 소비하는 버킷
+    private final Bucket overflow;
+
+    public RateLimiter(String name, double permitsPerSecond, int burst, int maxKeys, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.name = name;
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = emissionIntervalNanos * burst;
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        this.overflow = new Bucket(nanoClock.getAsLong());
+    }
+
+    public RateLimiter(String name, double permitsPerSecond, int burst, int maxKeys) {
+        this(name, permitsPerSecond, burst, maxKeys, System::nanoTime);
+    }
+
+    /**
+     * @return 토큰을 소비했으면 true, 버킷이 비어 있으면 false
+     */
+    public boolean tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                // 키 수가 한도를 넘으면 메모리를 늘리는 대신 공유 버킷으로 제한, 유휴 버킷이 제거되면 다시 키 별로 추적
+                overflowCount.increment();
+                bucket = overflow;
+            } else {
+                bucket = buckets.computeIfAbsent(key, k -> new Bucket(now));
+            }
+        }
+
+        if (bucket.tryConsume(now)) {
+            allowedCount.increment();
+            return true;
+        }
+        rejectedCount.increment();
+        return false;
+    }
+
+    /**
+     * 다시 가득 찬 버킷을 제거한다. 가득 찬 버킷은 새로 만든 버킷과 상태가 같으므로 제거해도 제한이 느슨해지지 않는다.
+     *
+     * @return 제거된 버킷 수
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int evicted = 0;
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            // 확인과 제거 사이에 소비된 토큰 하나는 잃을 수 있으나 제한에 미치는 영향은 무시할 만함
+            if (entry.getValue().isFull(now) && buckets.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public long retryAfterSeconds(String key) {
+        Bucket bucket = buckets.getOrDefault(key, overflow);
+        long waitNanos = bucket.waitNanos(nanoClock.getAsLong());
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    public RateLimitStats getStats() {
+        return RateLimitStats.builder()
+                .name(name)
+                .trackedKeys(buckets.size())
+                .allowedCount(allowedCount.sum())
+                .rejectedCount(rejectedCount.sum())
+                .overflowCount(overflowCount.sum())
+                .build();
+    }
+
+    private class Bucket {
+
+        private final AtomicLong theoreticalArrival;
+
+        Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        boolean tryConsume(long now) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long next = Math.max(tat, now) + emissionIntervalNanos;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(tat, next)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return theoreticalArrival.get() - now <= 0;
+        }
+
+        long waitNanos(long now) {
+            return Math.max(0, theoreticalArrival.get() + emissionIntervalNanos - burstNanos - now);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.deliveryservice.common.ratelimit;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Getter
+@Component
+public class RateLimiters {
+
+    // 로그인, 회원가입 등 인증 전 요청은 클라이언트 IP 기준
+    private final RateLimiter authLimiter;
+    // 주문 요청은 토큰의 사용자 기준
+    private final RateLimiter orderLimiter;
+
+    public RateLimiters(@Value("${rate-limit.auth.permits-per-second:10}") double authPermitsPerSecond,
+                        @Value("${rate-limit.auth.burst:50}") int authBurst,
+                        @Value("${rate-limit.order.permits-per-second:20}") double orderPermitsPerSecond,
+                        @Value("${rate-limit.order.burst:40}") int orderBurst,
+                        @Value("${rate-limit.max-keys:1000000}") int maxKeys) {
+        this.authLimiter = new RateLimiter("auth", authPermitsPerSecond, authBurst, maxKeys);
+        this.orderLimiter = new RateLimiter("order", orderPermitsPerSecond, orderBurst, maxKeys);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:10000}")
+    public void evictIdle() {
+        authLimiter.evictIdle();
+        orderLimiter.evictIdle();
+    }
+
+    public List<RateLimitStats> getStats() {
+        return List.of(authLimiter.getStats(), orderLimiter.getStats());
+    }
+}
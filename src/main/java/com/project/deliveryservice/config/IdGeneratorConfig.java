@@ -0,0 +1,20 @@
+package com.project.deliveryservice.config;
+
+import com.project.deliveryservice.common.id.IdGenerator;
+import com.project.deliveryservice.common.id.IdGenerators;
+import com.project.deliveryservice.common.id.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${id-generator.node-id:0}") long nodeId) {
+        // 여러 인스턴스를 띄울 경우 인스턴스마다 서로 다른 node id 를 지정해야 함
+        IdGenerator idGenerator = new SnowflakeIdGenerator(nodeId);
+        IdGenerators.set(idGenerator);
+        return idGenerator;
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.deliveryservice.config;
+
+import com.project.deliveryservice.common.idempotency.IdempotencyRecordRepository;
+import com.project.deliveryservice.common.idempotency.IdempotencyStore;
+import com.project.deliveryservice.common.idempotency.IdempotentExecutor;
+import com.project.deliveryservice.common.idempotency.InMemoryIdempotencyStore;
+import com.project.deliveryservice.common.idempotency.JpaIdempotencyStore;
+import com.project.deliveryservice.utils.JsonUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Value("${idempotency.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    // 단일 인스턴스 배포에서는 메모리 저장소를 사용
+    @Bean
+    @ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(@Value("${idempotency.max-entries:100000}") int maxEntries) {
+        return new InMemoryIdempotencyStore(Duration.ofMinutes(ttlMinutes), maxEntries, Clock.systemUTC());
+    }
+
+    // 여러 인스턴스가 같은 키를 공유해야 하는 경우 idempotency.store=jpa
+    @Bean
+    @ConditionalOnProperty(name = "idempotency.store", havingValue = "jpa")
+    public IdempotencyStore jpaIdempotencyStore(IdempotencyRecordRepository recordRepository,
+                                                PlatformTransactionManager transactionManager) {
+        return new JpaIdempotencyStore(recordRepository, Duration.ofMinutes(ttlMinutes), transactionManager);
+    }
+
+    @Bean
+    public IdempotentExecutor idempotentExecutor(IdempotencyStore idempotencyStore,
+                                                 JsonUtils jsonUtils,
+                                                 @Value("${idempotency.lock-stripes:256}") int lockStripes) {
+        return new IdempotentExecutor(idempotencyStore, jsonUtils, lockStripes);
+    }
+}
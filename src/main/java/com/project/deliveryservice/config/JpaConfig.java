@@ -0,0 +1,21 @@
+package com.project.deliveryservice.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc-batch-size:100}") int batchSize) {
+        // 주문, 주문 아이템, 배달 정보가 하나의 batch 로 insert 되도록 설정
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.deliveryservice.config;
+
+import com.project.deliveryservice.domain.item.repository.ItemRepository;
+import com.project.deliveryservice.domain.item.service.MenuCache;
+import com.project.deliveryservice.domain.item.service.MenuEncoder;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import com.project.deliveryservice.utils.JsonUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class MenuCacheConfig {
+
+    @Bean
+    public MenuCache menuCache(ItemRepository itemRepository,
+                               ShopRepository shopRepository,
+                               JsonUtils jsonUtils,
+                               @Value("${menu-cache.gzip-min-bytes:1024}") int gzipMinBytes,
+                               @Value("${menu-cache.max-entries:10000}") int maxEntries,
+                               @Value("${menu-cache.ttl-seconds:300}") long ttlSeconds) {
+        return new MenuCache(itemRepository, shopRepository, new MenuEncoder(jsonUtils, gzipMinBytes),
+                maxEntries, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.deliveryservice.config;
+
+import com.project.deliveryservice.domain.order.service.InMemoryOrderEventPublisher;
+import com.project.deliveryservice.domain.order.service.OrderEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OrderEventConfig {
+
+    // 다른 OrderEventPublisher 빈이 등록되지 않은 경우 프로세스 내부 publisher 를 사용
+    @Bean
+    @ConditionalOnMissingBean(OrderEventPublisher.class)
+    public OrderEventPublisher orderEventPublisher() {
+        return new InMemoryOrderEventPublisher();
+    }
+}
@@ -1,10 +1,15 @@
 package com.project.deliveryservice.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deliveryservice.common.ratelimit.RateLimitSecurityConfig;
+import com.project.deliveryservice.common.ratelimit.RateLimiters;
 import com.project.deliveryservice.jwt.JwtAuthenticationProvider;
 import com.project.deliveryservice.jwt.JwtSecurityConfig;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,14 +30,24 @@ public class SecurityConfig {
 
     private final JwtAuthenticationProvider jwtAuthenticationProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final RateLimiters rateLimiters;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.csrf().disable()
                 // 요청 별 인증 필요 여부 혹은 권한 확인
                 .authorizeHttpRequests()
+                // 비동기 응답(CompletableFuture, StreamingResponseBody, SSE)의 재디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // api/auth 로 시작하는 모든 경로는 권한 없이 수행 가능
                 .requestMatchers("/api/auth/**").permitAll()
+                // api/admin 으로 시작하는 모든 경로는 관리자만 수행 가능
+                .requestMatchers("/api/admin/**").hasRole(ROLE_ADMIN)
+                // 가게 측 주문 상태 변경은 가게 소유자 정보가 없으므로 관리자만 수행 가능
+                .requestMatchers(HttpMethod.PATCH, "/api/orders/status", "/api/orders/*/status").hasRole(ROLE_ADMIN)
+                // 가게 매출도 같은 이유로 관리자만 조회 가능
+                .requestMatchers("/api/shops/*/sales").hasRole(ROLE_ADMIN)
                 .anyRequest()
                 .hasAnyRole(ROLE_NORMAL, ROLE_VIP, ROLE_ADMIN)
                 // h2-console 사용을 위한 설정
@@ -46,7 +61,10 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 // JWT 토큰 인증 필터 설정
                 .and()
-                .apply(new JwtSecurityConfig(authenticationManager()));
+                .apply(new JwtSecurityConfig(authenticationManager()))
+                // 사용자 혹은 IP 별 요청 수 제한 필터 설정
+                .and()
+                .apply(new RateLimitSecurityConfig(rateLimiters, objectMapper));
 
         return http.build();
     }
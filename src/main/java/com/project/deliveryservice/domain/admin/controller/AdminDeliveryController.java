@@ -0,0 +1,31 @@
+package com.project.deliveryservice.domain.admin.controller;
+
+import com.project.deliveryservice.domain.delivery.dto.BulkDeliveryStateRequest;
+import com.project.deliveryservice.domain.delivery.dto.DeliveryStateResult;
+import com.project.deliveryservice.domain.delivery.service.DeliveryStateService;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+/**
+ * 기사 앱 게이트웨이가 호출하는 배달 수령, 완료, 배차 취소 API
+ */
+@RestController
+@RequestMapping("/api/admin/deliveries")
+@RequiredArgsConstructor
+public class AdminDeliveryController {
+
+    private final DeliveryStateService deliveryStateService;
+
+    // 여러 배달을 하나의 update 문으로 변경, 조건을 만족하지 않는 배달은 skippedDeliveryIds 로 응답
+    @PatchMapping("/state")
+    public ApiResponse<DeliveryStateResult> changeStateInBulk(@Valid @RequestBody BulkDeliveryStateRequest request) {
+        return success(deliveryStateService.changeStateInBulk(request.getDeliveryIds(), request.getTransition()));
+    }
+}
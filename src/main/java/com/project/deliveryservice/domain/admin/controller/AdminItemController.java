@@ -0,0 +1,34 @@
+package com.project.deliveryservice.domain.admin.controller;
+
+import com.project.deliveryservice.domain.item.dto.ItemRequest;
+import com.project.deliveryservice.domain.item.dto.MenuItemInfo;
+import com.project.deliveryservice.domain.item.service.ItemService;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminItemController {
+
+    private final ItemService itemService;
+
+    @PostMapping("/shops/{shopId}/items")
+    public ResponseEntity<ApiResponse<MenuItemInfo>> createItem(@PathVariable long shopId,
+                                                                @Valid @RequestBody ItemRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(success(itemService.createItem(shopId, request)));
+    }
+
+    @PatchMapping("/items/{itemId}")
+    public ApiResponse<MenuItemInfo> updateItem(@PathVariable long itemId,
+                                                @Valid @RequestBody ItemRequest request) {
+        return success(itemService.updateItem(itemId, request));
+    }
+}
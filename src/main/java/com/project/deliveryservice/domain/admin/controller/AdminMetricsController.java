@@ -0,0 +1,60 @@
+package com.project.deliveryservice.domain.admin.controller;
+
+import com.project.deliveryservice.common.ratelimit.RateLimitStats;
+import com.project.deliveryservice.common.ratelimit.RateLimiters;
+import com.project.deliveryservice.domain.delivery.dto.DispatchStats;
+import com.project.deliveryservice.domain.delivery.dto.RiderLocationStats;
+import com.project.deliveryservice.domain.delivery.dto.TrackingStats;
+import com.project.deliveryservice.domain.delivery.service.DeliveryTrackingHub;
+import com.project.deliveryservice.domain.delivery.service.DispatchService;
+import com.project.deliveryservice.domain.delivery.service.RiderLocationIngestor;
+import com.project.deliveryservice.domain.order.dto.OrderIntakeStats;
+import com.project.deliveryservice.domain.order.service.OrderGroupCommitWriter;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+public class AdminMetricsController {
+
+    private final Optional<OrderGroupCommitWriter> groupCommitWriter;
+    private final RateLimiters rateLimiters;
+    private final DispatchService dispatchService;
+    private final RiderLocationIngestor riderLocationIngestor;
+    private final DeliveryTrackingHub deliveryTrackingHub;
+
+    // group commit 이 비활성화되어 있으면 data 는 null
+    @GetMapping("/order-intake")
+    public ApiResponse<OrderIntakeStats> orderIntake() {
+        return success(groupCommitWriter.map(OrderGroupCommitWriter::getStats).orElse(null));
+    }
+
+    @GetMapping("/rate-limit")
+    public ApiResponse<List<RateLimitStats>> rateLimit() {
+        return success(rateLimiters.getStats());
+    }
+
+    @GetMapping("/dispatch")
+    public ApiResponse<DispatchStats> dispatch() {
+        return success(dispatchService.getStats());
+    }
+
+    @GetMapping("/rider-locations")
+    public ApiResponse<RiderLocationStats> riderLocations() {
+        return success(riderLocationIngestor.getStats());
+    }
+
+    @GetMapping("/delivery-tracking")
+    public ApiResponse<TrackingStats> deliveryTracking() {
+        return success(deliveryTrackingHub.getStats());
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.deliveryservice.domain.admin.controller;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.order.dto.OrderImportResult;
+import com.project.deliveryservice.domain.order.service.OrderExportFormat;
+import com.project.deliveryservice.domain.order.service.OrderExportService;
+import com.project.deliveryservice.domain.order.service.OrderImportService;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+@RestController
+@RequestMapping("/api/admin/orders")
+@RequiredArgsConstructor
+public class AdminOrderController {
+
+    private final OrderExportService orderExportService;
+    private final OrderImportService orderImportService;
+
+    // 응답 본문은 요청 스레드가 아닌 MVC 비동기 스레드에서 스트리밍됨
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        OrderExportFormat exportFormat = OrderExportFormat.of(format);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException(ErrorMsg.INVALID_EXPORT_RANGE);
+        }
+
+        String filename = "orders-" + from + "-" + to + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(outputStream -> orderExportService.export(from, to, exportFormat, outputStream));
+    }
+
+    // 파트너 POS 의 일괄 주문 등록, 한 줄에 하나의 OrderImportRequest
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/json"})
+    public ApiResponse<OrderImportResult> importOrders(InputStream body) throws IOException {
+        return success(orderImportService.importOrders(body));
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.deliveryservice.domain.admin.controller;
+
+import com.project.deliveryservice.domain.delivery.dto.RiderAvailabilityRequest;
+import com.project.deliveryservice.domain.delivery.dto.RiderLocation;
+import com.project.deliveryservice.domain.delivery.dto.RiderPing;
+import com.project.deliveryservice.domain.delivery.dto.RiderPingRequest;
+import com.project.deliveryservice.domain.delivery.dto.RiderPingResult;
+import com.project.deliveryservice.domain.delivery.service.RiderLocationIngestor;
+import com.project.deliveryservice.domain.delivery.service.RiderLocationStore;
+import com.project.deliveryservice.domain.delivery.service.RiderPool;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+/**
+ * 기사 앱 게이트웨이가 호출하는 배차 가능 여부, 위치 보고 API
+ */
+@RestController
+@RequestMapping("/api/admin/riders")
+@RequiredArgsConstructor
+public class AdminRiderController {
+
+    private final RiderPool riderPool;
+    private final RiderLocationIngestor locationIngestor;
+    private final RiderLocationStore locationStore;
+
+    // 배차 가능 상태와 현재 위치를 알림, 이후 위치는 /locations 로 보고
+    @PutMapping("/{riderId}/availability")
+    public ApiResponse<Void> available(@PathVariable long riderId,
+                                       @Valid @RequestBody RiderAvailabilityRequest request) {
+        riderPool.available(riderId, request.getLatitude(), request.getLongitude());
+        locationIngestor.ingest(List.of(new RiderPing(riderId, request.getLatitude(), request.getLongitude(), null)));
+        return success(null);
+    }
+
+    @DeleteMapping("/{riderId}/availability")
+    public ApiResponse<Void> unavailable(@PathVariable long riderId) {
+        riderPool.unavailable(riderId);
+        return success(null);
+    }
+
+    // 게이트웨이가 여러 기사의 위치 보고를 모아서 전달
+    @PostMapping("/locations")
+    public ApiResponse<RiderPingResult> reportLocations(@Valid @RequestBody RiderPingRequest request) {
+        return success(locationIngestor.ingest(request.getPings()));
+    }
+
+    @GetMapping("/{riderId}/location")
+    public ApiResponse<RiderLocation> getLocation(@PathVariable long riderId) {
+        return success(locationStore.getLatest(riderId));
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.deliveryservice.domain.admin.controller;
+
+import com.project.deliveryservice.domain.sales.dto.SalesReconcileResult;
+import com.project.deliveryservice.domain.sales.service.SalesReconciliationService;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+@RestController
+@RequestMapping("/api/admin/sales")
+@RequiredArgsConstructor
+public class AdminSalesController {
+
+    private final SalesReconciliationService salesReconciliationService;
+
+    @PostMapping("/reconcile")
+    public ApiResponse<SalesReconcileResult> reconcile(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return success(salesReconciliationService.reconcile(from, to));
+    }
+}
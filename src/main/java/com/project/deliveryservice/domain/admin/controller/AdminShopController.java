@@ -0,0 +1,32 @@
+package com.project.deliveryservice.domain.admin.controller;
+
+import com.project.deliveryservice.domain.shop.dto.ShopAddressRequest;
+import com.project.deliveryservice.domain.shop.dto.ShopHoursRequest;
+import com.project.deliveryservice.domain.shop.dto.ShopInfo;
+import com.project.deliveryservice.domain.shop.service.ShopService;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+@RestController
+@RequestMapping("/api/admin/shops")
+@RequiredArgsConstructor
+public class AdminShopController {
+
+    private final ShopService shopService;
+
+    @PatchMapping("/{shopId}/hours")
+    public ApiResponse<ShopInfo> changeBusinessHours(@PathVariable long shopId,
+                                                     @Valid @RequestBody ShopHoursRequest request) {
+        return success(shopService.changeBusinessHours(shopId, request));
+    }
+
+    @PatchMapping("/{shopId}/address")
+    public ApiResponse<ShopInfo> changeAddress(@PathVariable long shopId,
+                                               @Valid @RequestBody ShopAddressRequest request) {
+        return success(shopService.changeAddress(shopId, request));
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.deliveryservice.domain.delivery.controller;
+
+import com.project.deliveryservice.domain.delivery.service.DeliveryTrackingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+public class DeliveryTrackingController {
+
+    private final DeliveryTrackingService deliveryTrackingService;
+
+    // 배정, 픽업, 완료와 기사 위치를 "tracking" 이벤트로 보냄, 완료 혹은 취소되면 스트림이 닫힘
+    @GetMapping(value = "/{orderId}/tracking", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter track(@AuthenticationPrincipal String email, @PathVariable long orderId) {
+        return deliveryTrackingService.subscribe(email, orderId);
+    }
+}
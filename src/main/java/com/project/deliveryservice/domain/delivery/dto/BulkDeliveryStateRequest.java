@@ -0,0 +1,25 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import com.project.deliveryservice.domain.delivery.entity.DeliveryTransition;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class BulkDeliveryStateRequest {
+
+    // 상태를 변경할 배달 아이디 목록
+    @NotEmpty
+    @Size(max = 1000)
+    private List<Long> deliveryIds;
+
+    @NotNull
+    private DeliveryTransition transition;
+}
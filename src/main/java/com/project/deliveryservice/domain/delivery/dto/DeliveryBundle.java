@@ -0,0 +1,31 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 한 기사에게 함께 배정하는 같은 가게의 배달 묶음
+ */
+@Getter
+@AllArgsConstructor
+public class DeliveryBundle {
+
+    private Long shopId;
+
+    // 픽업 위치 (가게 좌표)
+    private double latitude;
+
+    private double longitude;
+
+    // 묶음에서 가장 오래 기다린 주문의 주문 시각
+    private LocalDateTime orderedAt;
+
+    // 배달 순서대로 정렬된 배달
+    private List<PendingDelivery> drops;
+
+    // 가게에서 마지막 배달지까지의 예상 이동 시간
+    private float routeMinutes;
+}
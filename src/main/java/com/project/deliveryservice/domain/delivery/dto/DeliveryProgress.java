@@ -0,0 +1,51 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달 추적 구독 시점의 주문, 배달 상태 projection
+ */
+@Getter
+@AllArgsConstructor
+public class DeliveryProgress {
+
+    private Long orderId;
+
+    private OrderStatus orderStatus;
+
+    private Long riderId;
+
+    private LocalDateTime allocatedAt;
+
+    private LocalDateTime pickupedAt;
+
+    private LocalDateTime completedAt;
+
+    // 도착 예정 시각 계산용
+    private Long shopId;
+
+    private String shopZipcode;
+
+    private String deliveryZipcode;
+
+    private LocalDateTime orderedAt;
+
+    public TrackingStatus getTrackingStatus() {
+        if (orderStatus == OrderStatus.CANCELED) {
+            return TrackingStatus.CANCELED;
+        }
+        // 환불은 배달이 끝난 주문에만 요청할 수 있음
+        if (completedAt != null || orderStatus == OrderStatus.COMPLETED
+                || orderStatus == OrderStatus.REFUND_REQUESTED || orderStatus == OrderStatus.REFUND_COMPLETED) {
+            return TrackingStatus.COMPLETED;
+        }
+        if (pickupedAt != null) {
+            return TrackingStatus.PICKED_UP;
+        }
+        return allocatedAt != null ? TrackingStatus.ALLOCATED : TrackingStatus.WAITING;
+    }
+}
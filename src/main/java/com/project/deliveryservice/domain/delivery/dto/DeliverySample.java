@@ -0,0 +1,28 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도착 예정 시각 통계용 완료된 배달 projection
+ */
+@Getter
+@AllArgsConstructor
+public class DeliverySample {
+
+    private Long deliveryId;
+
+    private Long shopId;
+
+    private String shopZipcode;
+
+    private String deliveryZipcode;
+
+    private LocalDateTime orderedAt;
+
+    private LocalDateTime pickupedAt;
+
+    private LocalDateTime completedAt;
+}
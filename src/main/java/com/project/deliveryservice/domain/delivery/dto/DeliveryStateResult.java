@@ -0,0 +1,22 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import com.project.deliveryservice.domain.delivery.entity.DeliveryTransition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class DeliveryStateResult {
+
+    private DeliveryTransition transition;
+
+    // 상태가 변경된 배달 아이디 목록
+    private List<Long> changedDeliveryIds;
+
+    // 전이 조건을 만족하지 않아 변경되지 않은 배달 아이디 목록
+    private List<Long> skippedDeliveryIds;
+}
@@ -0,0 +1,16 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DispatchAssignment {
+
+    private long deliveryId;
+
+    private long riderId;
+
+    // 기사 위치에서 가게까지의 직선 거리
+    private double pickupDistanceKm;
+}
@@ -0,0 +1,35 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class DispatchStats {
+
+    // 배차 대기 중인 배달 수
+    private int pendingDeliveries;
+
+    // 배차 가능한 기사 수
+    private int availableRiders;
+
+    // 누적 배차 라운드 수
+    private long rounds;
+
+    // 누적 배정 수
+    private long assignments;
+
+    // 배달 둘 이상의 묶음으로 배정된 누적 배정 수
+    private long bundledAssignments;
+
+    // 다른 요청이 먼저 배정하거나 취소되어 반영되지 않은 누적 배정 수
+    private long conflicts;
+
+    // 누적 평균 픽업 거리
+    private double averagePickupDistanceKm;
+
+    // 마지막 라운드 소요 시간
+    private long lastRoundMillis;
+}
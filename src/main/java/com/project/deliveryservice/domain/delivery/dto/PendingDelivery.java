@@ -0,0 +1,32 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배차 대기 중인 배달, 픽업 위치는 가게 좌표
+ */
+@Getter
+@AllArgsConstructor
+public class PendingDelivery {
+
+    private Long deliveryId;
+
+    private Long orderId;
+
+    private Long shopId;
+
+    private double latitude;
+
+    private double longitude;
+
+    // 주문 시각, 오래 기다린 배달일수록 먼저 배정되도록 비용을 낮춤
+    private LocalDateTime orderedAt;
+
+    // 묶음 배달의 경로 계산용
+    private String shopZipcode;
+
+    private String deliveryZipcode;
+}
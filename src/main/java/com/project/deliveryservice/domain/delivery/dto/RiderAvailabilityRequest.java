@@ -0,0 +1,24 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RiderAvailabilityRequest {
+
+    @NotNull
+    @DecimalMin("-90")
+    @DecimalMax("90")
+    private Double latitude;
+
+    @NotNull
+    @DecimalMin("-180")
+    @DecimalMax("180")
+    private Double longitude;
+}
@@ -0,0 +1,18 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RiderLocation {
+
+    private long riderId;
+
+    private double latitude;
+
+    private double longitude;
+
+    // 기사 단말에서 측정한 시각 (epoch millis)
+    private long recordedAt;
+}
@@ -0,0 +1,31 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RiderLocationStats {
+
+    // 버퍼에 쌓여 아직 반영되지 않은 위치 수
+    private int bufferDepth;
+
+    private int bufferCapacity;
+
+    // 최신 위치가 저장된 기사 수
+    private int riders;
+
+    // 누적 수신 위치 수
+    private long accepted;
+
+    // 버퍼가 가득 차 버려진 누적 위치 수
+    private long dropped;
+
+    // 더 최근 위치가 이미 있어 무시된 누적 위치 수
+    private long stale;
+
+    // 이력 파일에 기록된 누적 위치 수
+    private long historyRecords;
+}
@@ -0,0 +1,30 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RiderPing {
+
+    @NotNull
+    private Long riderId;
+
+    @NotNull
+    @DecimalMin("-90")
+    @DecimalMax("90")
+    private Double latitude;
+
+    @NotNull
+    @DecimalMin("-180")
+    @DecimalMax("180")
+    private Double longitude;
+
+    // 기사 단말에서 측정한 시각 (epoch millis), 없으면 수신 시각
+    private Long recordedAt;
+}
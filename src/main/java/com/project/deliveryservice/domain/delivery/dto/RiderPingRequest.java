@@ -0,0 +1,21 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RiderPingRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = 1000)
+    private List<RiderPing> pings;
+}
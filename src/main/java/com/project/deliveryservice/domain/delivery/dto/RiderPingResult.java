@@ -0,0 +1,14 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RiderPingResult {
+
+    private int accepted;
+
+    // 버퍼가 가득 차 버려진 위치 수, 다음 보고로 대체되므로 재전송하지 않아도 됨
+    private int dropped;
+}
@@ -0,0 +1,46 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달 추적 스트림으로 보내는 주문의 최신 배달 상태
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class TrackingEvent {
+
+    private long orderId;
+
+    private TrackingStatus status;
+
+    // 배정 전이면 null
+    private Long riderId;
+
+    // 기사의 최신 위치, 수집된 위치가 없으면 null
+    private Double riderLatitude;
+
+    private Double riderLongitude;
+
+    // 기사 위치의 측정 시각 (epoch millis)
+    private Long positionRecordedAt;
+
+    // 도착 예정 시각, 끝난 배달은 null
+    private LocalDateTime estimatedArrivalAt;
+
+    private LocalDateTime updatedAt;
+
+    public static TrackingEvent of(DeliveryProgress progress, LocalDateTime estimatedArrivalAt) {
+        return TrackingEvent.builder()
+                .orderId(progress.getOrderId())
+                .status(progress.getTrackingStatus())
+                .riderId(progress.getRiderId())
+                .estimatedArrivalAt(estimatedArrivalAt)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class TrackingStats {
+
+    // 열려 있는 스트림 수
+    private int subscribers;
+
+    // 구독자가 있는 주문 수
+    private int trackedOrders;
+
+    // 누적 push 수 (주문 단위)
+    private long pushes;
+
+    // 이전 push 를 쓰는 중이라 다음 주기로 미룬 누적 횟수
+    private long deferredPushes;
+}
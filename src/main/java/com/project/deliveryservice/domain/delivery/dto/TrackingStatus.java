@@ -0,0 +1,14 @@
+package com.project.deliveryservice.domain.delivery.dto;
+
+public enum TrackingStatus {
+    // 기사 배정 대기
+    WAITING,
+    ALLOCATED,
+    PICKED_UP,
+    COMPLETED,
+    CANCELED;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == CANCELED;
+    }
+}
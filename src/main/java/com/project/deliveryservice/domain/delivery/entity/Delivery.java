@@ -2,6 +2,7 @@ package com.project.deliveryservice.domain.delivery.entity;
 
 import com.project.deliveryservice.common.entity.Address;
 import com.project.deliveryservice.common.entity.BaseTimeEntity;
+import com.project.deliveryservice.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,16 +13,24 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_delivery_rider", columnList = "rider_id"),
+        @Index(name = "idx_delivery_completed", columnList = "completedAt, id")
+})
 public class Delivery extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Embedded
     @Column(nullable = false)
     private Address address;
 
+    // 배정된 배달 기사, 배차 엔진이 일괄 update 로만 변경
+    @Column(name = "rider_id")
+    private Long riderId;
+
     // 배달 기사 배정 시각
     private LocalDateTime allocatedAt;
 
@@ -0,0 +1,37 @@
+package com.project.deliveryservice.domain.delivery.entity;
+
+/**
+ * 배달 상태 전이, 전이마다 기록하는 시각 컬럼과 전이할 수 있는 조건
+ */
+public enum DeliveryTransition {
+    // 배정된 배달을 가게에서 수령
+    PICKUP("pickupedAt", "d.allocatedAt is not null and d.pickupedAt is null and d.canceledAt is null", false),
+    // 수령한 배달을 배달 완료
+    COMPLETE("completedAt", "d.pickupedAt is not null and d.completedAt is null and d.canceledAt is null", true),
+    // 수령 전의 배달을 배차 취소
+    CANCEL("canceledAt", "d.pickupedAt is null and d.canceledAt is null", true);
+
+    private final String timestampField;
+    private final String condition;
+    // 전이 후 배정된 기사가 이 배달에서 풀려나는지 여부
+    private final boolean releasesRider;
+
+    DeliveryTransition(String timestampField, String condition, boolean releasesRider) {
+        this.timestampField = timestampField;
+        this.condition = condition;
+        this.releasesRider = releasesRider;
+    }
+
+    public String getTimestampField() {
+        return timestampField;
+    }
+
+    // JPQL 조건, 배달의 alias 는 d
+    public String getCondition() {
+        return condition;
+    }
+
+    public boolean releasesRider() {
+        return releasesRider;
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.deliveryservice.domain.delivery.event;
+
+import com.project.deliveryservice.domain.delivery.entity.DeliveryTransition;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배달 상태가 변경된 트랜잭션 안에서 발행되는 애플리케이션 이벤트
+ * 커밋 이후에 처리되어야 하는 리스너는 @TransactionalEventListener 로 구독한다.
+ */
+@Getter
+@AllArgsConstructor
+public class DeliveryStateChangedEvent {
+
+    // 상태가 변경된 배달의 주문 아이디 목록
+    private List<Long> orderIds;
+
+    private DeliveryTransition transition;
+
+    // 상태 변경 시각, 전이별 시각 컬럼과 같은 값
+    private LocalDateTime changedAt;
+
+    // 이번 변경으로 진행 중인 배달이 없어진 기사 아이디 목록
+    private List<Long> releasedRiderIds;
+}
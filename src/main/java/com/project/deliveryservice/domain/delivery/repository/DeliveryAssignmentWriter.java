@@ -0,0 +1,80 @@
+package com.project.deliveryservice.domain.delivery.repository;
+
+import com.project.deliveryservice.domain.delivery.dto.DispatchAssignment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 라운드의 배정을 하나의 JDBC batch update 로 반영한다.
+ * 드라이버가 반영된 row 수를 알려주지 않는 경우 (SUCCESS_NO_INFO) 같은 트랜잭션에서 배정 결과를 다시 읽어 확인한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeliveryAssignmentWriter {
+
+    private static final String ASSIGN_SQL = "update delivery set rider_id = ?, allocated_at = ?, updated_at = ?"
+            + " where id = ? and allocated_at is null and canceled_at is null";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 배정마다 반영 여부, 이미 배정되었거나 취소된 배달은 false
+     */
+    @Transactional
+    public boolean[] assign(List<DispatchAssignment> assignments, LocalDateTime allocatedAt) {
+        // 다시 읽을 때 컬럼 정밀도(마이크로초)로 저장된 값과 비교할 수 있도록 맞춤
+        Timestamp timestamp = Timestamp.valueOf(allocatedAt.truncatedTo(ChronoUnit.MICROS));
+        int[][] counts = jdbcTemplate.batchUpdate(ASSIGN_SQL, assignments, assignments.size(), (ps, assignment) -> {
+            ps.setLong(1, assignment.getRiderId());
+            ps.setTimestamp(2, timestamp);
+            ps.setTimestamp(3, timestamp);
+            ps.setLong(4, assignment.getDeliveryId());
+        });
+
+        boolean[] applied = new boolean[assignments.size()];
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == Statement.SUCCESS_NO_INFO) {
+                    return readApplied(assignments, timestamp);
+                }
+                applied[index++] = count > 0;
+            }
+        }
+        return applied;
+    }
+
+    // 이번 배정 시각으로 해당 라이더에게 배정된 배달만 반영된 것으로 봄
+    private boolean[] readApplied(List<DispatchAssignment> assignments, Timestamp timestamp) {
+        Object[] args = new Object[assignments.size() + 1];
+        args[0] = timestamp;
+        for (int i = 0; i < assignments.size(); i++) {
+            args[i + 1] = assignments.get(i).getDeliveryId();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(assignments.size(), "?"));
+
+        Map<Long, Long> riderIds = new HashMap<>();
+        jdbcTemplate.query("select id, rider_id from delivery where allocated_at = ? and id in (" + placeholders + ")",
+                rs -> {
+                    riderIds.put(rs.getLong(1), rs.getLong(2));
+                }, args);
+
+        boolean[] applied = new boolean[assignments.size()];
+        for (int i = 0; i < assignments.size(); i++) {
+            Long riderId = riderIds.get(assignments.get(i).getDeliveryId());
+            applied[i] = riderId != null && riderId == assignments.get(i).getRiderId();
+        }
+        return applied;
+    }
+}
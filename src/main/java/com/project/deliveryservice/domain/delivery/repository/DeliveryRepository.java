@@ -1,7 +1,66 @@
 package com.project.deliveryservice.domain.delivery.repository;
 
+import com.project.deliveryservice.domain.delivery.dto.DeliveryProgress;
+import com.project.deliveryservice.domain.delivery.dto.DeliverySample;
+import com.project.deliveryservice.domain.delivery.dto.PendingDelivery;
 import com.project.deliveryservice.domain.delivery.entity.Delivery;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface DeliveryRepository extends JpaRepository<Delivery, Long>, DeliveryRepositoryCustom {
+
+    /**
+     * 처리 중이면서 아직 기사가 배정되지 않은 주문의 배달, 좌표가 없는 가게의 주문은 제외
+     */
+    @Query("select new com.project.deliveryservice.domain.delivery.dto.PendingDelivery(d.id, o.id, s.id, s.location.latitude, s.location.longitude, o.createdAt," +
+            " s.address.zipcode, d.address.zipcode)" +
+            " from Order o join o.delivery d join o.shop s" +
+            " where o.status = com.project.deliveryservice.domain.order.entity.OrderStatus.PROGRESS" +
+            " and d.allocatedAt is null and d.canceledAt is null" +
+            " and s.location.latitude is not null")
+    List<PendingDelivery> findAllPending();
+
+    @Query("select new com.project.deliveryservice.domain.delivery.dto.PendingDelivery(d.id, o.id, s.id, s.location.latitude, s.location.longitude, o.createdAt," +
+            " s.address.zipcode, d.address.zipcode)" +
+            " from Order o join o.delivery d join o.shop s" +
+            " where o.id in :orderIds" +
+            " and d.allocatedAt is null and d.canceledAt is null" +
+            " and s.location.latitude is not null")
+    List<PendingDelivery> findPendingByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("select new com.project.deliveryservice.domain.delivery.dto.DeliveryProgress(o.id, o.status, d.riderId, d.allocatedAt, d.pickupedAt, d.completedAt," +
+            " s.id, s.address.zipcode, d.address.zipcode, o.createdAt)" +
+            " from Order o join o.delivery d left join o.shop s" +
+            " where o.id = :orderId and o.user.id = :userId")
+    Optional<DeliveryProgress> findProgressByOrderIdAndUserId(@Param("orderId") Long orderId, @Param("userId") Long userId);
+
+    // (completedAt, id) 커서 이후에 완료된 배달을 완료 순으로 조회
+    @Query("select new com.project.deliveryservice.domain.delivery.dto.DeliverySample(" +
+            "d.id, s.id, s.address.zipcode, d.address.zipcode, o.createdAt, d.pickupedAt, d.completedAt)" +
+            " from Order o join o.delivery d join o.shop s" +
+            " where d.pickupedAt is not null and d.completedAt is not null" +
+            " and (d.completedAt > :completedAt or (d.completedAt = :completedAt and d.id > :id))" +
+            " order by d.completedAt, d.id")
+    List<DeliverySample> findSamplesCompletedAfter(@Param("completedAt") LocalDateTime completedAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @Query("select o.id from Order o where o.delivery.id in :deliveryIds")
+    List<Long> findOrderIdsByDeliveryIds(@Param("deliveryIds") Collection<Long> deliveryIds);
+
+    /**
+     * 배달들의 기사 중 완료되거나 취소되지 않은 다른 배달이 없는 기사, 묶음 배달 중인 기사는 마지막 배달을 마쳐야 포함됨
+     */
+    @Query("select distinct d.riderId from Delivery d" +
+            " where d.id in :deliveryIds and d.riderId is not null" +
+            " and not exists (select 1 from Delivery other" +
+            "   where other.riderId = d.riderId and other.completedAt is null and other.canceledAt is null)")
+    List<Long> findIdleRiderIdsByDeliveryIds(@Param("deliveryIds") Collection<Long> deliveryIds);
 }
@@ -0,0 +1,17 @@
+package com.project.deliveryservice.domain.delivery.repository;
+
+import com.project.deliveryservice.domain.delivery.entity.DeliveryTransition;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DeliveryRepositoryCustom {
+
+    /**
+     * 배달들 중 전이 조건을 만족하는 배달의 시각 컬럼을 하나의 update 문으로 기록한다.
+     *
+     * @return 실제로 상태가 변경된 배달 아이디 목록
+     */
+    List<Long> updateStateInBulk(Collection<Long> deliveryIds, DeliveryTransition transition, LocalDateTime now);
+}
@@ -0,0 +1,36 @@
+package com.project.deliveryservice.domain.delivery.repository;
+
+import com.project.deliveryservice.domain.delivery.entity.DeliveryTransition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class DeliveryRepositoryCustomImpl implements DeliveryRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> updateStateInBulk(Collection<Long> deliveryIds, DeliveryTransition transition, LocalDateTime now) {
+        // 전이할 배달을 select ... for update 로 잠가 두고 잠근 배달만 변경하므로, 잠근 배달이 곧 이번 update 로 변경된 배달
+        List<Long> lockedDeliveryIds = entityManager.createQuery("select d.id from Delivery d"
+                        + " where d.id in :deliveryIds and " + transition.getCondition(), Long.class)
+                .setParameter("deliveryIds", deliveryIds)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (lockedDeliveryIds.isEmpty()) {
+            return List.of();
+        }
+
+        entityManager.createQuery("update Delivery d set d." + transition.getTimestampField() + " = :now, d.updatedAt = :now"
+                        + " where d.id in :deliveryIds")
+                .setParameter("now", now)
+                .setParameter("deliveryIds", lockedDeliveryIds)
+                .executeUpdate();
+        return lockedDeliveryIds;
+    }
+}
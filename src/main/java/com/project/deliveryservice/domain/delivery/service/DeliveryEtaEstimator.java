@@ -0,0 +1,153 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.domain.delivery.dto.DeliverySample;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도착 예정 시각 추정
+ * 가게별 평균 조리 시간(주문 생성 → 수령)과 zone 간 평균 이동 시간(수령 → 완료)을 더한다.
+ * 통계는 완료된 배달을 (completedAt, id) 커서 이후부터 이어 읽어 갱신하며, 갱신은 스케줄러 스레드 하나만 한다.
+ */
+@Slf4j
+@Component
+public class DeliveryEtaEstimator {
+
+    // 이 시간을 넘는 표본은 미처리 완료 등 잘못 기록된 값으로 보고 버림
+    private static final long MAX_SAMPLE_SECONDS = Duration.ofHours(3).toSeconds();
+
+    private final DeliveryRepository deliveryRepository;
+    private final int chunkSize;
+    private final int maxSamples;
+    private final float defaultPrepMinutes;
+    private final TravelTimeMatrix travelTimes;
+
+    // 갱신 스레드 전용 가게별 {평균 조리 시간, 표본 수}
+    private final Map<Long, float[]> prepStats = new HashMap<>();
+
+    // 조회용 스냅샷, 갱신이 끝날 때마다 교체
+    private volatile PrepTimes prepTimes = new PrepTimes(new long[0], new float[0]);
+
+    private LocalDateTime cursorCompletedAt;
+    private long cursorId;
+
+    public DeliveryEtaEstimator(DeliveryRepository deliveryRepository,
+                                @Value("${eta.history-days:28}") int historyDays,
+                                @Value("${eta.refresh-chunk-size:5000}") int chunkSize,
+                                @Value("${eta.max-samples-per-cell:200}") int maxSamples,
+                                @Value("${eta.default-travel-minutes:20}") float defaultTravelMinutes,
+                                @Value("${eta.default-prep-minutes:15}") float defaultPrepMinutes) {
+        this.deliveryRepository = deliveryRepository;
+        this.chunkSize = chunkSize;
+        this.maxSamples = maxSamples;
+        this.defaultPrepMinutes = defaultPrepMinutes;
+        this.travelTimes = new TravelTimeMatrix(maxSamples, defaultTravelMinutes);
+        this.cursorCompletedAt = LocalDateTime.now().minusDays(historyDays);
+    }
+
+    /**
+     * 마지막 갱신 이후 완료된 배달을 통계에 반영
+     *
+     * @return 반영한 배달 수
+     */
+    @Scheduled(fixedDelayString = "${eta.refresh-interval-ms:300000}")
+    public synchronized int refresh() {
+        int total = 0;
+        List<DeliverySample> chunk;
+        do {
+            chunk = deliveryRepository.findSamplesCompletedAfter(cursorCompletedAt, cursorId, PageRequest.of(0, chunkSize));
+            for (DeliverySample sample : chunk) {
+                apply(sample);
+            }
+            if (!chunk.isEmpty()) {
+                DeliverySample last = chunk.get(chunk.size() - 1);
+                cursorCompletedAt = last.getCompletedAt();
+                cursorId = last.getDeliveryId();
+            }
+            total += chunk.size();
+        } while (chunk.size() == chunkSize);
+
+        if (total > 0) {
+            prepTimes = PrepTimes.of(prepStats);
+            log.info("eta statistics refreshed. samples={}, shops={}, cursor={}", total, prepStats.size(), cursorCompletedAt);
+        }
+        return total;
+    }
+
+    /**
+     * 수령 전이면 조리 완료 예상 시각(이미 지났으면 현재)부터, 수령 후면 수령 시각부터 이동 시간을 더한다.
+     */
+    public LocalDateTime estimate(Long shopId, String shopZipcode, String deliveryZipcode,
+                                  LocalDateTime orderedAt, LocalDateTime pickupedAt) {
+        return estimate(shopId, shopZipcode, deliveryZipcode, orderedAt, pickupedAt, LocalDateTime.now());
+    }
+
+    LocalDateTime estimate(Long shopId, String shopZipcode, String deliveryZipcode,
+                           LocalDateTime orderedAt, LocalDateTime pickupedAt, LocalDateTime now) {
+        LocalDateTime departure = pickupedAt;
+        if (departure == null) {
+            LocalDateTime prepared = (orderedAt == null ? now : orderedAt).plusSeconds(toSeconds(prepMinutes(shopId)));
+            departure = prepared.isAfter(now) ? prepared : now;
+        }
+        return departure.plusSeconds(toSeconds(travelMinutes(shopZipcode, deliveryZipcode)));
+    }
+
+    public float prepMinutes(Long shopId) {
+        return shopId == null ? defaultPrepMinutes : prepTimes.get(shopId, defaultPrepMinutes);
+    }
+
+    public float travelMinutes(String shopZipcode, String deliveryZipcode) {
+        return travelTimes.minutes(TravelTimeMatrix.zoneOf(shopZipcode), TravelTimeMatrix.zoneOf(deliveryZipcode));
+    }
+
+    private void apply(DeliverySample sample) {
+        long travelSeconds = Duration.between(sample.getPickupedAt(), sample.getCompletedAt()).toSeconds();
+        if (travelSeconds >= 0 && travelSeconds <= MAX_SAMPLE_SECONDS) {
+            travelTimes.add(TravelTimeMatrix.zoneOf(sample.getShopZipcode()),
+                    TravelTimeMatrix.zoneOf(sample.getDeliveryZipcode()), travelSeconds / 60f);
+        }
+        if (sample.getShopId() == null || sample.getOrderedAt() == null) {
+            return;
+        }
+        long prepSeconds = Duration.between(sample.getOrderedAt(), sample.getPickupedAt()).toSeconds();
+        if (prepSeconds >= 0 && prepSeconds <= MAX_SAMPLE_SECONDS) {
+            float[] stat = prepStats.computeIfAbsent(sample.getShopId(), id -> new float[2]);
+            float minutes = prepSeconds / 60f;
+            stat[0] = stat[1] == 0 ? minutes : stat[0] + (minutes - stat[0]) / (stat[1] + 1);
+            stat[1] = Math.min(stat[1] + 1, maxSamples);
+        }
+    }
+
+    private long toSeconds(float minutes) {
+        return Math.round(minutes * 60);
+    }
+
+    // 가게 아이디 오름차순 배열과 평균 조리 시간, 이진 탐색으로 조회
+    private record PrepTimes(long[] shopIds, float[] minutes) {
+
+        static PrepTimes of(Map<Long, float[]> stats) {
+            long[] shopIds = stats.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            float[] minutes = new float[shopIds.length];
+            for (int i = 0; i < shopIds.length; i++) {
+                minutes[i] = stats.get(shopIds[i])[0];
+            }
+            return new PrepTimes(shopIds, minutes);
+        }
+
+        float get(long shopId, float defaultMinutes) {
+            int index = Arrays.binarySearch(shopIds, shopId);
+            return index < 0 ? defaultMinutes : minutes[index];
+        }
+    }
+}
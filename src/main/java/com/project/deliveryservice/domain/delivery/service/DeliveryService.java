@@ -3,14 +3,18 @@ package com.project.deliveryservice.domain.delivery.service;
 import com.project.deliveryservice.common.entity.Address;
 import com.project.deliveryservice.domain.delivery.entity.Delivery;
 import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import com.project.deliveryservice.domain.shop.entity.Shop;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class DeliveryService {
 
     private final DeliveryRepository deliveryRepository;
+    private final DeliveryEtaEstimator deliveryEtaEstimator;
 
     public Delivery createDelivery(String city, String street, String zipCode) {
         Address address = new Address(city, street, zipCode);
@@ -18,4 +22,18 @@ public class DeliveryService {
                 .address(address)
                 .build();
     }
+
+    /**
+     * 가게에서 배달지까지의 도착 예정 시각
+     *
+     * @param orderedAt 주문 생성 시각
+     */
+    public LocalDateTime estimateArrivalAt(Shop shop, Delivery delivery, LocalDateTime orderedAt) {
+        return deliveryEtaEstimator.estimate(
+                shop == null ? null : shop.getId(),
+                shop == null || shop.getAddress() == null ? null : shop.getAddress().getZipcode(),
+                delivery == null || delivery.getAddress() == null ? null : delivery.getAddress().getZipcode(),
+                orderedAt,
+                delivery == null ? null : delivery.getPickupedAt());
+    }
 }
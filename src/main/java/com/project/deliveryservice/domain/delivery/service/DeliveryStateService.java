@@ -0,0 +1,48 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.domain.delivery.dto.DeliveryStateResult;
+import com.project.deliveryservice.domain.delivery.entity.DeliveryTransition;
+import com.project.deliveryservice.domain.delivery.event.DeliveryStateChangedEvent;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class DeliveryStateService {
+
+    private final DeliveryRepository deliveryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 배달들 중 전이 조건을 만족하는 배달을 엔티티를 읽지 않고 하나의 update 문으로 변경한다.
+     * 이미 변경되었거나 조건을 만족하지 않는 배달은 건너뛴다.
+     * 완료나 취소로 진행 중인 배달이 없어진 기사는 이벤트에 담아 배차 풀로 돌려보낸다.
+     */
+    @Transactional
+    public DeliveryStateResult changeStateInBulk(List<Long> deliveryIds, DeliveryTransition transition) {
+        List<Long> distinctDeliveryIds = deliveryIds.stream().distinct().toList();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> changed = deliveryRepository.updateStateInBulk(distinctDeliveryIds, transition, now);
+        if (!changed.isEmpty()) {
+            List<Long> orderIds = deliveryRepository.findOrderIdsByDeliveryIds(changed);
+            List<Long> releasedRiderIds = transition.releasesRider()
+                    ? deliveryRepository.findIdleRiderIdsByDeliveryIds(changed)
+                    : List.of();
+            eventPublisher.publishEvent(new DeliveryStateChangedEvent(orderIds, transition, now, releasedRiderIds));
+        }
+
+        Set<Long> changedSet = new HashSet<>(changed);
+        List<Long> skipped = distinctDeliveryIds.stream()
+                .filter(deliveryId -> !changedSet.contains(deliveryId))
+                .toList();
+        return new DeliveryStateResult(transition, changed, skipped);
+    }
+}
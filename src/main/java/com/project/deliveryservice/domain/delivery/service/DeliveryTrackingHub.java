@@ -0,0 +1,321 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.common.exception.TooManyRequestsException;
+import com.project.deliveryservice.domain.delivery.dto.DeliveryProgress;
+import com.project.deliveryservice.domain.delivery.dto.TrackingEvent;
+import com.project.deliveryservice.domain.delivery.dto.TrackingStats;
+import com.project.deliveryservice.domain.delivery.dto.TrackingStatus;
+import com.project.deliveryservice.domain.delivery.entity.DeliveryTransition;
+import com.project.deliveryservice.domain.delivery.event.DeliveryStateChangedEvent;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.event.OrderStatusChangedEvent;
+import com.project.deliveryservice.utils.JsonUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 구독 중인 주문의 배달 상태를 메모리에 두고 SSE 구독자에게 보낸다.
+ * 상태 변경과 기사 위치 변경은 주문별 최신 이벤트 하나로 덮어쓰고, push-interval 마다 바뀐 주문만 한 번씩 보낸다.
+ * 연결은 servlet async 로 유지되어 스트림마다 스레드를 잡지 않고, 쓰기는 소수의 sender 스레드가 나누어 한다.
+ * 이전 push 를 아직 쓰고 있는 주문은 건너뛰고 다음 주기에 최신 이벤트로 보낸다.
+ */
+@Slf4j
+@Component
+public class DeliveryTrackingHub {
+
+    private final RiderLocationStore locationStore;
+    private final DeliveryEtaEstimator etaEstimator;
+    private final JsonUtils jsonUtils;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+    private final ExecutorService sender;
+
+    // 구독자가 있는 주문만 보관
+    private final Map<Long, Tracking> trackings = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    // flush 스레드만 사용
+    private final double[] position = new double[3];
+
+    private final LongAdder pushes = new LongAdder();
+    private final LongAdder deferredPushes = new LongAdder();
+
+    public DeliveryTrackingHub(
+            RiderLocationStore locationStore,
+            DeliveryEtaEstimator etaEstimator,
+            JsonUtils jsonUtils,
+            @Value("${delivery-tracking.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${delivery-tracking.max-subscribers:100000}") int maxSubscribers,
+            @Value("${delivery-tracking.sender-threads:4}") int senderThreads) {
+
+        this.locationStore = locationStore;
+        this.etaEstimator = etaEstimator;
+        this.jsonUtils = jsonUtils;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "delivery-tracking-sender-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdown();
+    }
+
+    /**
+     * 구독 직후 현재 상태를 한 번 보내고, 이후에는 바뀐 상태를 push-interval 마다 보낸다.
+     *
+     * @throws TooManyRequestsException 노드의 구독자 수가 max-subscribers 에 도달한 경우
+     */
+    public SseEmitter subscribe(DeliveryProgress progress) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new TooManyRequestsException(ErrorMsg.TOO_MANY_TRACKING_STREAMS);
+        }
+
+        SseEmitter emitter = createEmitter();
+        // 이미 구독 중인 주문이면 메모리의 상태가 더 최신
+        Tracking tracking = trackings.compute(progress.getOrderId(), (orderId, existing) -> {
+            Tracking target = existing != null ? existing : newTracking(progress);
+            target.emitters.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(tracking, emitter));
+        emitter.onTimeout(() -> unsubscribe(tracking, emitter));
+        emitter.onError(e -> unsubscribe(tracking, emitter));
+
+        TrackingEvent event = tracking.event;
+        try {
+            send(emitter, serialize(event), event.getStatus().isTerminal());
+        } catch (JsonProcessingException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public void onAllocated(long orderId, long riderId) {
+        update(orderId, TrackingStatus.ALLOCATED, riderId);
+    }
+
+    public void onPickedUp(Collection<Long> orderIds) {
+        orderIds.forEach(orderId -> update(orderId, TrackingStatus.PICKED_UP, null));
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        TrackingStatus status = event.getStatus() == OrderStatus.COMPLETED ? TrackingStatus.COMPLETED
+                : event.getStatus() == OrderStatus.CANCELED ? TrackingStatus.CANCELED
+                : null;
+        if (status != null) {
+            event.getOrderIds().forEach(orderId -> update(orderId, status, null));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDeliveryStateChanged(DeliveryStateChangedEvent event) {
+        if (event.getTransition() == DeliveryTransition.PICKUP) {
+            onPickedUp(event.getOrderIds());
+            return;
+        }
+        TrackingStatus status = event.getTransition() == DeliveryTransition.COMPLETE
+                ? TrackingStatus.COMPLETED : TrackingStatus.CANCELED;
+        event.getOrderIds().forEach(orderId -> update(orderId, status, null));
+    }
+
+    @Scheduled(fixedDelayString = "${delivery-tracking.push-interval-ms:1000}")
+    public void flush() {
+        for (Tracking tracking : trackings.values()) {
+            refreshPosition(tracking);
+            if (!tracking.dirty) {
+                continue;
+            }
+            if (!tracking.sending.compareAndSet(false, true)) {
+                deferredPushes.increment();
+                continue;
+            }
+            tracking.dirty = false;
+            TrackingEvent event = tracking.event;
+            if (event.getStatus().isTerminal()) {
+                // 끝난 주문은 마지막 이벤트를 보내고 스트림을 닫음, 이후 구독은 DB 에서 다시 읽음
+                trackings.remove(tracking.orderId, tracking);
+            }
+            pushes.increment();
+            sender.execute(() -> push(tracking, event));
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    public TrackingStats getStats() {
+        return TrackingStats.builder()
+                .subscribers(subscribers.get())
+                .trackedOrders(trackings.size())
+                .pushes(pushes.sum())
+                .deferredPushes(deferredPushes.sum())
+                .build();
+    }
+
+    private Tracking newTracking(DeliveryProgress progress) {
+        Tracking tracking = new Tracking(progress);
+        tracking.pickupedAt = progress.getPickupedAt();
+        tracking.event = TrackingEvent.of(progress, estimateArrivalAt(tracking, progress.getTrackingStatus()));
+        return tracking;
+    }
+
+    // 수령 전에는 조리 시간을 포함해, 수령 후에는 수령 시각부터 이동 시간만으로 계산
+    private LocalDateTime estimateArrivalAt(Tracking tracking, TrackingStatus status) {
+        if (status.isTerminal()) {
+            return null;
+        }
+        return etaEstimator.estimate(tracking.shopId, tracking.shopZipcode, tracking.deliveryZipcode,
+                tracking.orderedAt, tracking.pickupedAt);
+    }
+
+    private void update(long orderId, TrackingStatus status, Long riderId) {
+        Tracking tracking = trackings.get(orderId);
+        if (tracking == null) {
+            return;
+        }
+        synchronized (tracking) {
+            TrackingEvent current = tracking.event;
+            // 늦게 도착한 이전 단계의 변경은 무시
+            if (status.ordinal() <= current.getStatus().ordinal() || current.getStatus().isTerminal()) {
+                return;
+            }
+            if (status == TrackingStatus.PICKED_UP) {
+                tracking.pickupedAt = LocalDateTime.now();
+            }
+            tracking.event = TrackingEvent.builder()
+                    .orderId(orderId)
+                    .status(status)
+                    .riderId(riderId != null ? riderId : current.getRiderId())
+                    .riderLatitude(current.getRiderLatitude())
+                    .riderLongitude(current.getRiderLongitude())
+                    .positionRecordedAt(current.getPositionRecordedAt())
+                    .estimatedArrivalAt(estimateArrivalAt(tracking, status))
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            tracking.dirty = true;
+        }
+    }
+
+    private void refreshPosition(Tracking tracking) {
+        TrackingEvent current = tracking.event;
+        TrackingStatus status = current.getStatus();
+        if (current.getRiderId() == null || (status != TrackingStatus.ALLOCATED && status != TrackingStatus.PICKED_UP)) {
+            return;
+        }
+        if (!locationStore.copyLatest(current.getRiderId(), position)) {
+            return;
+        }
+        long recordedAt = (long) position[2];
+        if (current.getPositionRecordedAt() != null && recordedAt <= current.getPositionRecordedAt()) {
+            return;
+        }
+        synchronized (tracking) {
+            // 위치를 읽는 사이 상태가 바뀌었으면 다음 주기에 반영
+            if (tracking.event != current) {
+                return;
+            }
+            tracking.event = TrackingEvent.builder()
+                    .orderId(current.getOrderId())
+                    .status(status)
+                    .riderId(current.getRiderId())
+                    .riderLatitude(position[0])
+                    .riderLongitude(position[1])
+                    .positionRecordedAt(recordedAt)
+                    .estimatedArrivalAt(current.getEstimatedArrivalAt())
+                    .updatedAt(current.getUpdatedAt())
+                    .build();
+            tracking.dirty = true;
+        }
+    }
+
+    private void push(Tracking tracking, TrackingEvent event) {
+        try {
+            // 구독자 수와 관계 없이 한 번만 직렬화
+            String json = serialize(event);
+            for (SseEmitter emitter : tracking.emitters) {
+                send(emitter, json, event.getStatus().isTerminal());
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("failed to serialize tracking event of order {}", event.getOrderId(), e);
+        } finally {
+            tracking.sending.set(false);
+        }
+    }
+
+    private void send(SseEmitter emitter, String json, boolean last) {
+        try {
+            emitter.send(SseEmitter.event().name("tracking").data(json, MediaType.APPLICATION_JSON));
+            if (last) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자는 onError, onCompletion 콜백으로 정리됨
+            emitter.completeWithError(e);
+        }
+    }
+
+    private String serialize(TrackingEvent event) throws JsonProcessingException {
+        return jsonUtils.serialize(event);
+    }
+
+    private void unsubscribe(Tracking tracking, SseEmitter emitter) {
+        if (!tracking.emitters.remove(emitter)) {
+            return;
+        }
+        subscribers.decrementAndGet();
+        trackings.computeIfPresent(tracking.orderId,
+                (orderId, current) -> current == tracking && current.emitters.isEmpty() ? null : current);
+    }
+
+    private static class Tracking {
+
+        private final long orderId;
+        private final Long shopId;
+        private final String shopZipcode;
+        private final String deliveryZipcode;
+        private final LocalDateTime orderedAt;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile TrackingEvent event;
+        private volatile boolean dirty;
+        // 수령 시각, 상태 변경과 같은 락 안에서만 변경
+        private LocalDateTime pickupedAt;
+
+        private Tracking(DeliveryProgress progress) {
+            this.orderId = progress.getOrderId();
+            this.shopId = progress.getShopId();
+            this.shopZipcode = progress.getShopZipcode();
+            this.deliveryZipcode = progress.getDeliveryZipcode();
+            this.orderedAt = progress.getOrderedAt();
+        }
+    }
+}
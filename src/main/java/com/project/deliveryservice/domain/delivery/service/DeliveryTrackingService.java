@@ -0,0 +1,33 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.delivery.dto.DeliveryProgress;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import com.project.deliveryservice.domain.user.entity.User;
+import com.project.deliveryservice.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class DeliveryTrackingService {
+
+    private final DeliveryRepository deliveryRepository;
+    private final UserService userService;
+    private final DeliveryTrackingHub trackingHub;
+
+    /**
+     * 주문의 배달 상태를 구독 시점에 한 번만 조회하고, 이후 변경은 메모리의 이벤트로 받는다.
+     *
+     * @throws IllegalArgumentException 사용자의 주문이 존재하지 않는 경우
+     */
+    public SseEmitter subscribe(String email, long orderId) {
+        User user = userService.getUserOrThrowByEmail(email);
+        DeliveryProgress progress = deliveryRepository.findProgressByOrderIdAndUserId(orderId, user.getId())
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMsg.ORDER_NOT_EXIST));
+        return trackingHub.subscribe(progress);
+    }
+}
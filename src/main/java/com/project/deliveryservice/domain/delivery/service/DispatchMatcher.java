@@ -0,0 +1,139 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.utils.GeoUtils;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * 한 라운드의 배달과 기사를 전역 greedy 로 짝짓는다.
+ * 배달마다 픽업 반경 안의 가까운 기사 몇 명을 후보 쌍으로 만들어 비용 순으로 정렬한 뒤, 둘 다 비어 있는 쌍부터 배정한다.
+ * 비용은 픽업 거리에서 대기 시간만큼 뺀 값이라 오래 기다린 배달이 먼저 배정된다.
+ */
+public class DispatchMatcher {
+
+    private final double maxPickupKm;
+    private final double agingKmPerMinute;
+    private final int candidatesPerDelivery;
+
+    public DispatchMatcher(double maxPickupKm, double agingKmPerMinute, int candidatesPerDelivery) {
+        this.maxPickupKm = maxPickupKm;
+        this.agingKmPerMinute = agingKmPerMinute;
+        this.candidatesPerDelivery = candidatesPerDelivery;
+    }
+
+    /**
+     * @param waitMinutes 배달별 대기 시간 (분)
+     * @return 배달별로 배정된 기사의 인덱스, 배정되지 않았으면 -1
+     */
+    public int[] match(double[] deliveryLatitudes, double[] deliveryLongitudes, double[] waitMinutes,
+                       double[] riderLatitudes, double[] riderLongitudes) {
+        int deliveries = deliveryLatitudes.length;
+        int riders = riderLatitudes.length;
+        int[] assigned = new int[deliveries];
+        Arrays.fill(assigned, -1);
+        if (deliveries == 0 || riders == 0) {
+            return assigned;
+        }
+
+        // 기사를 위도 순으로 정렬해 두고 배달마다 위도 범위 안의 기사만 거리 계산
+        int[] riderOrder = sortByLatitude(riderLatitudes);
+        double[] sortedLatitudes = new double[riders];
+        for (int i = 0; i < riders; i++) {
+            sortedLatitudes[i] = riderLatitudes[riderOrder[i]];
+        }
+        double latitudeDelta = maxPickupKm / GeoUtils.KM_PER_DEGREE;
+
+        int candidates = Math.min(candidatesPerDelivery, riders);
+        int[] pairDeliveries = new int[deliveries * candidates];
+        int[] pairRiders = new int[pairDeliveries.length];
+        long[] keys = new long[pairDeliveries.length];
+        int pairs = 0;
+        double[] nearestKm = new double[candidates];
+        int[] nearestRiders = new int[candidates];
+        for (int d = 0; d < deliveries; d++) {
+            double latitude = deliveryLatitudes[d];
+            double longitude = deliveryLongitudes[d];
+            double longitudeDelta = GeoUtils.longitudeDelta(latitude, maxPickupKm);
+            double kmPerLongitude = GeoUtils.KM_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+
+            // 반경 안의 기사 중 가까운 candidates 명만 후보로 남김 (삽입 정렬)
+            int found = 0;
+            for (int i = lowerBound(sortedLatitudes, latitude - latitudeDelta);
+                 i < riders && sortedLatitudes[i] <= latitude + latitudeDelta; i++) {
+                int r = riderOrder[i];
+                if (Math.abs(riderLongitudes[r] - longitude) > longitudeDelta) {
+                    continue;
+                }
+                // 픽업 반경 정도의 거리에서는 평면 근사와 haversine 의 차이가 무시할 만큼 작음
+                double dy = (riderLatitudes[r] - latitude) * GeoUtils.KM_PER_DEGREE;
+                double dx = (riderLongitudes[r] - longitude) * kmPerLongitude;
+                double distance = Math.sqrt(dx * dx + dy * dy);
+                if (distance > maxPickupKm || (found == candidates && distance >= nearestKm[found - 1])) {
+                    continue;
+                }
+                int j = found == candidates ? found - 1 : found++;
+                while (j > 0 && nearestKm[j - 1] > distance) {
+                    nearestKm[j] = nearestKm[j - 1];
+                    nearestRiders[j] = nearestRiders[j - 1];
+                    j--;
+                }
+                nearestKm[j] = distance;
+                nearestRiders[j] = r;
+            }
+
+            double aging = agingKmPerMinute * waitMinutes[d];
+            for (int c = 0; c < found; c++) {
+                pairDeliveries[pairs] = d;
+                pairRiders[pairs] = nearestRiders[c];
+                // 상위 32비트에 비용, 하위 32비트에 쌍 인덱스를 넣어 객체 없이 long 배열 하나로 정렬
+                keys[pairs] = ((long) orderedBits((float) (nearestKm[c] - aging)) << 32) | pairs;
+                pairs++;
+            }
+        }
+        Arrays.sort(keys, 0, pairs);
+
+        boolean[] riderTaken = new boolean[riders];
+        int remaining = Math.min(deliveries, riders);
+        for (int k = 0; k < pairs && remaining > 0; k++) {
+            int pair = (int) keys[k];
+            int d = pairDeliveries[pair];
+            int r = pairRiders[pair];
+            if (assigned[d] < 0 && !riderTaken[r]) {
+                assigned[d] = r;
+                riderTaken[r] = true;
+                remaining--;
+            }
+        }
+        return assigned;
+    }
+
+    /**
+     * float 의 대소 관계를 그대로 유지하는 int 로 변환 (음수는 부호 비트를 제외한 비트를 뒤집음)
+     */
+    static int orderedBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+    private static int[] sortByLatitude(double[] latitudes) {
+        return IntStream.range(0, latitudes.length).boxed()
+                .sorted((a, b) -> Double.compare(latitudes[a], latitudes[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int lowerBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
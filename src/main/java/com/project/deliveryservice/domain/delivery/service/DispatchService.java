@@ -0,0 +1,258 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.domain.delivery.dto.DeliveryBundle;
+import com.project.deliveryservice.domain.delivery.dto.DispatchAssignment;
+import com.project.deliveryservice.domain.delivery.dto.DispatchStats;
+import com.project.deliveryservice.domain.delivery.dto.PendingDelivery;
+import com.project.deliveryservice.domain.delivery.entity.DeliveryTransition;
+import com.project.deliveryservice.domain.delivery.event.DeliveryStateChangedEvent;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryAssignmentWriter;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import com.project.deliveryservice.domain.delivery.service.RiderPool.Rider;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.event.OrderStatusChangedEvent;
+import com.project.deliveryservice.utils.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 배차 대기 중인 배달과 배차 가능한 기사를 메모리에 두고, 일정 주기마다 한 라운드씩 일괄 배정한다.
+ * 배달마다 기사 하나를 잠그는 선착순 배정 대신 라운드의 모든 배달과 기사를 한 번에 짝지어 전체 픽업 거리를 줄이고,
+ * 라운드의 배정은 하나의 batch update 로 반영한다.
+ * 같은 가게에서 비슷한 시각에 주문된 배달은 묶음으로 만들어 한 기사에게 함께 배정한다.
+ */
+@Slf4j
+@Service
+public class DispatchService {
+
+    private final DeliveryRepository deliveryRepository;
+    private final DeliveryAssignmentWriter assignmentWriter;
+    private final RiderPool riderPool;
+    private final RiderLocationStore locationStore;
+    private final DeliveryTrackingHub trackingHub;
+    private final DispatchMatcher matcher;
+    private final PickupBundler bundler;
+    private final int maxRoundSize;
+
+    // 주문 아이디 -> 배차 대기 중인 배달
+    private final Map<Long, PendingDelivery> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder rounds = new LongAdder();
+    private final LongAdder assignments = new LongAdder();
+    private final LongAdder bundledAssignments = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder pickupMeters = new LongAdder();
+    private volatile long lastRoundMillis;
+
+    public DispatchService(
+            DeliveryRepository deliveryRepository,
+            DeliveryAssignmentWriter assignmentWriter,
+            RiderPool riderPool,
+            RiderLocationStore locationStore,
+            DeliveryTrackingHub trackingHub,
+            DeliveryEtaEstimator etaEstimator,
+            @Value("${dispatch.max-pickup-km:3}") double maxPickupKm,
+            @Value("${dispatch.aging-km-per-minute:0.2}") double agingKmPerMinute,
+            @Value("${dispatch.candidates-per-delivery:32}") int candidatesPerDelivery,
+            @Value("${dispatch.max-round-size:2000}") int maxRoundSize,
+            @Value("${dispatch.bundle.max-drops:3}") int maxDrops,
+            @Value("${dispatch.bundle.window-minutes:5}") long bundleWindowMinutes,
+            @Value("${dispatch.bundle.max-detour-minutes:10}") float maxDetourMinutes) {
+
+        this.deliveryRepository = deliveryRepository;
+        this.assignmentWriter = assignmentWriter;
+        this.riderPool = riderPool;
+        this.locationStore = locationStore;
+        this.trackingHub = trackingHub;
+        this.matcher = new DispatchMatcher(maxPickupKm, agingKmPerMinute, candidatesPerDelivery);
+        this.bundler = new PickupBundler(etaEstimator, maxDrops, bundleWindowMinutes, maxDetourMinutes);
+        this.maxRoundSize = maxRoundSize;
+    }
+
+    /**
+     * 이벤트를 놓친 배달을 채우고 이미 배정되었거나 취소된 배달을 비움, 애플리케이션 시작 시에도 실행
+     */
+    @Scheduled(fixedDelayString = "${dispatch.reload-interval-ms:600000}")
+    public void reload() {
+        Set<Long> orderIds = new HashSet<>();
+        for (PendingDelivery delivery : deliveryRepository.findAllPending()) {
+            orderIds.add(delivery.getOrderId());
+            pending.putIfAbsent(delivery.getOrderId(), delivery);
+        }
+        pending.keySet().retainAll(orderIds);
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        if (event.getStatus() == OrderStatus.PROGRESS) {
+            deliveryRepository.findPendingByOrderIds(event.getOrderIds())
+                    .forEach(delivery -> pending.put(delivery.getOrderId(), delivery));
+        } else {
+            event.getOrderIds().forEach(pending::remove);
+        }
+    }
+
+    // 배차가 취소된 배달은 대기열에서 빼고, 진행 중인 배달이 없어진 기사는 마지막 위치로 풀에 돌려놓음
+    @TransactionalEventListener
+    public void onDeliveryStateChanged(DeliveryStateChangedEvent event) {
+        if (event.getTransition() == DeliveryTransition.CANCEL) {
+            event.getOrderIds().forEach(pending::remove);
+        }
+
+        // 위치를 보고한 적 없는 기사는 배차 가능을 다시 알려야 돌아옴
+        double[] latest = new double[3];
+        for (Long riderId : event.getReleasedRiderIds()) {
+            if (locationStore.copyLatest(riderId, latest)) {
+                riderPool.available(riderId, latest[0], latest[1]);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dispatch.round-interval-ms:3000}")
+    public void runRound() {
+        if (pending.isEmpty() || riderPool.size() == 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        // 오래 기다린 배달부터 라운드 크기만큼
+        List<PendingDelivery> deliveries = pending.values().stream()
+                .sorted((a, b) -> a.getOrderedAt().compareTo(b.getOrderedAt()))
+                .limit(maxRoundSize)
+                .toList();
+        List<DeliveryBundle> bundles = bundler.bundle(deliveries);
+        List<Rider> riders = riderPool.snapshot();
+        double[][] riderPositions = locate(riders);
+        LocalDateTime now = LocalDateTime.now();
+
+        int[] matched = match(bundles, riderPositions, now);
+
+        // 묶음의 배달은 같은 기사로 연속해서 담고, 배달마다 담긴 기사의 인덱스를 기록
+        List<DispatchAssignment> roundAssignments = new ArrayList<>();
+        List<PendingDelivery> assignedDeliveries = new ArrayList<>();
+        List<Integer> assignedRiders = new ArrayList<>();
+        List<Rider> claimedRiders = new ArrayList<>();
+        for (int b = 0; b < matched.length; b++) {
+            if (matched[b] < 0) {
+                continue;
+            }
+            DeliveryBundle bundle = bundles.get(b);
+            int r = matched[b];
+            Rider rider = riders.get(r);
+            // 라운드 도중 배차 불가가 되었거나 위치가 바뀐 기사는 다음 라운드로 미룸
+            if (!riderPool.claim(rider)) {
+                continue;
+            }
+            double pickupDistanceKm = GeoUtils.distanceKm(bundle.getLatitude(), bundle.getLongitude(),
+                    riderPositions[0][r], riderPositions[1][r]);
+            for (PendingDelivery delivery : bundle.getDrops()) {
+                roundAssignments.add(new DispatchAssignment(delivery.getDeliveryId(), rider.riderId(), pickupDistanceKm));
+                assignedDeliveries.add(delivery);
+                assignedRiders.add(claimedRiders.size());
+            }
+            claimedRiders.add(rider);
+        }
+        if (roundAssignments.isEmpty()) {
+            return;
+        }
+
+        boolean[] applied;
+        try {
+            applied = assignmentWriter.assign(roundAssignments, now);
+        } catch (RuntimeException e) {
+            log.warn("dispatch round of {} assignments failed", roundAssignments.size(), e);
+            claimedRiders.forEach(riderPool::release);
+            return;
+        }
+
+        // 묶음 중 일부만 반영되어도 기사는 남은 배달을 맡고, 하나도 반영되지 않은 기사만 풀로 돌려놓음
+        int[] appliedPerRider = new int[claimedRiders.size()];
+        for (int i = 0; i < applied.length; i++) {
+            PendingDelivery delivery = assignedDeliveries.get(i);
+            int riderIndex = assignedRiders.get(i);
+            // 반영되지 않은 배달은 이미 배정되었거나 취소된 것이므로 대기열에서 뺌
+            pending.remove(delivery.getOrderId(), delivery);
+            if (applied[i]) {
+                appliedPerRider[riderIndex]++;
+                trackingHub.onAllocated(delivery.getOrderId(), claimedRiders.get(riderIndex).riderId());
+                assignments.increment();
+                pickupMeters.add(Math.round(roundAssignments.get(i).getPickupDistanceKm() * 1000));
+            } else {
+                conflicts.increment();
+            }
+        }
+        for (int r = 0; r < claimedRiders.size(); r++) {
+            if (appliedPerRider[r] == 0) {
+                riderPool.release(claimedRiders.get(r));
+                continue;
+            }
+            riderPool.confirm(claimedRiders.get(r));
+            if (appliedPerRider[r] > 1) {
+                bundledAssignments.add(appliedPerRider[r]);
+            }
+        }
+        rounds.increment();
+        lastRoundMillis = System.currentTimeMillis() - start;
+    }
+
+    public DispatchStats getStats() {
+        long assigned = assignments.sum();
+        return DispatchStats.builder()
+                .pendingDeliveries(pending.size())
+                .availableRiders(riderPool.size())
+                .rounds(rounds.sum())
+                .assignments(assigned)
+                .bundledAssignments(bundledAssignments.sum())
+                .conflicts(conflicts.sum())
+                .averagePickupDistanceKm(assigned == 0 ? 0 : pickupMeters.sum() / 1000.0 / assigned)
+                .lastRoundMillis(lastRoundMillis)
+                .build();
+    }
+
+    /**
+     * 기사 위치를 {위도 배열, 경도 배열} 로, 수집된 최신 위치가 있으면 배차 가능을 알릴 때의 위치 대신 사용
+     */
+    private double[][] locate(List<Rider> riders) {
+        double[] latitudes = new double[riders.size()];
+        double[] longitudes = new double[riders.size()];
+        double[] latest = new double[3];
+        for (int i = 0; i < riders.size(); i++) {
+            Rider rider = riders.get(i);
+            if (locationStore.copyLatest(rider.riderId(), latest)) {
+                latitudes[i] = latest[0];
+                longitudes[i] = latest[1];
+            } else {
+                latitudes[i] = rider.latitude();
+                longitudes[i] = rider.longitude();
+            }
+        }
+        return new double[][]{latitudes, longitudes};
+    }
+
+    // 묶음은 가게 좌표와 가장 오래 기다린 배달의 대기 시간으로 하나의 배달처럼 짝지음
+    private int[] match(List<DeliveryBundle> bundles, double[][] riderPositions, LocalDateTime now) {
+        double[] deliveryLatitudes = new double[bundles.size()];
+        double[] deliveryLongitudes = new double[bundles.size()];
+        double[] waitMinutes = new double[bundles.size()];
+        for (int i = 0; i < bundles.size(); i++) {
+            DeliveryBundle bundle = bundles.get(i);
+            deliveryLatitudes[i] = bundle.getLatitude();
+            deliveryLongitudes[i] = bundle.getLongitude();
+            waitMinutes[i] = Math.max(0, Duration.between(bundle.getOrderedAt(), now).toSeconds() / 60.0);
+        }
+        return matcher.match(deliveryLatitudes, deliveryLongitudes, waitMinutes, riderPositions[0], riderPositions[1]);
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.domain.delivery.dto.DeliveryBundle;
+import com.project.deliveryservice.domain.delivery.dto.PendingDelivery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 같은 가게에서 비슷한 시각에 주문된 배달을 최대 maxDrops 개씩 묶는다.
+ * 가장 오래 기다린 배달을 첫 배달지로 두고, 이후에는 현재 배달지에서 가장 가까운 배달지를 고르는 nearest neighbour 로 순서를 정한다.
+ * 배달지 사이의 이동 시간은 zone 간 평균 이동 시간을 사용하며, 돌아가는 시간이 maxDetourMinutes 를 넘는 배달지는 묶지 않는다.
+ */
+public class PickupBundler {
+
+    private final DeliveryEtaEstimator etaEstimator;
+    private final int maxDrops;
+    private final long windowSeconds;
+    private final float maxDetourMinutes;
+
+    public PickupBundler(DeliveryEtaEstimator etaEstimator, int maxDrops, long windowMinutes, float maxDetourMinutes) {
+        this.etaEstimator = etaEstimator;
+        this.maxDrops = maxDrops;
+        this.windowSeconds = windowMinutes * 60;
+        this.maxDetourMinutes = maxDetourMinutes;
+    }
+
+    /**
+     * @return 가장 오래 기다린 주문 순으로 정렬된 묶음, 묶이지 않은 배달은 배달 하나짜리 묶음
+     */
+    public List<DeliveryBundle> bundle(List<PendingDelivery> deliveries) {
+        Map<Long, List<PendingDelivery>> byShop = new LinkedHashMap<>();
+        deliveries.stream()
+                .sorted(Comparator.comparing(PendingDelivery::getOrderedAt))
+                .forEach(delivery -> byShop.computeIfAbsent(delivery.getShopId(), shopId -> new ArrayList<>()).add(delivery));
+
+        List<DeliveryBundle> bundles = new ArrayList<>(deliveries.size());
+        for (List<PendingDelivery> shopDeliveries : byShop.values()) {
+            bundleShop(shopDeliveries, bundles);
+        }
+        bundles.sort(Comparator.comparing(DeliveryBundle::getOrderedAt));
+        return bundles;
+    }
+
+    // 주문 시각 순으로 정렬된 한 가게의 배달
+    private void bundleShop(List<PendingDelivery> deliveries, List<DeliveryBundle> bundles) {
+        boolean[] bundled = new boolean[deliveries.size()];
+        for (int seed = 0; seed < deliveries.size(); seed++) {
+            if (bundled[seed]) {
+                continue;
+            }
+            PendingDelivery first = deliveries.get(seed);
+            bundled[seed] = true;
+            List<PendingDelivery> drops = new ArrayList<>(maxDrops);
+            drops.add(first);
+
+            // 첫 배달의 주문 시각부터 window 안에 주문된 배달만 후보
+            LocalDateTime windowEnd = first.getOrderedAt().plusSeconds(windowSeconds);
+            int end = seed + 1;
+            while (end < deliveries.size() && !deliveries.get(end).getOrderedAt().isAfter(windowEnd)) {
+                end++;
+            }
+
+            PendingDelivery current = first;
+            float elapsed = etaEstimator.travelMinutes(first.getShopZipcode(), first.getDeliveryZipcode());
+            while (drops.size() < maxDrops) {
+                int next = -1;
+                float nextArrival = 0;
+                for (int i = seed + 1; i < end; i++) {
+                    if (bundled[i]) {
+                        continue;
+                    }
+                    PendingDelivery candidate = deliveries.get(i);
+                    float arrival = elapsed + etaEstimator.travelMinutes(current.getDeliveryZipcode(), candidate.getDeliveryZipcode());
+                    float direct = etaEstimator.travelMinutes(candidate.getShopZipcode(), candidate.getDeliveryZipcode());
+                    if (arrival - direct <= maxDetourMinutes && (next < 0 || arrival < nextArrival)) {
+                        next = i;
+                        nextArrival = arrival;
+                    }
+                }
+                if (next < 0) {
+                    break;
+                }
+                bundled[next] = true;
+                current = deliveries.get(next);
+                drops.add(current);
+                elapsed = nextArrival;
+            }
+            bundles.add(new DeliveryBundle(first.getShopId(), first.getLatitude(), first.getLongitude(),
+                    first.getOrderedAt(), drops, elapsed));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * 표본 추출된 기사 위치를 날짜별 append-only 파일에 고정 길이 binary record 로 남긴다.
+ * record 는 (기사 아이디 long, 측정 시각 long, 위도 double, 경도 double) 32 바이트이고, 날짜는 측정 시각의 UTC 기준이다.
+ * 위치 수집 스레드 하나만 사용한다.
+ */
+public class RiderLocationHistory implements AutoCloseable {
+
+    public static final int RECORD_BYTES = 32;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final Path directory;
+    private final ByteBuffer buffer;
+
+    private FileChannel channel;
+    private long currentDay = Long.MIN_VALUE;
+
+    public RiderLocationHistory(Path directory, int bufferRecords) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.buffer = ByteBuffer.allocateDirect(bufferRecords * RECORD_BYTES);
+    }
+
+    public void append(long riderId, long recordedAt, double latitude, double longitude) throws IOException {
+        long day = Math.floorDiv(recordedAt, MILLIS_PER_DAY);
+        if (day != currentDay) {
+            rollTo(day);
+        }
+        if (buffer.remaining() < RECORD_BYTES) {
+            flush();
+        }
+        buffer.putLong(riderId).putLong(recordedAt).putDouble(latitude).putDouble(longitude);
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    public static Path fileOf(Path directory, LocalDate date) {
+        return directory.resolve("rider-locations-" + date + ".bin");
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            flush();
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void rollTo(long day) throws IOException {
+        close();
+        channel = FileChannel.open(fileOf(directory, LocalDate.ofEpochDay(day)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        currentDay = day;
+    }
+}
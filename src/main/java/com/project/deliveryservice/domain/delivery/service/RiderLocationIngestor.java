@@ -0,0 +1,165 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.domain.delivery.dto.RiderLocationStats;
+import com.project.deliveryservice.domain.delivery.dto.RiderPing;
+import com.project.deliveryservice.domain.delivery.dto.RiderPingResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 기사 위치 보고를 받아 ring buffer 에 쌓고, 수집 스레드 하나가 꺼내 최신 위치를 갱신하고 표본을 이력 파일에 남긴다.
+ * 요청 스레드는 슬롯 확보와 primitive 복사만 하고 돌아가며, 버퍼가 가득 차면 보고를 버린다.
+ * 위치는 몇 초마다 다시 보고되므로 버려진 보고는 다음 보고로 대체된다.
+ */
+@Slf4j
+@Component
+public class RiderLocationIngestor {
+
+    private final RiderLocationStore locationStore;
+    private final RiderLocationRingBuffer buffer;
+    private final int drainBatchSize;
+    private final long historyIntervalMillis;
+    private final Path historyDirectory;
+
+    // 수집 스레드만 사용
+    private RiderLocationHistory history;
+    private final RiderLocationRingBuffer.Consumer applier = this::apply;
+
+    private Thread drainer;
+    private volatile boolean running;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder historyRecords = new LongAdder();
+
+    public RiderLocationIngestor(
+            RiderLocationStore locationStore,
+            @Value("${rider-location.buffer-capacity:65536}") int bufferCapacity,
+            @Value("${rider-location.drain-batch-size:4096}") int drainBatchSize,
+            @Value("${rider-location.history-interval-ms:30000}") long historyIntervalMillis,
+            @Value("${rider-location.history-dir:data/rider-locations}") String historyDirectory) {
+
+        this.locationStore = locationStore;
+        this.buffer = new RiderLocationRingBuffer(bufferCapacity);
+        this.drainBatchSize = drainBatchSize;
+        this.historyIntervalMillis = historyIntervalMillis;
+        // 비어 있으면 이력을 남기지 않음
+        this.historyDirectory = historyDirectory.isBlank() ? null : Path.of(historyDirectory);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (historyDirectory != null) {
+            history = new RiderLocationHistory(historyDirectory, drainBatchSize);
+        }
+        running = true;
+        drainer = new Thread(this::runDrainer, "rider-location-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // 새 보고는 받지 않고 쌓인 보고를 모두 반영한 뒤 종료
+        running = false;
+        drainer.join();
+    }
+
+    public RiderPingResult ingest(List<RiderPing> pings) {
+        long sequence = running ? buffer.claim(pings.size()) : -1;
+        if (sequence < 0) {
+            dropped.add(pings.size());
+            return new RiderPingResult(0, pings.size());
+        }
+
+        long now = System.currentTimeMillis();
+        for (RiderPing ping : pings) {
+            long recordedAt = ping.getRecordedAt() == null ? now : Math.min(ping.getRecordedAt(), now);
+            buffer.publish(sequence++, ping.getRiderId(), ping.getLatitude(), ping.getLongitude(), recordedAt);
+        }
+        accepted.add(pings.size());
+        return new RiderPingResult(pings.size(), 0);
+    }
+
+    /**
+     * 쌓인 보고를 최대 drainBatchSize 개 반영, 수집 스레드가 호출
+     *
+     * @return 반영한 보고 수
+     */
+    public int drain() {
+        int drained = buffer.drain(applier, drainBatchSize);
+        if (drained < drainBatchSize) {
+            // 버퍼를 다 비웠으면 이력을 파일에 씀
+            flushHistory();
+        }
+        return drained;
+    }
+
+    public RiderLocationStats getStats() {
+        return RiderLocationStats.builder()
+                .bufferDepth(buffer.size())
+                .bufferCapacity(buffer.capacity())
+                .riders(locationStore.size())
+                .accepted(accepted.sum())
+                .dropped(dropped.sum())
+                .stale(stale.sum())
+                .historyRecords(historyRecords.sum())
+                .build();
+    }
+
+    private void runDrainer() {
+        while (running || buffer.size() > 0) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+        closeHistory();
+    }
+
+    private void apply(long riderId, double latitude, double longitude, long recordedAt) {
+        int result = locationStore.update(riderId, latitude, longitude, recordedAt, historyIntervalMillis);
+        if (result == RiderLocationStore.STALE) {
+            stale.increment();
+        } else if (result == RiderLocationStore.UPDATED_WITH_HISTORY && history != null) {
+            try {
+                history.append(riderId, recordedAt, latitude, longitude);
+                historyRecords.increment();
+            } catch (IOException e) {
+                log.warn("failed to append rider location history", e);
+            }
+        }
+    }
+
+    private void flushHistory() {
+        if (history == null) {
+            return;
+        }
+        try {
+            history.flush();
+        } catch (IOException e) {
+            log.warn("failed to flush rider location history", e);
+        }
+    }
+
+    private void closeHistory() {
+        if (history == null) {
+            return;
+        }
+        try {
+            history.close();
+        } catch (IOException e) {
+            log.warn("failed to close rider location history", e);
+        }
+    }
+}
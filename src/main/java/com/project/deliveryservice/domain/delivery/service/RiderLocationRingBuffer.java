@@ -0,0 +1,109 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 요청 스레드가 쓰고 하나의 스레드가 읽는 (MPSC) 고정 크기 ring buffer
+ * 슬롯은 primitive 배열에 미리 할당되어 있어 위치를 쌓고 꺼낼 때 객체를 만들지 않는다.
+ * 쓰는 쪽은 CAS 로 연속된 슬롯을 한 번에 확보하고, 슬롯마다 sequence 를 기록해 읽는 쪽에 공개한다.
+ */
+public class RiderLocationRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+
+    private final long[] riderIds;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final long[] recordedAts;
+    // 슬롯에 마지막으로 공개된 sequence
+    private final AtomicLongArray published;
+
+    // 다음에 확보할 sequence
+    private final AtomicLong head = new AtomicLong();
+    // 다음에 읽을 sequence, 읽는 스레드만 증가시킴
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity 2의 거듭제곱으로 올림
+     */
+    public RiderLocationRingBuffer(int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = this.capacity - 1;
+        this.riderIds = new long[this.capacity];
+        this.latitudes = new double[this.capacity];
+        this.longitudes = new double[this.capacity];
+        this.recordedAts = new long[this.capacity];
+        this.published = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * 빈 슬롯 count 개를 확보
+     *
+     * @return 확보한 첫 sequence, 빈 슬롯이 부족하면 -1
+     */
+    public long claim(int count) {
+        while (true) {
+            long current = head.get();
+            if (current + count - tail.get() > capacity) {
+                return -1;
+            }
+            if (head.compareAndSet(current, current + count)) {
+                return current;
+            }
+        }
+    }
+
+    public void publish(long sequence, long riderId, double latitude, double longitude, long recordedAt) {
+        int index = (int) sequence & mask;
+        riderIds[index] = riderId;
+        latitudes[index] = latitude;
+        longitudes[index] = longitude;
+        recordedAts[index] = recordedAt;
+        // 앞의 일반 쓰기가 sequence 공개보다 먼저 보이도록 release 쓰기
+        published.lazySet(index, sequence);
+    }
+
+    /**
+     * 공개된 위치를 순서대로 최대 limit 개 꺼냄
+     * 앞선 슬롯이 아직 공개되지 않았으면 거기서 멈추고 다음 호출에서 이어서 읽는다.
+     *
+     * @return 꺼낸 위치 수
+     */
+    public int drain(Consumer consumer, int limit) {
+        long sequence = tail.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) sequence & mask;
+            if (published.get(index) != sequence) {
+                break;
+            }
+            consumer.accept(riderIds[index], latitudes[index], longitudes[index], recordedAts[index]);
+            sequence++;
+            drained++;
+        }
+        if (drained > 0) {
+            // 슬롯을 다 읽은 뒤에 tail 을 옮겨 쓰는 쪽이 재사용하게 함
+            tail.lazySet(sequence);
+        }
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, head.get() - tail.get());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+
+        void accept(long riderId, double latitude, double longitude, long recordedAt);
+    }
+}
@@ -0,0 +1,175 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.delivery.dto.RiderLocation;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 기사별 최신 위치
+ * 기사 아이디(long)를 박싱하지 않도록 open addressing 해시 테이블과 primitive 배열로 보관한다.
+ * 쓰기는 위치 수집 스레드 하나가 하고, 읽기는 StampedLock 의 optimistic read 로 락 없이 한다.
+ */
+@Component
+public class RiderLocationStore {
+
+    public static final int STALE = -1;
+    public static final int UPDATED = 0;
+    // 최신 위치가 바뀌었고 이력에도 남길 차례
+    public static final int UPDATED_WITH_HISTORY = 1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+
+    // 해시 -> 슬롯 + 1, 0 이면 비어 있음
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+    private long[] riderIds = new long[INITIAL_CAPACITY];
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+    private long[] recordedAts = new long[INITIAL_CAPACITY];
+    // 이력에 마지막으로 남긴 위치의 시각
+    private long[] historyAts = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @param historyIntervalMillis 이력에 남긴 지 이 시간이 지난 위치만 이력 대상
+     * @return 이미 더 최근 위치가 있으면 STALE
+     */
+    public int update(long riderId, double latitude, double longitude, long recordedAt, long historyIntervalMillis) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(riderId);
+            if (slot < 0) {
+                slot = insert(riderId);
+                historyAts[slot] = Long.MIN_VALUE;
+            } else if (recordedAt < recordedAts[slot]) {
+                return STALE;
+            }
+            latitudes[slot] = latitude;
+            longitudes[slot] = longitude;
+            recordedAts[slot] = recordedAt;
+            if (historyAts[slot] != Long.MIN_VALUE && recordedAt - historyAts[slot] < historyIntervalMillis) {
+                return UPDATED;
+            }
+            historyAts[slot] = recordedAt;
+            return UPDATED_WITH_HISTORY;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 최신 위치를 out 에 {위도, 경도, 측정 시각} 순서로 복사
+     *
+     * @return 위치가 없으면 false
+     */
+    public boolean copyLatest(long riderId, double[] out) {
+        long stamp = lock.tryOptimisticRead();
+        boolean found = read(riderId, out);
+        if (lock.validate(stamp)) {
+            return found;
+        }
+
+        // 읽는 도중 쓰기가 있었으면 읽기 락으로 다시 읽음
+        stamp = lock.readLock();
+        try {
+            return read(riderId, out);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public RiderLocation getLatest(long riderId) {
+        double[] out = new double[3];
+        if (!copyLatest(riderId, out)) {
+            throw new IllegalArgumentException(ErrorMsg.RIDER_LOCATION_NOT_EXIST);
+        }
+        return new RiderLocation(riderId, out[0], out[1], (long) out[2]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private boolean read(long riderId, double[] out) {
+        // optimistic read 중에는 배열이 교체될 수 있으므로 지역 변수로 한 번만 읽고 범위를 확인
+        int[] table = this.table;
+        long[] riderIds = this.riderIds;
+        double[] latitudes = this.latitudes;
+        double[] longitudes = this.longitudes;
+        long[] recordedAts = this.recordedAts;
+
+        int mask = table.length - 1;
+        for (int i = hash(riderId) & mask, probes = 0; probes < table.length; i = (i + 1) & mask, probes++) {
+            int slot = table[i] - 1;
+            if (slot < 0) {
+                return false;
+            }
+            if (slot < riderIds.length && slot < latitudes.length && slot < longitudes.length
+                    && slot < recordedAts.length && riderIds[slot] == riderId) {
+                out[0] = latitudes[slot];
+                out[1] = longitudes[slot];
+                out[2] = recordedAts[slot];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int find(long riderId) {
+        int mask = table.length - 1;
+        for (int i = hash(riderId) & mask; ; i = (i + 1) & mask) {
+            int slot = table[i] - 1;
+            if (slot < 0) {
+                return -1;
+            }
+            if (riderIds[slot] == riderId) {
+                return slot;
+            }
+        }
+    }
+
+    private int insert(long riderId) {
+        if (size == riderIds.length) {
+            grow();
+        }
+        int slot = size++;
+        riderIds[slot] = riderId;
+        putSlot(table, riderId, slot);
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = riderIds.length * 2;
+        riderIds = Arrays.copyOf(riderIds, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+        recordedAts = Arrays.copyOf(recordedAts, capacity);
+        historyAts = Arrays.copyOf(historyAts, capacity);
+
+        // load factor 가 0.5 를 넘지 않도록 테이블도 두 배로
+        int[] newTable = new int[capacity * 2];
+        for (int slot = 0; slot < size; slot++) {
+            putSlot(newTable, riderIds[slot], slot);
+        }
+        table = newTable;
+    }
+
+    private static void putSlot(int[] table, long riderId, int slot) {
+        int mask = table.length - 1;
+        int i = hash(riderId) & mask;
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = slot + 1;
+    }
+
+    private static int hash(long riderId) {
+        // snowflake 아이디의 하위 비트가 고르지 않을 수 있어 섞어서 사용
+        long h = riderId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
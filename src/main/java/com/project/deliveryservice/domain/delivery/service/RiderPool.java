@@ -0,0 +1,64 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배차 가능한 기사와 마지막으로 보고된 위치
+ * 배정된 기사는 풀에서 빠지고, 배정된 배달을 모두 마치거나 배차가 취소되면 마지막으로 보고된 위치로 돌아온다.
+ */
+@Component
+public class RiderPool {
+
+    private final Map<Long, Rider> riders = new ConcurrentHashMap<>();
+    // 라운드에서 가져갔지만 아직 DB 에 반영되지 않은 기사
+    private final Map<Long, Rider> claimed = new ConcurrentHashMap<>();
+
+    public void available(long riderId, double latitude, double longitude) {
+        riders.put(riderId, new Rider(riderId, latitude, longitude));
+    }
+
+    public void unavailable(long riderId) {
+        riders.remove(riderId);
+        claimed.remove(riderId);
+    }
+
+    public List<Rider> snapshot() {
+        return List.copyOf(riders.values());
+    }
+
+    /**
+     * 라운드 시작 이후 위치가 바뀌었거나 배차 불가로 바뀐 기사는 가져갈 수 없음
+     */
+    public boolean claim(Rider rider) {
+        if (!riders.remove(rider.riderId(), rider)) {
+            return false;
+        }
+        claimed.put(rider.riderId(), rider);
+        return true;
+    }
+
+    public void confirm(Rider rider) {
+        claimed.remove(rider.riderId(), rider);
+    }
+
+    /**
+     * 배정이 반영되지 않은 기사를 돌려놓음
+     * 그 사이 배차 불가를 알렸으면 돌려놓지 않고, 새 위치를 보고했으면 새 위치를 유지
+     */
+    public void release(Rider rider) {
+        if (claimed.remove(rider.riderId(), rider)) {
+            riders.putIfAbsent(rider.riderId(), rider);
+        }
+    }
+
+    public int size() {
+        return riders.size();
+    }
+
+    public record Rider(long riderId, double latitude, double longitude) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+/**
+ * 우편번호 앞 3자리(zone) 사이의 평균 배달 소요 시간(분)
+ * zone 쌍마다 float 하나를 ZONES * ZONES 크기의 1차원 배열에 두어 조회 시 객체를 만들지 않는다.
+ * 표본이 없는 zone 쌍은 출발 zone 의 평균, 그것도 없으면 전체 평균으로 대신한다.
+ * 표본 추가는 갱신 스레드 하나만 하며, 조회는 다른 스레드에서 락 없이 한다.
+ * 조회는 표본 수 대신 평균 값이 0 보다 큰지로 표본 유무를 판단하여, 표본 수만 먼저 보이고 평균은 아직 보이지 않는 경우에도 0분을 반환하지 않는다.
+ * 마지막에 쓰는 globalMinutes 가 volatile 이므로 조회 시 먼저 읽어 그 이전의 갱신이 보이도록 한다.
+ */
+public class TravelTimeMatrix {
+
+    public static final int ZONES = 1000;
+
+    // 표본 수가 이 값에 도달하면 이동 평균으로 바꾸어 최근 표본의 비중을 유지
+    private final int maxSamples;
+
+    private final float[] minutes = new float[ZONES * ZONES];
+    private final int[] samples = new int[ZONES * ZONES];
+    private final float[] originMinutes = new float[ZONES];
+    private final int[] originSamples = new int[ZONES];
+    private volatile float globalMinutes;
+    private int globalSamples;
+
+    public TravelTimeMatrix(int maxSamples, float defaultMinutes) {
+        this.maxSamples = maxSamples;
+        // 표본이 하나도 없을 때의 값
+        this.globalMinutes = defaultMinutes;
+    }
+
+    /**
+     * @return 우편번호 앞 3자리, 숫자가 아니거나 짧으면 -1
+     */
+    public static int zoneOf(String zipcode) {
+        if (zipcode == null || zipcode.length() < 3) {
+            return -1;
+        }
+        int zone = 0;
+        for (int i = 0; i < 3; i++) {
+            int digit = zipcode.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            zone = zone * 10 + digit;
+        }
+        return zone;
+    }
+
+    public void add(int origin, int destination, float sampleMinutes) {
+        if (origin < 0 || destination < 0) {
+            return;
+        }
+        int cell = origin * ZONES + destination;
+        minutes[cell] = mean(minutes[cell], samples[cell], sampleMinutes);
+        samples[cell] = Math.min(samples[cell] + 1, maxSamples);
+        originMinutes[origin] = mean(originMinutes[origin], originSamples[origin], sampleMinutes);
+        originSamples[origin] = Math.min(originSamples[origin] + 1, maxSamples);
+        globalMinutes = mean(globalMinutes, globalSamples, sampleMinutes);
+        globalSamples = Math.min(globalSamples + 1, maxSamples);
+    }
+
+    public float minutes(int origin, int destination) {
+        float global = globalMinutes;
+        if (origin < 0) {
+            return global;
+        }
+        if (destination >= 0) {
+            float cell = minutes[origin * ZONES + destination];
+            if (cell > 0) {
+                return cell;
+            }
+        }
+        float originMean = originMinutes[origin];
+        return originMean > 0 ? originMean : global;
+    }
+
+    public int samples(int origin, int destination) {
+        return origin < 0 || destination < 0 ? 0 : samples[origin * ZONES + destination];
+    }
+
+    private float mean(float current, int count, float sample) {
+        return count == 0 ? sample : current + (sample - current) / (count + 1);
+    }
+}
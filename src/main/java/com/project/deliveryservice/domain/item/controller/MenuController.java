@@ -0,0 +1,105 @@
+package com.project.deliveryservice.domain.item.controller;
+
+import com.project.deliveryservice.domain.item.dto.EncodedMenu;
+import com.project.deliveryservice.domain.item.service.ItemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/shops/{shopId}/menu")
+@RequiredArgsConstructor
+public class MenuController {
+
+    private static final String GZIP = "gzip";
+
+    private final ItemService itemService;
+
+    /**
+     * 미리 직렬화된 메뉴를 그대로 내려준다. If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 를 반환한다.
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getMenu(
+            @PathVariable long shopId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        EncodedMenu menu = itemService.getEncodedMenu(shopId);
+        boolean gzip = menu.hasGzip() && acceptsGzip(acceptEncoding);
+        String etag = gzip ? menu.getGzipEtag() : menu.getEtag();
+
+        if (ifNoneMatch != null && matches(ifNoneMatch, menu)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(menu.getGzip());
+        }
+        return response.body(menu.getJson());
+    }
+
+    // gzip 이 q=0 이 아닌 값으로 명시되었거나, 명시되지 않았고 * 가 허용된 경우
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            boolean accepted = quality(parts) > 0;
+            if (name.equalsIgnoreCase(GZIP) || name.equalsIgnoreCase("x-gzip")) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    // q 값이 없거나 잘못된 경우 1 로 본다
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 1;
+                }
+            }
+        }
+        return 1;
+    }
+
+    // 압축 여부와 관계없이 같은 메뉴의 ETag 면 일치로 본다
+    private static boolean matches(String ifNoneMatch, EncodedMenu menu) {
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(menu.getEtag()) || candidate.equals(menu.getGzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
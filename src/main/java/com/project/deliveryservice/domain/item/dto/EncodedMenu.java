@@ -0,0 +1,29 @@
+package com.project.deliveryservice.domain.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 응답 본문으로 미리 직렬화된 메뉴
+ */
+@Getter
+@AllArgsConstructor
+public class EncodedMenu {
+
+    // 메뉴 내용의 해시로 만든 강한 ETag (따옴표 포함)
+    private String etag;
+
+    // ApiResponse 로 감싼 UTF-8 JSON
+    private byte[] json;
+
+    // gzip 압축한 JSON, 작은 메뉴는 압축하지 않아 null
+    private byte[] gzip;
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    public String getGzipEtag() {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.deliveryservice.domain.item.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ItemRequest {
+
+    @NotEmpty
+    @Size(max = 20)
+    private String name;
+
+    @Size(max = 100)
+    private String description;
+
+    @Min(0)
+    private int price;
+
+    private boolean recommended;
+}
@@ -0,0 +1,33 @@
+package com.project.deliveryservice.domain.item.dto;
+
+import com.project.deliveryservice.domain.item.entity.Item;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class MenuItemInfo {
+
+    private Long itemId;
+
+    private String name;
+
+    private String description;
+
+    private int price;
+
+    // 사장님 추천 여부
+    private boolean recommended;
+
+    public static MenuItemInfo of(Item source) {
+        return MenuItemInfo.builder()
+                .itemId(source.getId())
+                .name(source.getName())
+                .description(source.getDescription())
+                .price(source.getPrice())
+                .recommended(source.isRecommended())
+                .build();
+    }
+}
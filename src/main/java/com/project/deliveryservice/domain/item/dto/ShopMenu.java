@@ -0,0 +1,24 @@
+package com.project.deliveryservice.domain.item.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 가게 메뉴 스냅샷, 캐시에 보관되어 여러 요청이 공유하므로 변경하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ShopMenu {
+
+    private Long shopId;
+
+    // 메뉴를 읽기 시작한 시점의 메뉴 버전, 아이템이 변경될 때마다 증가
+    // 인스턴스마다 따로 세는 값이라 응답 본문과 ETag 에 넣지 않음
+    @JsonIgnore
+    private long version;
+
+    private List<MenuItemInfo> items;
+}
@@ -1,6 +1,7 @@
 package com.project.deliveryservice.domain.item.entity;
 
 import com.project.deliveryservice.common.entity.BaseTimeEntity;
+import com.project.deliveryservice.common.id.SnowflakeId;
 import com.project.deliveryservice.domain.shop.entity.Shop;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
@@ -15,7 +16,7 @@ import org.hibernate.annotations.ColumnDefault;
 public class Item extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,4 +38,11 @@ public class Item extends BaseTimeEntity {
     @Column(nullable = false)
     // 사장님 추천 여가
     private boolean isRecommended;
+
+    public void change(String name, String description, int price, boolean isRecommended) {
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.isRecommended = isRecommended;
+    }
 }
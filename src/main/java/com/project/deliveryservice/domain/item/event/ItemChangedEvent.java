@@ -0,0 +1,16 @@
+package com.project.deliveryservice.domain.item.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가게의 아이템이 추가, 변경된 트랜잭션 안에서 발행되는 애플리케이션 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ItemChangedEvent {
+
+    private Long shopId;
+
+    private Long itemId;
+}
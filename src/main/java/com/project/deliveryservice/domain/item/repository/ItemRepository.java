@@ -1,7 +1,45 @@
 package com.project.deliveryservice.domain.item.repository;
 
+import com.project.deliveryservice.domain.item.dto.MenuItemInfo;
 import com.project.deliveryservice.domain.item.entity.Item;
+import com.project.deliveryservice.domain.search.dto.ItemDocument;
+import com.project.deliveryservice.domain.search.dto.NamePopularity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
+
+    @Query("select new com.project.deliveryservice.domain.item.dto.MenuItemInfo(i.id, i.name, i.description, i.price, i.isRecommended)" +
+            " from Item i" +
+            " where i.shop.id = :shopId" +
+            " order by i.isRecommended desc, i.id")
+    List<MenuItemInfo> findMenuByShopId(@Param("shopId") Long shopId);
+
+    /**
+     * 가게를 함께 읽어, 주문을 저장하는 다른 스레드나 트랜잭션에서도 가게 정보를 지연 로딩 없이 사용할 수 있게 함
+     */
+    @Query("select i from Item i join fetch i.shop where i.id in :itemIds")
+    List<Item> findAllWithShopByIds(@Param("itemIds") Collection<Long> itemIds);
+
+    @Query("select new com.project.deliveryservice.domain.search.dto.ItemDocument(i.id, i.shop.id, i.name, i.description)" +
+            " from Item i")
+    List<ItemDocument> findAllSearchDocuments();
+
+    @Query("select new com.project.deliveryservice.domain.search.dto.ItemDocument(i.id, i.shop.id, i.name, i.description)" +
+            " from Item i" +
+            " where i.id = :itemId")
+    Optional<ItemDocument> findSearchDocumentById(@Param("itemId") Long itemId);
+
+    /**
+     * 이름별 주문된 아이템 수, 주문되지 않은 이름은 0
+     */
+    @Query("select new com.project.deliveryservice.domain.search.dto.NamePopularity(i.name, count(oi.id))" +
+            " from Item i left join OrderItem oi on oi.item = i" +
+            " group by i.name")
+    List<NamePopularity> findAllNamePopularities();
 }
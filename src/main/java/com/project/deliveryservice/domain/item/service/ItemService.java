@@ -0,0 +1,59 @@
+package com.project.deliveryservice.domain.item.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.item.dto.EncodedMenu;
+import com.project.deliveryservice.domain.item.dto.ItemRequest;
+import com.project.deliveryservice.domain.item.dto.MenuItemInfo;
+import com.project.deliveryservice.domain.item.dto.ShopMenu;
+import com.project.deliveryservice.domain.item.entity.Item;
+import com.project.deliveryservice.domain.item.event.ItemChangedEvent;
+import com.project.deliveryservice.domain.item.repository.ItemRepository;
+import com.project.deliveryservice.domain.shop.service.ShopService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ItemService {
+
+    private final ItemRepository itemRepository;
+    private final ShopService shopService;
+    private final MenuCache menuCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ShopMenu getMenu(long shopId) {
+        return menuCache.get(shopId);
+    }
+
+    /**
+     * 응답 본문으로 직렬화된 메뉴, 캐시에 있으면 DB 조회와 직렬화 없이 반환된다.
+     */
+    public EncodedMenu getEncodedMenu(long shopId) {
+        return menuCache.getEncoded(shopId);
+    }
+
+    @Transactional
+    public MenuItemInfo createItem(long shopId, ItemRequest request) {
+        Item item = itemRepository.save(Item.builder()
+                .shop(shopService.getShopOrThrowById(shopId))
+                .name(request.getName())
+                .description(request.getDescription())
+                .price(request.getPrice())
+                .isRecommended(request.isRecommended())
+                .build());
+        eventPublisher.publishEvent(new ItemChangedEvent(shopId, item.getId()));
+        return MenuItemInfo.of(item);
+    }
+
+    @Transactional
+    public MenuItemInfo updateItem(long itemId, ItemRequest request) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMsg.ITEM_NOT_EXIST));
+        item.change(request.getName(), request.getDescription(), request.getPrice(), request.isRecommended());
+        eventPublisher.publishEvent(new ItemChangedEvent(item.getShop().getId(), itemId));
+        return MenuItemInfo.of(item);
+    }
+}
@@ -0,0 +1,182 @@
+package com.project.deliveryservice.domain.item.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.item.dto.EncodedMenu;
+import com.project.deliveryservice.domain.item.dto.MenuItemInfo;
+import com.project.deliveryservice.domain.item.dto.ShopMenu;
+import com.project.deliveryservice.domain.item.event.ItemChangedEvent;
+import com.project.deliveryservice.domain.item.repository.ItemRepository;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가게별 메뉴 캐시
+ * 같은 가게의 메뉴를 동시에 여러 요청이 찾으면 첫 요청만 DB 에서 읽고 나머지는 그 결과를 기다린다.
+ * 아이템이 변경되면 가게의 메뉴 버전을 올리고 캐시를 비우며, 읽는 도중 버전이 바뀐 메뉴는 캐시에 남기지 않는다.
+ * 다른 인스턴스의 변경은 TTL 이 지나면 반영된다.
+ * 응답 본문으로 직렬화한 메뉴도 entry 마다 한 번만 만들어 함께 보관한다.
+ * 무효화되거나 만료되어 교체된 entry 는 삽입 순서 큐에서도 바로 제거되어 최대 개수에 포함되지 않는다.
+ */
+public class MenuCache {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // 가게 아이디 -> 메뉴 버전, 캐시에서 제거된 가게도 버전은 유지됨
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private final ItemRepository itemRepository;
+    private final ShopRepository shopRepository;
+    private final MenuEncoder menuEncoder;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    public MenuCache(ItemRepository itemRepository, ShopRepository shopRepository, MenuEncoder menuEncoder,
+                     int maxEntries, Duration ttl, Clock clock) {
+        this.itemRepository = itemRepository;
+        this.shopRepository = shopRepository;
+        this.menuEncoder = menuEncoder;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    public ShopMenu get(long shopId) {
+        return join(getEntry(shopId));
+    }
+
+    /**
+     * 직렬화된 메뉴는 entry 마다 처음 요청될 때 한 번 만든다. 동시에 만들어지더라도 결과는 같다.
+     */
+    public EncodedMenu getEncoded(long shopId) {
+        Entry entry = getEntry(shopId);
+        EncodedMenu encoded = entry.encoded;
+        if (encoded == null) {
+            encoded = menuEncoder.encode(join(entry));
+            entry.encoded = encoded;
+        }
+        return encoded;
+    }
+
+    private Entry getEntry(long shopId) {
+        long now = clock.millis();
+        Entry entry = entries.get(shopId);
+        if (entry == null || entry.isExpired(now)) {
+            Entry created = new Entry(shopId, now + ttlMillis);
+            Entry expired = entry;
+            entry = entries.compute(shopId, (k, existing) ->
+                    existing == null || existing.isExpired(now) ? created : existing);
+            if (entry == created) {
+                if (expired != null) {
+                    discard(expired);
+                }
+                load(created);
+            }
+        }
+        return entry;
+    }
+
+    private ShopMenu join(Entry entry) {
+        try {
+            return entry.menu.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        invalidate(event.getShopId());
+    }
+
+    public void invalidate(long shopId) {
+        versions.merge(shopId, 1L, Long::sum);
+        Entry removed = entries.remove(shopId);
+        if (removed != null) {
+            discard(removed);
+        }
+    }
+
+    public long getVersion(long shopId) {
+        return versions.getOrDefault(shopId, 0L);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void load(Entry entry) {
+        long version = getVersion(entry.shopId);
+        try {
+            List<MenuItemInfo> items = itemRepository.findMenuByShopId(entry.shopId);
+            // 아이템이 없는 경우에만 가게 존재 여부를 확인, 없는 가게는 캐시하지 않음
+            if (items.isEmpty() && !shopRepository.existsById(entry.shopId)) {
+                throw new IllegalArgumentException(ErrorMsg.SHOP_NOT_EXIST);
+            }
+            entry.menu.complete(new ShopMenu(entry.shopId, version, List.copyOf(items)));
+        } catch (RuntimeException e) {
+            entries.remove(entry.shopId, entry);
+            entry.menu.completeExceptionally(e);
+            return;
+        }
+
+        // 읽는 도중 아이템이 변경되었으면 기다리던 요청에만 결과를 주고 캐시에는 남기지 않음
+        if (getVersion(entry.shopId) != version) {
+            entries.remove(entry.shopId, entry);
+            return;
+        }
+        insertionOrder.add(entry);
+        size.incrementAndGet();
+        // 추가하는 사이 invalidate 되었으면 invalidate 가 순서 큐에서 지우지 못했으므로 여기서 지움
+        if (entries.get(entry.shopId) != entry) {
+            discard(entry);
+        }
+        evict();
+    }
+
+    // 캐시에서 빠진 entry 를 순서 큐와 개수에서도 제거, 이미 제거되었으면 무시
+    private void discard(Entry entry) {
+        if (insertionOrder.remove(entry)) {
+            size.decrementAndGet();
+        }
+    }
+
+    private void evict() {
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null && size.get() > maxEntries) {
+            if (insertionOrder.remove(oldest)) {
+                size.decrementAndGet();
+                entries.remove(oldest.shopId, oldest);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final long shopId;
+        private final long expiresAt;
+        private final CompletableFuture<ShopMenu> menu = new CompletableFuture<>();
+        private volatile EncodedMenu encoded;
+
+        Entry(long shopId, long expiresAt) {
+            this.shopId = shopId;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
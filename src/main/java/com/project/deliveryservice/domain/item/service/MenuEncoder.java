@@ -0,0 +1,64 @@
+package com.project.deliveryservice.domain.item.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.project.deliveryservice.domain.item.dto.EncodedMenu;
+import com.project.deliveryservice.domain.item.dto.ShopMenu;
+import com.project.deliveryservice.utils.JsonUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+/**
+ * 메뉴를 컨트롤러가 반환하는 것과 같은 ApiResponse JSON 으로 한 번 직렬화하고, ETag 와 gzip 본문을 함께 만든다.
+ * ETag 는 버전이 아닌 본문 해시로 만들어 인스턴스나 재시작과 관계없이 같은 메뉴는 같은 ETag 를 가진다.
+ * 인스턴스마다 다른 메뉴 버전은 본문에서 제외되므로 해시에도 들어가지 않는다.
+ */
+public class MenuEncoder {
+
+    // ETag 로 사용할 SHA-256 앞부분 길이
+    private static final int ETAG_BYTES = 16;
+
+    private final JsonUtils jsonUtils;
+    private final int gzipMinBytes;
+
+    public MenuEncoder(JsonUtils jsonUtils, int gzipMinBytes) {
+        this.jsonUtils = jsonUtils;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    public EncodedMenu encode(ShopMenu menu) {
+        byte[] json;
+        try {
+            json = jsonUtils.serializeToBytes(success(menu));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return new EncodedMenu(etag(json), json, json.length >= gzipMinBytes ? gzip(json) : null);
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return '"' + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.deliveryservice.domain.location.repository;
+
+import com.project.deliveryservice.domain.location.entity.ZipcodeLocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ZipcodeLocationRepository extends JpaRepository<ZipcodeLocation, String> {
+}
@@ -0,0 +1,27 @@
+package com.project.deliveryservice.domain.location.service;
+
+import com.project.deliveryservice.common.entity.Address;
+import com.project.deliveryservice.common.entity.GeoPoint;
+import com.project.deliveryservice.domain.location.repository.ZipcodeLocationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 주소를 우편번호 좌표 테이블로 좌표로 변환한다. 외부 지오코딩 API 는 사용하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class GeoLocationService {
+
+    private final ZipcodeLocationRepository zipcodeLocationRepository;
+
+    public Optional<GeoPoint> locate(Address address) {
+        if (address == null || address.getZipcode() == null) {
+            return Optional.empty();
+        }
+        return zipcodeLocationRepository.findById(address.getZipcode().trim())
+                .map(z -> new GeoPoint(z.getLatitude(), z.getLongitude()));
+    }
+}
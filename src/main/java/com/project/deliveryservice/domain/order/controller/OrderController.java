@@ -0,0 +1,70 @@
+package com.project.deliveryservice.domain.order.controller;
+
+import com.project.deliveryservice.domain.order.dto.BulkOrderStatusRequest;
+import com.project.deliveryservice.domain.order.dto.OrderInfo;
+import com.project.deliveryservice.domain.order.dto.OrderRequest;
+import com.project.deliveryservice.domain.order.dto.OrderSlice;
+import com.project.deliveryservice.domain.order.dto.OrderStatusRequest;
+import com.project.deliveryservice.domain.order.dto.OrderStatusResult;
+import com.project.deliveryservice.domain.order.service.OrderIntakeService;
+import com.project.deliveryservice.domain.order.service.OrderQueryService;
+import com.project.deliveryservice.domain.order.service.OrderStatusService;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+@RestController
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+public class OrderController {
+
+    private final OrderIntakeService orderIntakeService;
+    private final OrderStatusService orderStatusService;
+    private final OrderQueryService orderQueryService;
+
+    @GetMapping
+    public ApiResponse<OrderSlice> getOrders(
+            @AuthenticationPrincipal String email,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        return success(orderQueryService.getOrders(email, cursorCreatedAt, cursorId, size));
+    }
+
+    @GetMapping("/{orderId}")
+    public ApiResponse<OrderInfo> getOrder(@AuthenticationPrincipal String email, @PathVariable long orderId) {
+        return success(orderQueryService.getOrder(email, orderId));
+    }
+
+    @PostMapping(produces = "application/json; charset=UTF-8")
+    public CompletableFuture<ResponseEntity<ApiResponse<OrderInfo>>> createOrder(
+            @AuthenticationPrincipal String email,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody OrderRequest request) {
+        return orderIntakeService.submit(email, request, idempotencyKey)
+                .thenApply(orderInfo -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(success(orderInfo)));
+    }
+
+    @PatchMapping("/{orderId}/status")
+    public ApiResponse<OrderStatusResult> changeStatus(@PathVariable long orderId,
+                                                       @Valid @RequestBody OrderStatusRequest request) {
+        return success(orderStatusService.changeStatus(orderId, request.getFrom(), request.getTo()));
+    }
+
+    @PatchMapping("/status")
+    public ApiResponse<OrderStatusResult> changeStatusInBulk(@Valid @RequestBody BulkOrderStatusRequest request) {
+        return success(orderStatusService.changeStatusInBulk(
+                request.getShopId(), request.getOrderIds(), request.getFrom(), request.getTo()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class BulkOrderStatusRequest {
+
+    @NotNull
+    private Long shopId;
+
+    // 상태를 변경할 주문 아이디 목록
+    @NotEmpty
+    @Size(max = 1000)
+    private List<Long> orderIds;
+
+    @NotNull
+    private OrderStatus from;
+
+    @NotNull
+    private OrderStatus to;
+}
@@ -0,0 +1,33 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기용 주문 아이템 단위 projection
+ */
+@Getter
+@AllArgsConstructor
+public class OrderExportRow {
+
+    private Long orderId;
+
+    private LocalDateTime createdAt;
+
+    private OrderStatus status;
+
+    private Long userId;
+
+    private Long shopId;
+
+    private Long itemId;
+
+    private String itemName;
+
+    private int quantity;
+
+    private int price;
+}
@@ -0,0 +1,14 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderImportError {
+
+    // NDJSON 의 줄 번호 (1 부터 시작)
+    private long line;
+
+    private String message;
+}
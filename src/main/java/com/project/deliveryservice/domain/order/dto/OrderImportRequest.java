@@ -0,0 +1,24 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 주문 등록의 NDJSON 한 줄
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderImportRequest {
+
+    // 주문자
+    @NotNull
+    private Long userId;
+
+    @Valid
+    @NotNull
+    private OrderRequest order;
+}
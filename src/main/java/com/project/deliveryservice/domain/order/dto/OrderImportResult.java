@@ -0,0 +1,22 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderImportResult {
+
+    // 빈 줄을 제외한 전체 주문 수
+    private long total;
+
+    // 저장된 주문 수
+    private long imported;
+
+    // 저장되지 않은 주문의 줄 번호와 사유
+    private List<OrderImportError> errors;
+}
@@ -35,7 +35,10 @@ public class OrderInfo {
     // 주문 생성 시성
     private LocalDateTime createdAt;
 
-    public static OrderInfo of(Order source) {
+    // 도착 예정 시각, 완료되었거나 취소된 주문은 null
+    private LocalDateTime estimatedArrivalAt;
+
+    public static OrderInfo of(Order source, LocalDateTime estimatedArrivalAt) {
         List<OrderItemInfo> orderItems = source.getOrderItems().stream()
                 .map(OrderItemInfo::of)
                 .collect(Collectors.toList());
@@ -43,7 +46,21 @@ public class OrderInfo {
                 .orderId(source.getId())
                 .user(UserInfo.of(source.getUser()))
                 .orderItems(orderItems)
+                .orderStatus(source.getStatus())
+                .createdAt(source.getCreatedAt())
+                .estimatedArrivalAt(estimatedArrivalAt)
+                .build();
+    }
+
+    public static OrderInfo of(OrderSummary source, UserInfo user, List<OrderItemInfo> orderItems,
+                               LocalDateTime estimatedArrivalAt) {
+        return OrderInfo.builder()
+                .orderId(source.getOrderId())
+                .user(user)
+                .orderItems(orderItems)
+                .orderStatus(source.getStatus())
                 .createdAt(source.getCreatedAt())
+                .estimatedArrivalAt(estimatedArrivalAt)
                 .build();
     }
 }
@@ -0,0 +1,41 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderIntakeStats {
+
+    // 대기 중인 주문 수
+    private int queueDepth;
+
+    // 대기열 최대 크기
+    private int queueCapacity;
+
+    // 커밋된 batch 수
+    private long committedBatches;
+
+    // 커밋된 주문 수
+    private long committedOrders;
+
+    // batch 당 평균 주문 수
+    private double averageBatchSize;
+
+    // 가장 컸던 batch 의 주문 수
+    private int maxBatchSize;
+
+    // batch 커밋 평균 소요 시간
+    private double averageCommitMillis;
+
+    // batch 커밋 최대 소요 시간
+    private double maxCommitMillis;
+
+    // 대기열이 가득 차 거절된 주문 수
+    private long rejectedOrders;
+
+    // 저장에 실패한 주문 수
+    private long failedOrders;
+}
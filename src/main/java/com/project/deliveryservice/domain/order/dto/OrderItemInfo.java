@@ -30,4 +30,13 @@ public class OrderItemInfo {
                 .price(source.getPrice())
                 .build();
     }
+
+    public static OrderItemInfo of(OrderItemSummary source) {
+        return OrderItemInfo.builder()
+                .itemId(source.getItemId())
+                .itemName(source.getItemName())
+                .quantity(source.getQuantity())
+                .price(source.getPrice())
+                .build();
+    }
 }
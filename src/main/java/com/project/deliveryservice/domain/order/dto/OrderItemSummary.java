@@ -0,0 +1,22 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 목록 조회용 주문 아이템 projection
+ */
+@Getter
+@AllArgsConstructor
+public class OrderItemSummary {
+
+    private Long orderId;
+
+    private Long itemId;
+
+    private String itemName;
+
+    private int quantity;
+
+    private int price;
+}
@@ -0,0 +1,25 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderSlice {
+
+    // 최신 주문부터 정렬된 주문 목록
+    private List<OrderInfo> orders;
+
+    // 다음 페이지 존재 여부
+    private boolean hasNext;
+
+    // 다음 페이지 요청 시 전달할 커서 (마지막 주문의 생성 시각과 아이디)
+    private LocalDateTime nextCursorCreatedAt;
+
+    private Long nextCursorId;
+}
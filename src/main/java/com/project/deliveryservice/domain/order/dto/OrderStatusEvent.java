@@ -0,0 +1,35 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.entity.OrderStatusOutbox;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderStatusEvent {
+
+    // 이벤트 아이디, 중복 발행 시 consumer 가 걸러내는 데 사용
+    private Long eventId;
+
+    private Long orderId;
+
+    // 변경된 주문 상태
+    private OrderStatus status;
+
+    // 상태 변경 시각
+    private LocalDateTime occurredAt;
+
+    public static OrderStatusEvent of(OrderStatusOutbox source) {
+        return OrderStatusEvent.builder()
+                .eventId(source.getId())
+                .orderId(source.getOrderId())
+                .status(source.getStatus())
+                .occurredAt(source.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderStatusRequest {
+
+    // 현재 주문 상태, 다른 상태로 이미 변경되었다면 요청은 거절됨
+    @NotNull
+    private OrderStatus from;
+
+    // 변경할 주문 상태
+    @NotNull
+    private OrderStatus to;
+}
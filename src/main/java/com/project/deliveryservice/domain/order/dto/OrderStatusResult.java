@@ -0,0 +1,23 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderStatusResult {
+
+    // 변경된 주문 상태
+    private OrderStatus status;
+
+    // 상태가 변경된 주문 아이디 목록
+    private List<Long> changedOrderIds;
+
+    // 상태가 이미 변경되어 있어 변경되지 않은 주문 아이디 목록
+    private List<Long> skippedOrderIds;
+}
@@ -0,0 +1,34 @@
+package com.project.deliveryservice.domain.order.dto;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 projection
+ */
+@Getter
+@AllArgsConstructor
+public class OrderSummary {
+
+    private Long orderId;
+
+    private OrderStatus status;
+
+    private LocalDateTime createdAt;
+
+    // 도착 예정 시각 계산용, 보관 테이블의 주문은 null
+    private Long shopId;
+
+    private String shopZipcode;
+
+    private String deliveryZipcode;
+
+    private LocalDateTime pickupedAt;
+
+    public OrderSummary(Long orderId, OrderStatus status, LocalDateTime createdAt) {
+        this(orderId, status, createdAt, null, null, null, null);
+    }
+}
@@ -1,7 +1,9 @@
 package com.project.deliveryservice.domain.order.entity;
 
 import com.project.deliveryservice.common.entity.ExtendedTimeEntity;
+import com.project.deliveryservice.common.id.SnowflakeId;
 import com.project.deliveryservice.domain.delivery.entity.Delivery;
+import com.project.deliveryservice.domain.shop.entity.Shop;
 import com.project.deliveryservice.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,23 +16,39 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+// 사용자별 주문 목록을 (createdAt, id) 커서로 조회하기 위한 인덱스, 기간별 내보내기와 일별 매출 재집계를 위한 인덱스
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_created", columnList = "user_id, createdAt, id"),
+        @Index(name = "idx_orders_created", columnList = "createdAt, id"),
+        @Index(name = "idx_orders_completed", columnList = "completedAt"),
+        @Index(name = "idx_orders_refund_completed", columnList = "refundCompletedAt")
+})
 public class Order extends ExtendedTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @OneToMany(mappedBy = "order")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "shop_id")
+    private Shop shop;
+
+    @OneToMany(mappedBy = "order", cascade = CascadeType.PERSIST)
     private List<OrderItem> orderItems;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     @JoinColumn(name = "delivery_id")
     private Delivery delivery;
 
+    // 주문 상태, 상태 변경은 OrderRepository 의 조건부 update 로만 수행
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
     // 환불 요청 시각
     private LocalDateTime refundRequestedAt;
 
@@ -43,9 +61,11 @@ public class Order extends ExtendedTimeEntity {
     // 주문 취소 시각
     private LocalDateTime canceledAt;
 
-    public Order(User user, Delivery delivery, List<OrderItem> orderItems) {
+    public Order(User user, Shop shop, Delivery delivery, List<OrderItem> orderItems) {
         this.user = user;
+        this.shop = shop;
         this.delivery = delivery;
+        this.status = OrderStatus.REQUESTED;
         setOrderItems(orderItems);
     }
 
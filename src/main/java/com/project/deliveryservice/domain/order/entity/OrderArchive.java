@@ -0,0 +1,57 @@
+package com.project.deliveryservice.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 주문
+ * OrderArchiver 가 orders 테이블의 row 를 그대로 옮기며, 애플리케이션에서는 조회만 한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_orders_archive_created", columnList = "created_at, id")
+})
+public class OrderArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "shop_id")
+    private Long shopId;
+
+    @Column(name = "delivery_id")
+    private Long deliveryId;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    private LocalDateTime refundRequestedAt;
+
+    private LocalDateTime refundCompletedAt;
+
+    private LocalDateTime completedAt;
+
+    private LocalDateTime canceledAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime deletedAt;
+
+    // 보관 테이블로 옮겨진 시각
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
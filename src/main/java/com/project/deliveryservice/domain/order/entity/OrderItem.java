@@ -1,6 +1,7 @@
 package com.project.deliveryservice.domain.order.entity;
 
 import com.project.deliveryservice.common.entity.BaseTimeEntity;
+import com.project.deliveryservice.common.id.SnowflakeId;
 import com.project.deliveryservice.domain.item.entity.Item;
 import jakarta.persistence.*;
 import lombok.*;
@@ -13,7 +14,7 @@ import lombok.*;
 public class OrderItem extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
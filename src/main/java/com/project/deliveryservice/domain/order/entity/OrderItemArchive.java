@@ -0,0 +1,37 @@
+package com.project.deliveryservice.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 주문의 주문 아이템
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "order_item_archive", indexes = @Index(name = "idx_order_item_archive_order", columnList = "order_id"))
+public class OrderItemArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(nullable = false)
+    private int price;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
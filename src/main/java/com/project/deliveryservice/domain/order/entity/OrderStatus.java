@@ -1,10 +1,36 @@
 package com.project.deliveryservice.domain.order.entity;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     REQUESTED, // 주문 요청
     PROGRESS, // 주문 처리 중
     CANCELED, // 주문 취소
     COMPLETED, // 주문 완료
     REFUND_REQUESTED, // 환불 요청
-    REFUND_COMPLETED // 환불 완료
+    REFUND_COMPLETED; // 환불 완료
+
+    // 상태별로 변경 가능한 다음 상태
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(REQUESTED, EnumSet.of(PROGRESS, CANCELED));
+        TRANSITIONS.put(PROGRESS, EnumSet.of(COMPLETED, CANCELED));
+        TRANSITIONS.put(CANCELED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(COMPLETED, EnumSet.of(REFUND_REQUESTED));
+        TRANSITIONS.put(REFUND_REQUESTED, EnumSet.of(REFUND_COMPLETED));
+        TRANSITIONS.put(REFUND_COMPLETED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    public boolean canTransitTo(OrderStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
+
+    public Set<OrderStatus> nextStatuses() {
+        return Collections.unmodifiableSet(TRANSITIONS.get(this));
+    }
 }
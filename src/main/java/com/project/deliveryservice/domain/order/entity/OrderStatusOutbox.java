@@ -0,0 +1,36 @@
+package com.project.deliveryservice.domain.order.entity;
+
+import com.project.deliveryservice.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 이벤트 outbox
+ * 주문 변경과 같은 트랜잭션에서 저장되며, relay 가 발행한 뒤 삭제한다.
+ * 식별자가 시간 순으로 증가하므로 식별자 순서가 곧 이벤트 발행 순서다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "order_status_outbox")
+public class OrderStatusOutbox {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    // 상태 변경 시각
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
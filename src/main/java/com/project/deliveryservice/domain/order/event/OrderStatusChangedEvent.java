@@ -0,0 +1,24 @@
+package com.project.deliveryservice.domain.order.event;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 상태가 변경된 트랜잭션 안에서 발행되는 애플리케이션 이벤트
+ * 커밋 이후에 처리되어야 하는 리스너는 @TransactionalEventListener 로 구독한다.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderStatusChangedEvent {
+
+    private List<Long> orderIds;
+
+    private OrderStatus status;
+
+    // 상태 변경 시각, 상태별 시각 컬럼과 같은 값
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,36 @@
+package com.project.deliveryservice.domain.order.repository;
+
+import com.project.deliveryservice.domain.order.dto.OrderSummary;
+import com.project.deliveryservice.domain.order.entity.OrderArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long> {
+
+    @Query("select new com.project.deliveryservice.domain.order.dto.OrderSummary(o.id, o.status, o.createdAt)" +
+            " from OrderArchive o" +
+            " where o.id = :orderId and o.userId = :userId")
+    Optional<OrderSummary> findSummaryByIdAndUserId(@Param("orderId") Long orderId, @Param("userId") Long userId);
+
+    @Query("select new com.project.deliveryservice.domain.order.dto.OrderSummary(o.id, o.status, o.createdAt)" +
+            " from OrderArchive o" +
+            " where o.userId = :userId" +
+            " order by o.createdAt desc, o.id desc")
+    List<OrderSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select new com.project.deliveryservice.domain.order.dto.OrderSummary(o.id, o.status, o.createdAt)" +
+            " from OrderArchive o" +
+            " where o.userId = :userId" +
+            " and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))" +
+            " order by o.createdAt desc, o.id desc")
+    List<OrderSummary> findSummariesByUserIdBefore(@Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package com.project.deliveryservice.domain.order.repository;
+
+import com.project.deliveryservice.domain.order.dto.OrderItemSummary;
+import com.project.deliveryservice.domain.order.entity.OrderItemArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderItemArchiveRepository extends JpaRepository<OrderItemArchive, Long> {
+
+    @Query("select new com.project.deliveryservice.domain.order.dto.OrderItemSummary(oi.orderId, i.id, i.name, oi.quantity, oi.price)" +
+            " from OrderItemArchive oi join Item i on i.id = oi.itemId" +
+            " where oi.orderId in :orderIds" +
+            " order by oi.id")
+    List<OrderItemSummary> findSummariesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
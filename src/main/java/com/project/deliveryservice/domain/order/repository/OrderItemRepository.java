@@ -1,7 +1,19 @@
 package com.project.deliveryservice.domain.order.repository;
 
+import com.project.deliveryservice.domain.order.dto.OrderItemSummary;
 import com.project.deliveryservice.domain.order.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    @Query("select new com.project.deliveryservice.domain.order.dto.OrderItemSummary(oi.order.id, i.id, i.name, oi.quantity, oi.price)" +
+            " from OrderItem oi join oi.item i" +
+            " where oi.order.id in :orderIds" +
+            " order by oi.id")
+    List<OrderItemSummary> findSummariesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
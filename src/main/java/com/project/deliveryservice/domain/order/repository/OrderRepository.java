@@ -1,7 +1,40 @@
 package com.project.deliveryservice.domain.order.repository;
 
+import com.project.deliveryservice.domain.order.dto.OrderSummary;
 import com.project.deliveryservice.domain.order.entity.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
+
+    @Query("select new com.project.deliveryservice.domain.order.dto.OrderSummary(o.id, o.status, o.createdAt," +
+            " s.id, s.address.zipcode, d.address.zipcode, d.pickupedAt)" +
+            " from Order o left join o.shop s left join o.delivery d" +
+            " where o.id = :orderId and o.user.id = :userId")
+    Optional<OrderSummary> findSummaryByIdAndUserId(@Param("orderId") Long orderId, @Param("userId") Long userId);
+
+    @Query("select new com.project.deliveryservice.domain.order.dto.OrderSummary(o.id, o.status, o.createdAt," +
+            " s.id, s.address.zipcode, d.address.zipcode, d.pickupedAt)" +
+            " from Order o left join o.shop s left join o.delivery d" +
+            " where o.user.id = :userId" +
+            " order by o.createdAt desc, o.id desc")
+    List<OrderSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // (createdAt, id) 커서 이후의 주문을 조회, OFFSET 을 사용하지 않으므로 페이지가 뒤로 가도 비용이 일정함
+    @Query("select new com.project.deliveryservice.domain.order.dto.OrderSummary(o.id, o.status, o.createdAt," +
+            " s.id, s.address.zipcode, d.address.zipcode, d.pickupedAt)" +
+            " from Order o left join o.shop s left join o.delivery d" +
+            " where o.user.id = :userId" +
+            " and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))" +
+            " order by o.createdAt desc, o.id desc")
+    List<OrderSummary> findSummariesByUserIdBefore(@Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
 }
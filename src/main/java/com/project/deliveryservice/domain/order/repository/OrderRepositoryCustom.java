@@ -0,0 +1,24 @@
+package com.project.deliveryservice.domain.order.repository;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * 주문 상태가 from 인 경우에만 to 로 변경한다. (compare-and-set)
+     *
+     * @return 변경된 row 수 (0 또는 1)
+     */
+    int updateStatus(long orderId, OrderStatus from, OrderStatus to, LocalDateTime now);
+
+    /**
+     * 가게의 주문들 중 상태가 from 인 주문들을 하나의 update 문으로 to 로 변경한다.
+     *
+     * @return 실제로 상태가 변경된 주문 아이디 목록
+     */
+    List<Long> updateStatusInBulk(long shopId, Collection<Long> orderIds, OrderStatus from, OrderStatus to, LocalDateTime now);
+}
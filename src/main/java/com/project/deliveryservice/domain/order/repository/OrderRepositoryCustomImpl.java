@@ -0,0 +1,65 @@
+package com.project.deliveryservice.domain.order.repository;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateStatus(long orderId, OrderStatus from, OrderStatus to, LocalDateTime now) {
+        return entityManager.createQuery(updateStatusQuery(to) + " where o.id = :orderId and o.status = :from")
+                .setParameter("to", to)
+                .setParameter("now", now)
+                .setParameter("orderId", orderId)
+                .setParameter("from", from)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Long> updateStatusInBulk(long shopId, Collection<Long> orderIds, OrderStatus from, OrderStatus to, LocalDateTime now) {
+        // 변경할 주문을 select ... for update 로 잠가 두고 잠근 주문만 변경하므로, 잠근 주문이 곧 이번 update 로 변경된 주문
+        List<Long> lockedOrderIds = entityManager.createQuery("select o.id from Order o"
+                        + " where o.id in :orderIds and o.shop.id = :shopId and o.status = :from", Long.class)
+                .setParameter("orderIds", orderIds)
+                .setParameter("shopId", shopId)
+                .setParameter("from", from)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (lockedOrderIds.isEmpty()) {
+            return List.of();
+        }
+
+        entityManager.createQuery(updateStatusQuery(to) + " where o.id in :orderIds")
+                .setParameter("to", to)
+                .setParameter("now", now)
+                .setParameter("orderIds", lockedOrderIds)
+                .executeUpdate();
+        return lockedOrderIds;
+    }
+
+    private String updateStatusQuery(OrderStatus to) {
+        String timestampField = timestampField(to);
+        return "update Order o set o.status = :to, o.updatedAt = :now"
+                + (timestampField == null ? "" : ", o." + timestampField + " = :now");
+    }
+
+    // 상태별로 변경 시각을 기록하는 컬럼
+    private String timestampField(OrderStatus status) {
+        return switch (status) {
+            case COMPLETED -> "completedAt";
+            case CANCELED -> "canceledAt";
+            case REFUND_REQUESTED -> "refundRequestedAt";
+            case REFUND_COMPLETED -> "refundCompletedAt";
+            default -> null;
+        };
+    }
+}
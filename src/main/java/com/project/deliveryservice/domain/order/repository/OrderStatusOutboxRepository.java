@@ -0,0 +1,12 @@
+package com.project.deliveryservice.domain.order.repository;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatusOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OrderStatusOutboxRepository extends JpaRepository<OrderStatusOutbox, Long> {
+
+    List<OrderStatusOutbox> findAllByOrderByIdAsc(Pageable pageable);
+}
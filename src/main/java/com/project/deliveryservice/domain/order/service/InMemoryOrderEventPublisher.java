@@ -0,0 +1,34 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.domain.order.dto.OrderStatusEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 같은 프로세스 안의 구독자에게 이벤트를 전달하는 publisher
+ * 외부 메시지 브로커가 설정되지 않았을 때와 테스트에서 사용한다.
+ */
+public class InMemoryOrderEventPublisher implements OrderEventPublisher {
+
+    private final List<Consumer<OrderStatusEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private final LongAdder publishedCount = new LongAdder();
+
+    @Override
+    public void publish(List<OrderStatusEvent> events) {
+        for (OrderStatusEvent event : events) {
+            subscribers.forEach(subscriber -> subscriber.accept(event));
+        }
+        publishedCount.add(events.size());
+    }
+
+    public void subscribe(Consumer<OrderStatusEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+}
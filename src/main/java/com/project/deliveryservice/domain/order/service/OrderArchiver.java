@@ -0,0 +1,193 @@
+package com.project.deliveryservice.domain.order.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 완료 혹은 취소된 지 order.archive.min-age-days 가 지난 주문과 주문 아이템을 보관 테이블로 옮긴다.
+ * 주문 아이디 keyset 으로 chunk 를 나누어 chunk 마다 INSERT…SELECT 후 DELETE 를 하나의 트랜잭션에서 수행하며,
+ * 초당 옮기는 row 수가 order.archive.rows-per-second 를 넘지 않도록 chunk 사이에 쉰다.
+ * 리뷰가 작성된 주문은 리뷰가 주문을 참조하므로 옮기지 않는다.
+ * 후보 주문은 for update 로 잠근 뒤 조건을 다시 확인하고 잠긴 주문만 옮긴다.
+ * 배달은 보관된 주문의 delivery_id 가 계속 참조하므로 옮기거나 삭제하지 않는다.
+ * 예약 실행은 전용 스레드에서 수행하여 chunk 사이 대기가 공유 스케줄러 스레드를 잡지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.archive.enabled", havingValue = "true")
+public class OrderArchiver {
+
+    private static final String ORDER_COLUMNS = "id, user_id, shop_id, delivery_id, status,"
+            + " refund_requested_at, refund_completed_at, completed_at, canceled_at,"
+            + " created_at, updated_at, deleted_at";
+
+    private static final String ORDER_ITEM_COLUMNS = "id, order_id, item_id, price, quantity, created_at, updated_at";
+
+    // 보관 대상 조건, 후보 조회와 잠금 조회에서 같이 사용
+    private static final String ARCHIVABLE = "((o.status in ('COMPLETED', 'REFUND_COMPLETED') and o.completed_at < :cutoff)"
+            + " or (o.status = 'CANCELED' and o.canceled_at < :cutoff))"
+            + " and not exists (select 1 from review r where r.order_id = o.id)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int minAgeDays;
+    private final int chunkSize;
+    private final int rowsPerSecond;
+    private final ExecutorService executor;
+    // 이전 예약 실행이 아직 끝나지 않았으면 이번 실행은 건너뜀
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrderArchiver(
+            PlatformTransactionManager transactionManager,
+            @Value("${order.archive.min-age-days:90}") int minAgeDays,
+            @Value("${order.archive.chunk-size:500}") int chunkSize,
+            @Value("${order.archive.rows-per-second:5000}") int rowsPerSecond) {
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minAgeDays = minAgeDays;
+        this.chunkSize = chunkSize;
+        this.rowsPerSecond = rowsPerSecond;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 진행 중인 chunk 는 커밋되고, 대기 중이던 throttle 이 인터럽트되어 멈춤
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(cron = "${order.archive.cron:0 0 4 * * *}")
+    public void archiveScheduled() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("previous order archive is still running, skipped");
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                long archived = archive(LocalDateTime.now().minusDays(minAgeDays));
+                log.info("archived {} orders", archived);
+            } catch (RuntimeException e) {
+                log.error("order archive failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * @param cutoff 이 시각 이전에 완료 혹은 취소된 주문을 옮김
+     * @return 옮겨진 주문 수
+     */
+    public long archive(LocalDateTime cutoff) {
+        long startNanos = System.nanoTime();
+        long lastId = 0;
+        long archivedOrders = 0;
+        long movedRows = 0;
+
+        while (true) {
+            long afterId = lastId;
+            ChunkResult chunk = transactionTemplate.execute(status -> archiveChunk(afterId, cutoff));
+            if (chunk == null || chunk.lastId() == null) {
+                return archivedOrders;
+            }
+
+            lastId = chunk.lastId();
+            archivedOrders += chunk.orders();
+            movedRows += chunk.rows();
+            throttle(movedRows, startNanos);
+        }
+    }
+
+    private ChunkResult archiveChunk(long afterId, LocalDateTime cutoff) {
+        @SuppressWarnings("unchecked")
+        List<Number> candidateIds = entityManager.createNativeQuery(
+                        "select o.id from orders o"
+                                + " where o.id > :afterId and " + ARCHIVABLE
+                                + " order by o.id")
+                .setParameter("afterId", afterId)
+                .setParameter("cutoff", cutoff)
+                .setMaxResults(chunkSize)
+                .getResultList();
+        if (candidateIds.isEmpty()) {
+            return new ChunkResult(null, 0, 0);
+        }
+
+        long lastCandidateId = candidateIds.get(candidateIds.size() - 1).longValue();
+
+        // 후보를 잠그면서 조건을 다시 확인, 그 사이 환불 요청이나 리뷰 작성이 된 주문은 제외
+        @SuppressWarnings("unchecked")
+        List<Number> locked = entityManager.createNativeQuery(
+                        "select o.id from orders o"
+                                + " where o.id in (:ids) and " + ARCHIVABLE
+                                + " for update")
+                .setParameter("ids", candidateIds.stream().map(Number::longValue).toList())
+                .setParameter("cutoff", cutoff)
+                .getResultList();
+        if (locked.isEmpty()) {
+            return new ChunkResult(lastCandidateId, 0, 0);
+        }
+
+        List<Long> ids = locked.stream().map(Number::longValue).toList();
+
+        int items = entityManager.createNativeQuery(
+                        "insert into order_item_archive (" + ORDER_ITEM_COLUMNS + ")"
+                                + " select " + ORDER_ITEM_COLUMNS + " from order_item where order_id in (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        int orders = entityManager.createNativeQuery(
+                        "insert into orders_archive (" + ORDER_COLUMNS + ", archived_at)"
+                                + " select " + ORDER_COLUMNS + ", :now from orders where id in (:ids)")
+                .setParameter("ids", ids)
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+
+        // 주문 아이템이 주문을 참조하므로 아이템, 주문 순으로 삭제
+        entityManager.createNativeQuery("delete from order_item where order_id in (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createNativeQuery("delete from orders where id in (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        return new ChunkResult(lastCandidateId, orders, orders + items);
+    }
+
+    // 지금까지 옮긴 row 수를 예산으로 나눈 시간보다 빨리 진행되었다면 그 차이만큼 대기
+    private void throttle(long movedRows, long startNanos) {
+        long expectedMillis = movedRows * 1000 / rowsPerSecond;
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        if (expectedMillis <= elapsedMillis) {
+            return;
+        }
+
+        try {
+            Thread.sleep(expectedMillis - elapsedMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record ChunkResult(Long lastId, int orders, int rows) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.domain.order.dto.OrderStatusEvent;
+
+import java.util.List;
+
+/**
+ * outbox 에 쌓인 주문 상태 이벤트를 외부로 발행한다.
+ * 예외를 던지면 해당 batch 는 outbox 에 남아 다음 relay 때 다시 발행되므로 consumer 는 eventId 로 중복을 걸러내야 한다.
+ */
+public interface OrderEventPublisher {
+
+    /**
+     * @param events 발생 순서대로 정렬된 이벤트 목록
+     */
+    void publish(List<OrderStatusEvent> events);
+}
@@ -0,0 +1,37 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+
+import java.util.Arrays;
+
+public enum OrderExportFormat {
+
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    OrderExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+     */
+    public static OrderExportFormat of(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(extension))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMsg.UNSUPPORTED_EXPORT_FORMAT + extension));
+    }
+}
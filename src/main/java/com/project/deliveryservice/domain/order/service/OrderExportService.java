@@ -0,0 +1,130 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.order.dto.OrderExportRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 기간 내 주문을 주문 아이템 단위로 스트리밍하여 내보낸다.
+ * forward-only 커서를 고정된 fetch size 로 읽고 persistence context 를 주기적으로 비우므로
+ * 내보내는 주문 수와 관계 없이 메모리 사용량이 일정하다.
+ * 주문 테이블의 주문을 생성 시각 순으로 모두 내보낸 뒤 보관 테이블의 주문을 이어서 내보낸다.
+ * 기간 조건은 (createdAt, id) 인덱스로 범위 조회하며, 식별자 범위로 바꾸지 않으므로 Snowflake 도입 전의 주문도 포함된다.
+ * 커서는 내보내기 전체에 걸친 하나의 읽기 전용 트랜잭션에서 열리므로, 느린 클라이언트가 커넥션과 스냅샷을 오래 잡지 않도록
+ * 트랜잭션은 order.export.timeout-seconds 를 넘으면 중단된다.
+ */
+@Service
+public class OrderExportService {
+
+    private static final String LIVE_QUERY = "select new com.project.deliveryservice.domain.order.dto.OrderExportRow(" +
+            "o.id, o.createdAt, o.status, o.user.id, o.shop.id, i.id, i.name, oi.quantity, oi.price)" +
+            " from OrderItem oi join oi.order o join oi.item i" +
+            " where o.createdAt >= :from and o.createdAt < :to" +
+            " order by o.createdAt, o.id, oi.id";
+
+    private static final String ARCHIVE_QUERY = "select new com.project.deliveryservice.domain.order.dto.OrderExportRow(" +
+            "o.id, o.createdAt, o.status, o.userId, o.shopId, i.id, i.name, oi.quantity, oi.price)" +
+            " from OrderItemArchive oi join OrderArchive o on o.id = oi.orderId join Item i on i.id = oi.itemId" +
+            " where o.createdAt >= :from and o.createdAt < :to" +
+            " order by o.createdAt, o.id, oi.id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final int clearInterval;
+    private final int timeoutSeconds;
+
+    public OrderExportService(
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${order.export.fetch-size:1000}") int fetchSize,
+            @Value("${order.export.clear-interval:1000}") int clearInterval,
+            @Value("${order.export.timeout-seconds:600}") int timeoutSeconds) {
+
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // 쿼리 실행에 적용되는 제한, 커서를 읽는 동안은 stream 에서 직접 확인
+        this.transactionTemplate.setTimeout(timeoutSeconds);
+        this.fetchSize = fetchSize;
+        this.clearInterval = clearInterval;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    /**
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @return 내보낸 행 수
+     */
+    public long export(LocalDate from, LocalDate to, OrderExportFormat format, OutputStream outputStream) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException(ErrorMsg.INVALID_EXPORT_RANGE);
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        OrderExportWriter writer = new OrderExportWriter(format, outputStream, objectMapper);
+        long deadline = System.nanoTime() + timeoutSeconds * 1_000_000_000L;
+
+        Long rows = transactionTemplate.execute(status -> {
+            try {
+                writer.writeHeader();
+                long written = stream(LIVE_QUERY, start, end, writer, deadline);
+                written += stream(ARCHIVE_QUERY, start, end, writer, deadline);
+                writer.flush();
+                return written;
+            } catch (IOException e) {
+                // 클라이언트가 연결을 끊은 경우 커서를 닫고 트랜잭션을 종료
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    private long stream(String query, LocalDateTime start, LocalDateTime end, OrderExportWriter writer,
+                        long deadline) throws IOException {
+        Session session = entityManager.unwrap(Session.class);
+        long written = 0;
+
+        try (ScrollableResults<OrderExportRow> rows = session.createQuery(query, OrderExportRow.class)
+                .setParameter("from", start)
+                .setParameter("to", end)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            while (rows.next()) {
+                writer.write(rows.get());
+                if (++written % clearInterval == 0) {
+                    session.clear();
+                    writer.flush();
+                    if (System.nanoTime() - deadline > 0) {
+                        throw new TransactionTimedOutException(ErrorMsg.EXPORT_TIMED_OUT);
+                    }
+                }
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deliveryservice.domain.order.dto.OrderExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 내보내기 행을 CSV 혹은 NDJSON 으로 출력 스트림에 바로 쓴다. 행을 모아두지 않으므로 메모리 사용량은 버퍼 크기로 고정된다.
+ */
+public class OrderExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "order_id,created_at,status,user_id,shop_id,item_id,item_name,quantity,price";
+
+    private final OrderExportFormat format;
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+
+    public OrderExportWriter(OrderExportFormat format, OutputStream outputStream, ObjectMapper objectMapper) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.objectMapper = objectMapper;
+    }
+
+    public void writeHeader() throws IOException {
+        if (format == OrderExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    public void write(OrderExportRow row) throws IOException {
+        if (format == OrderExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(row));
+        } else {
+            writer.write(String.valueOf(row.getOrderId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getCreatedAt()));
+            writer.write(',');
+            writer.write(row.getStatus().name());
+            writer.write(',');
+            writer.write(String.valueOf(row.getUserId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getShopId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getItemId()));
+            writer.write(',');
+            writeCsvField(row.getItemName());
+            writer.write(',');
+            writer.write(Integer.toString(row.getQuantity()));
+            writer.write(',');
+            writer.write(Integer.toString(row.getPrice()));
+        }
+        writer.write('\n');
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    // 구분자, 따옴표, 개행이 포함된 값은 따옴표로 감싸고 따옴표는 두 번 씀 (RFC 4180)
+    private void writeCsvField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,216 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.common.exception.TooManyRequestsException;
+import com.project.deliveryservice.domain.order.dto.OrderInfo;
+import com.project.deliveryservice.domain.order.dto.OrderIntakeStats;
+import com.project.deliveryservice.domain.order.dto.OrderRequest;
+import com.project.deliveryservice.domain.order.entity.Order;
+import com.project.deliveryservice.domain.user.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증이 끝난 주문을 대기열에 모아 여러 건을 하나의 트랜잭션으로 커밋한다.
+ * 주문 요청 스레드는 주문별 CompletableFuture 로 커밋 결과를 기다리며, 대기열이 가득 차면 즉시 거절된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.group-commit.enabled", havingValue = "true")
+public class OrderGroupCommitWriter {
+
+    private final OrderService orderService;
+
+    private final BlockingQueue<PendingOrder> queue;
+    private final int queueCapacity;
+    private final int writerThreads;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+
+    private final List<Thread> writers = new ArrayList<>();
+    private volatile boolean running;
+
+    // metrics
+    private final LongAdder committedBatches = new LongAdder();
+    private final LongAdder committedOrders = new LongAdder();
+    private final LongAdder commitNanos = new LongAdder();
+    private final AtomicInteger maxCommittedBatchSize = new AtomicInteger();
+    private final AtomicLong maxCommitNanos = new AtomicLong();
+    private final LongAdder rejectedOrders = new LongAdder();
+    private final LongAdder failedOrders = new LongAdder();
+
+    public OrderGroupCommitWriter(
+            OrderService orderService,
+            @Value("${order.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${order.group-commit.writer-threads:2}") int writerThreads,
+            @Value("${order.group-commit.max-batch-size:100}") int maxBatchSize,
+            @Value("${order.group-commit.linger-ms:5}") long lingerMillis) {
+
+        this.orderService = orderService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.writerThreads = writerThreads;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < writerThreads; i++) {
+            Thread writer = new Thread(this::runWriter, "order-group-commit-" + i);
+            writer.setDaemon(true);
+            writer.start();
+            writers.add(writer);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // 새 주문은 받지 않고 대기 중인 주문은 모두 커밋한 뒤 종료
+        running = false;
+        for (Thread writer : writers) {
+            writer.join();
+        }
+    }
+
+    /**
+     * @param user 주문자
+     * @param request 커밋에 실패했을 때 단건으로 재시도하기 위한 원본 요청
+     * @param order prepareOrder 로 검증이 끝난 주문
+     * @return 주문이 커밋되면 완료되는 future
+     * @throws TooManyRequestsException 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<OrderInfo> submit(User user, OrderRequest request, Order order) {
+        PendingOrder pending = new PendingOrder(user, request, order, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            rejectedOrders.increment();
+            throw new TooManyRequestsException(ErrorMsg.ORDER_QUEUE_FULL);
+        }
+        return pending.future();
+    }
+
+    private void runWriter() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                // 이미 꺼낸 주문과 대기열에 남은 주문은 더 기다리지 않고 커밋한 뒤 interrupt 상태를 복원하고 종료
+                log.warn("order group commit writer interrupted", e);
+                commit(batch);
+                drainAndCommit(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("order group commit writer failed", e);
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fillBatch(List<PendingOrder> batch) throws InterruptedException {
+        // batch 가 가득 차거나 linger 시간이 지날 때까지 주문을 모음
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void drainAndCommit(List<PendingOrder> batch) {
+        batch.clear();
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        long start = System.nanoTime();
+        List<OrderInfo> orderInfos;
+        try {
+            orderInfos = orderService.saveOrders(batch.stream().map(PendingOrder::order).toList());
+        } catch (RuntimeException e) {
+            // 한 주문 때문에 batch 전체가 실패하지 않도록 주문별 트랜잭션으로 재시도
+            log.warn("group commit of {} orders failed, retrying one by one", batch.size(), e);
+            batch.forEach(this::commitOne);
+            return;
+        }
+        recordCommit(batch.size(), System.nanoTime() - start);
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future().complete(orderInfos.get(i));
+        }
+    }
+
+    private void commitOne(PendingOrder pending) {
+        long start = System.nanoTime();
+        try {
+            // 실패한 트랜잭션에서 식별자가 할당된 Order 는 재사용하지 않고 요청으로부터 다시 생성
+            OrderInfo orderInfo = orderService.createOrder(pending.user(), pending.request());
+            recordCommit(1, System.nanoTime() - start);
+            pending.future().complete(orderInfo);
+        } catch (RuntimeException e) {
+            failedOrders.increment();
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    private void recordCommit(int batchSize, long elapsedNanos) {
+        committedBatches.increment();
+        committedOrders.add(batchSize);
+        commitNanos.add(elapsedNanos);
+        maxCommittedBatchSize.accumulateAndGet(batchSize, Math::max);
+        maxCommitNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    public OrderIntakeStats getStats() {
+        long batches = committedBatches.sum();
+        long orders = committedOrders.sum();
+        return OrderIntakeStats.builder()
+                .queueDepth(queue.size())
+                .queueCapacity(queueCapacity)
+                .committedBatches(batches)
+                .committedOrders(orders)
+                .averageBatchSize(batches == 0 ? 0 : (double) orders / batches)
+                .maxBatchSize(maxCommittedBatchSize.get())
+                .averageCommitMillis(batches == 0 ? 0 : commitNanos.sum() / 1_000_000.0 / batches)
+                .maxCommitMillis(maxCommitNanos.get() / 1_000_000.0)
+                .rejectedOrders(rejectedOrders.sum())
+                .failedOrders(failedOrders.sum())
+                .build();
+    }
+
+    private record PendingOrder(User user, OrderRequest request, Order order, CompletableFuture<OrderInfo> future) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deliveryservice.domain.delivery.service.DeliveryService;
+import com.project.deliveryservice.domain.item.entity.Item;
+import com.project.deliveryservice.domain.order.dto.OrderImportError;
+import com.project.deliveryservice.domain.order.dto.OrderImportRequest;
+import com.project.deliveryservice.domain.order.dto.OrderImportResult;
+import com.project.deliveryservice.domain.order.dto.OrderItemRequest;
+import com.project.deliveryservice.domain.order.dto.OrderRequest;
+import com.project.deliveryservice.domain.order.entity.Order;
+import com.project.deliveryservice.domain.order.entity.OrderItem;
+import com.project.deliveryservice.domain.user.entity.User;
+import com.project.deliveryservice.domain.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON 으로 전달된 주문들을 chunk 단위로 등록한다.
+ * chunk 마다 사용자와 아이템을 각각 한 번의 쿼리로 조회해 검증하고, 검증을 통과한 주문들을 하나의 트랜잭션으로 저장한다.
+ * chunk 저장에 실패하면 해당 chunk 의 주문을 한 건씩 다시 저장하여 실패한 주문만 오류로 보고한다.
+ */
+@Slf4j
+@Service
+public class OrderImportService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final OrderService orderService;
+    private final OrderItemService orderItemService;
+    private final DeliveryService deliveryService;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public OrderImportService(
+            OrderService orderService,
+            OrderItemService orderItemService,
+            DeliveryService deliveryService,
+            UserService userService,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${order.import.chunk-size:200}") int chunkSize) {
+
+        this.orderService = orderService;
+        this.orderItemService = orderItemService;
+        this.deliveryService = deliveryService;
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    public OrderImportResult importOrders(InputStream inputStream) throws IOException {
+        List<OrderImportError> errors = new ArrayList<>();
+        List<Record> chunk = new ArrayList<>(chunkSize);
+        long total = 0;
+        long imported = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            total++;
+
+            Record record = parse(lineNumber, line, errors);
+            if (record == null) {
+                continue;
+            }
+            chunk.add(record);
+            if (chunk.size() == chunkSize) {
+                imported += importChunk(chunk, errors);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += importChunk(chunk, errors);
+        }
+
+        return OrderImportResult.builder()
+                .total(total)
+                .imported(imported)
+                .errors(errors)
+                .build();
+    }
+
+    private Record parse(long lineNumber, String line, List<OrderImportError> errors) {
+        OrderImportRequest request;
+        try {
+            request = objectMapper.readValue(line, OrderImportRequest.class);
+        } catch (JsonProcessingException e) {
+            errors.add(new OrderImportError(lineNumber, "malformed json"));
+            return null;
+        }
+
+        Set<ConstraintViolation<OrderImportRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            errors.add(new OrderImportError(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "))));
+            return null;
+        }
+        return new Record(lineNumber, request);
+    }
+
+    private int importChunk(List<Record> chunk, List<OrderImportError> errors) {
+        // chunk 의 사용자와 아이템을 한 번씩 조회
+        Map<Long, User> users = userService.getUsersByIds(chunk.stream()
+                .map(record -> record.request().getUserId())
+                .collect(Collectors.toSet()));
+        Map<Long, Item> items = orderItemService.getItemsByIds(chunk.stream()
+                .flatMap(record -> record.request().getOrder().getOrderItems().stream())
+                .map(OrderItemRequest::getItemId)
+                .collect(Collectors.toSet()));
+
+        List<Record> valid = new ArrayList<>(chunk.size());
+        for (Record record : chunk) {
+            try {
+                toOrder(record, users, items);
+                valid.add(record);
+            } catch (IllegalArgumentException e) {
+                errors.add(new OrderImportError(record.line(), e.getMessage()));
+            }
+        }
+
+        int imported = save(valid, users, items, errors);
+        // 요청 동안 열려 있는 persistence context 에 저장한 주문이 쌓이지 않도록 비움
+        entityManager.clear();
+        return imported;
+    }
+
+    private int save(List<Record> records, Map<Long, User> users, Map<Long, Item> items, List<OrderImportError> errors) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            orderService.saveOrders(records.stream()
+                    .map(record -> toOrder(record, users, items))
+                    .toList());
+            return records.size();
+        } catch (RuntimeException e) {
+            log.warn("failed to save order chunk, retrying one by one", e);
+        }
+
+        // 실패한 chunk 의 Order 는 식별자가 할당되었을 수 있으므로 새로 생성해 한 건씩 저장
+        int imported = 0;
+        for (Record record : records) {
+            try {
+                orderService.saveOrders(List.of(toOrder(record, users, items)));
+                imported++;
+            } catch (RuntimeException e) {
+                errors.add(new OrderImportError(record.line(), e.getMessage()));
+            }
+        }
+        return imported;
+    }
+
+    /**
+     * @throws IllegalArgumentException 사용자나 아이템이 존재하지 않거나 주문이 유효하지 않은 경우
+     */
+    private Order toOrder(Record record, Map<Long, User> users, Map<Long, Item> items) {
+        User user = users.get(record.request().getUserId());
+        if (user == null) {
+            throw new IllegalArgumentException("user not exist");
+        }
+
+        OrderRequest request = record.request().getOrder();
+        List<OrderItem> orderItems = orderItemService.createFromRequests(request.getOrderItems(), items);
+        orderItemService.throwIfExceedMaxQuantity(orderItems);
+
+        return new Order(user,
+                orderItems.get(0).getItem().getShop(),
+                deliveryService.createDelivery(request.getCity(), request.getStreet(), request.getZipCode()),
+                orderItems);
+    }
+
+    private record Record(long line, OrderImportRequest request) {
+    }
+}
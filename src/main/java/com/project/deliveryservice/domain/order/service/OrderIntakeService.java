@@ -0,0 +1,82 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.common.idempotency.IdempotentExecutor;
+import com.project.deliveryservice.domain.order.dto.OrderInfo;
+import com.project.deliveryservice.domain.order.dto.OrderRequest;
+import com.project.deliveryservice.domain.order.entity.Order;
+import com.project.deliveryservice.domain.user.entity.User;
+import com.project.deliveryservice.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Service
+@RequiredArgsConstructor
+public class OrderIntakeService {
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
+    private final OrderService orderService;
+    private final UserService userService;
+    private final IdempotentExecutor idempotentExecutor;
+    // order.group-commit.enabled=true 인 경우에만 존재
+    private final Optional<OrderGroupCommitWriter> groupCommitWriter;
+
+    /**
+     * 주문을 접수한다. group commit 이 활성화되어 있으면 검증만 수행한 뒤 대기열에 넣고,
+     * 그렇지 않으면 요청 스레드에서 바로 저장한다.
+     *
+     * @param email 주문자 이메일
+     * @param request 주문 요청
+     * @return 주문이 저장되면 완료되는 future
+     */
+    public CompletableFuture<OrderInfo> submit(String email, OrderRequest request) {
+        return submit(email, request, null);
+    }
+
+    /**
+     * Idempotency-Key 가 주어지면 같은 사용자의 같은 키로 이미 접수된 주문의 응답을 DB 조회 없이 돌려준다.
+     * 키를 사용하는 요청은 응답이 저장될 때까지 기다려야 하므로 group commit 대기열의 결과를 요청 스레드에서 기다린다.
+     *
+     * @param idempotencyKey 클라이언트가 보낸 멱등 키, 없으면 null
+     */
+    public CompletableFuture<OrderInfo> submit(String email, OrderRequest request, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return accept(email, request);
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(ErrorMsg.IDEMPOTENCY_KEY_TOO_LONG);
+        }
+
+        // 다른 사용자가 같은 키를 사용해도 응답이 섞이지 않도록 사용자 범위로 한정
+        String scopedKey = email + ":" + idempotencyKey;
+        return CompletableFuture.completedFuture(
+                idempotentExecutor.execute(scopedKey, OrderInfo.class, () -> join(accept(email, request))));
+    }
+
+    private CompletableFuture<OrderInfo> accept(String email, OrderRequest request) {
+        User user = userService.getUserOrThrowByEmail(email);
+
+        if (groupCommitWriter.isEmpty()) {
+            return CompletableFuture.completedFuture(orderService.createOrder(user, request));
+        }
+
+        Order order = orderService.prepareOrder(user, request);
+        return groupCommitWriter.get().submit(user, request, order);
+    }
+
+    private OrderInfo join(CompletableFuture<OrderInfo> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
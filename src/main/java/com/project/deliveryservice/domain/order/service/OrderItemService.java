@@ -1,5 +1,6 @@
 package com.project.deliveryservice.domain.order.service;
 
+import com.project.deliveryservice.domain.item.entity.Item;
 import com.project.deliveryservice.domain.item.repository.ItemRepository;
 import com.project.deliveryservice.domain.order.dto.OrderItemRequest;
 import com.project.deliveryservice.domain.order.entity.OrderItem;
@@ -7,7 +8,13 @@ import com.project.deliveryservice.domain.order.repository.OrderItemRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -18,16 +25,65 @@ public class OrderItemService {
     private final OrderItemRepository orderItemRepository;
     private final ItemRepository itemRepository;
 
-    public OrderItem verifyAndCreateFromRequest(OrderItemRequest request) {
+    /**
+     * 주문 요청에 포함된 모든 itemId 를 한 번의 쿼리로 조회하여 검증한 뒤 OrderItem 을 생성한다.
+     * 가격은 클라이언트가 보낸 값이 아닌 Item 의 가격을 사용한다.
+     *
+     * @param requests 주문 아이템 요청 목록
+     * @return Item 참조와 가격이 채워진 OrderItem 목록
+     */
+    public List<OrderItem> verifyAndCreateFromRequests(List<OrderItemRequest> requests) {
+        // itemId 일괄 조회
+        Set<Long> itemIds = requests.stream()
+                .map(OrderItemRequest::getItemId)
+                .collect(Collectors.toSet());
+
+        return createFromRequests(requests, getItemsByIds(itemIds));
+    }
+
+    /**
+     * @return 존재하는 Item 만 담긴 itemId 를 key 로 하는 map, Item 의 가게는 초기화되어 있음
+     */
+    public Map<Long, Item> getItemsByIds(Collection<Long> itemIds) {
+        return itemRepository.findAllWithShopByIds(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+    }
+
+    /**
+     * 이미 조회된 Item 으로부터 OrderItem 을 생성한다.
+     *
+     * @param requests 주문 아이템 요청 목록
+     * @param items itemId 를 key 로 하는 조회된 Item
+     * @return Item 참조와 가격이 채워진 OrderItem 목록
+     */
+    public List<OrderItem> createFromRequests(List<OrderItemRequest> requests, Map<Long, Item> items) {
         // itemId 검증
-        itemRepository.findById(request.getItemId())
-                .orElseThrow(() -> new IllegalArgumentException("item not exist"));
+        List<Item> orderedItems = requests.stream()
+                .map(request -> items.get(request.getItemId()))
+                .toList();
+        if (orderedItems.contains(null))
+            throw new IllegalArgumentException("item not exist");
+
+        // 한 주문에는 한 가게의 아이템만 담을 수 있음
+        long shopCount = orderedItems.stream()
+                .map(item -> item.getShop() == null ? null : item.getShop().getId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .count();
+        if (shopCount > 1)
+            throw new IllegalArgumentException("items from different shops");
 
         // OrderItemRequest -> OrderItem 생성
-        return OrderItem.builder()
-                .price(request.getPrice())
-                .quantity(request.getQuantity())
-                .build();
+        return requests.stream()
+                .map(request -> {
+                    Item item = items.get(request.getItemId());
+                    return OrderItem.builder()
+                            .item(item)
+                            .price(item.getPrice())
+                            .quantity(request.getQuantity())
+                            .build();
+                })
+                .toList();
     }
 
     public void throwIfExceedMaxQuantity(List<OrderItem> orderItems) {
@@ -0,0 +1,64 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.domain.order.dto.OrderStatusEvent;
+import com.project.deliveryservice.domain.order.entity.OrderStatusOutbox;
+import com.project.deliveryservice.domain.order.repository.OrderStatusOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * outbox 에 쌓인 이벤트를 식별자 순서대로 batch 단위로 발행한다.
+ * 발행에 성공한 batch 만 같은 트랜잭션에서 삭제하므로 재시작되어도 이벤트가 유실되지 않는다. (at-least-once)
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderOutboxRelay {
+
+    private final OrderStatusOutboxRepository outboxRepository;
+    private final OrderEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OrderOutboxRelay(
+            OrderStatusOutboxRepository outboxRepository,
+            OrderEventPublisher publisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${order.outbox.relay.batch-size:500}") int batchSize) {
+
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay.interval-ms:200}")
+    public void relay() {
+        // batch 가 가득 찼다면 밀린 이벤트가 더 있으므로 바로 다음 batch 를 처리
+        Integer relayed;
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+        } while (relayed != null && relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        List<OrderStatusOutbox> batch = outboxRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        publisher.publish(batch.stream()
+                .map(OrderStatusEvent::of)
+                .toList());
+        outboxRepository.deleteAllByIdInBatch(batch.stream()
+                .map(OrderStatusOutbox::getId)
+                .toList());
+        return batch.size();
+    }
+}
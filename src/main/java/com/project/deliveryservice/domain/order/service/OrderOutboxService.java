@@ -0,0 +1,37 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.entity.OrderStatusOutbox;
+import com.project.deliveryservice.domain.order.repository.OrderStatusOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxService {
+
+    private final OrderStatusOutboxRepository outboxRepository;
+
+    /**
+     * 주문 상태 변경 이벤트를 outbox 에 기록한다. 주문을 변경하는 트랜잭션 안에서 호출되어야 한다.
+     *
+     * @param orderIds 상태가 변경된 주문 아이디 목록
+     * @param status 변경된 상태
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Collection<Long> orderIds, OrderStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.saveAll(orderIds.stream()
+                .map(orderId -> OrderStatusOutbox.builder()
+                        .orderId(orderId)
+                        .status(status)
+                        .occurredAt(now)
+                        .build())
+                .toList());
+    }
+}
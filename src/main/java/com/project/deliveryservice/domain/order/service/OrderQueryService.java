@@ -0,0 +1,196 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.delivery.service.DeliveryEtaEstimator;
+import com.project.deliveryservice.domain.order.dto.OrderInfo;
+import com.project.deliveryservice.domain.order.dto.OrderItemInfo;
+import com.project.deliveryservice.domain.order.dto.OrderItemSummary;
+import com.project.deliveryservice.domain.order.dto.OrderSlice;
+import com.project.deliveryservice.domain.order.dto.OrderSummary;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.repository.OrderArchiveRepository;
+import com.project.deliveryservice.domain.order.repository.OrderItemArchiveRepository;
+import com.project.deliveryservice.domain.order.repository.OrderItemRepository;
+import com.project.deliveryservice.domain.order.repository.OrderRepository;
+import com.project.deliveryservice.domain.user.dto.UserInfo;
+import com.project.deliveryservice.domain.user.entity.User;
+import com.project.deliveryservice.domain.user.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class OrderQueryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 주문 목록 정렬 순서 (최신순)
+    private static final Comparator<OrderSummary> LATEST_FIRST = Comparator
+            .comparing(OrderSummary::getCreatedAt)
+            .thenComparing(OrderSummary::getOrderId)
+            .reversed();
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderItemArchiveRepository orderItemArchiveRepository;
+    private final UserService userService;
+    private final DeliveryEtaEstimator deliveryEtaEstimator;
+    // 보관이 꺼져 있으면 보관 테이블은 조회하지 않음
+    private final boolean archiveEnabled;
+    // 이 기간보다 오래된 주문은 보관 테이블에 있을 수 있음
+    private final int archiveMinAgeDays;
+
+    public OrderQueryService(OrderRepository orderRepository,
+                             OrderItemRepository orderItemRepository,
+                             OrderArchiveRepository orderArchiveRepository,
+                             OrderItemArchiveRepository orderItemArchiveRepository,
+                             UserService userService,
+                             DeliveryEtaEstimator deliveryEtaEstimator,
+                             @Value("${order.archive.enabled:false}") boolean archiveEnabled,
+                             @Value("${order.archive.min-age-days:90}") int archiveMinAgeDays) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.orderItemArchiveRepository = orderItemArchiveRepository;
+        this.userService = userService;
+        this.deliveryEtaEstimator = deliveryEtaEstimator;
+        this.archiveEnabled = archiveEnabled;
+        this.archiveMinAgeDays = archiveMinAgeDays;
+    }
+
+    /**
+     * 주문을 조회한다. 주문 테이블에 없고 보관이 켜져 있으면 보관 테이블에서 조회한다.
+     *
+     * @throws IllegalArgumentException 사용자의 주문이 존재하지 않는 경우
+     */
+    public OrderInfo getOrder(String email, long orderId) {
+        User user = userService.getUserOrThrowByEmail(email);
+
+        Optional<OrderSummary> summary = orderRepository.findSummaryByIdAndUserId(orderId, user.getId());
+        Set<Long> archivedIds = Set.of();
+        if (summary.isEmpty() && archiveEnabled) {
+            summary = orderArchiveRepository.findSummaryByIdAndUserId(orderId, user.getId());
+            archivedIds = Set.of(orderId);
+        }
+
+        return toOrderInfos(List.of(summary.orElseThrow(() -> new IllegalArgumentException(ErrorMsg.ORDER_NOT_EXIST))),
+                archivedIds, UserInfo.of(user)).get(0);
+    }
+
+    /**
+     * 사용자의 주문을 최신순으로 조회한다.
+     * 페이지 크기와 관계 없이 사용자, 주문, 주문 아이템을 각각 한 번의 쿼리로 조회한다.
+     * 보관 기간보다 오래된 구간에 걸친 페이지는 보관 테이블의 주문과 주문 아이템을 한 번씩 더 조회한다.
+     *
+     * @param email 주문자 이메일
+     * @param cursorCreatedAt 이전 페이지 마지막 주문의 생성 시각, 첫 페이지는 null
+     * @param cursorId 이전 페이지 마지막 주문의 아이디, 첫 페이지는 null
+     * @param size 페이지 크기
+     */
+    public OrderSlice getOrders(String email, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        User user = userService.getUserOrThrowByEmail(email);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        boolean firstPage = cursorCreatedAt == null || cursorId == null;
+        List<OrderSummary> summaries = firstPage
+                ? orderRepository.findSummariesByUserId(user.getId(), limit)
+                : orderRepository.findSummariesByUserIdBefore(user.getId(), cursorCreatedAt, cursorId, limit);
+
+        // 페이지가 보관 기간보다 오래된 구간에 걸친 경우에만 보관 테이블을 같은 커서로 조회해 합침
+        Set<Long> archivedIds = new HashSet<>();
+        if (mayOverlapArchive(summaries, pageSize)) {
+            List<OrderSummary> archived = firstPage
+                    ? orderArchiveRepository.findSummariesByUserId(user.getId(), limit)
+                    : orderArchiveRepository.findSummariesByUserIdBefore(user.getId(), cursorCreatedAt, cursorId, limit);
+            archived.forEach(summary -> archivedIds.add(summary.getOrderId()));
+            summaries = merge(summaries, archived, pageSize + 1);
+        }
+
+        boolean hasNext = summaries.size() > pageSize;
+        if (hasNext) {
+            summaries = summaries.subList(0, pageSize);
+        }
+        if (summaries.isEmpty()) {
+            return new OrderSlice(List.of(), false, null, null);
+        }
+
+        List<OrderInfo> orders = toOrderInfos(summaries, archivedIds, UserInfo.of(user));
+        OrderSummary last = summaries.get(summaries.size() - 1);
+        return new OrderSlice(orders, hasNext, last.getCreatedAt(), last.getOrderId());
+    }
+
+    private boolean mayOverlapArchive(List<OrderSummary> summaries, int pageSize) {
+        if (!archiveEnabled) {
+            return false;
+        }
+        if (summaries.size() <= pageSize) {
+            return true;
+        }
+        LocalDateTime archiveHorizon = LocalDateTime.now().minusDays(archiveMinAgeDays);
+        return summaries.get(summaries.size() - 1).getCreatedAt().isBefore(archiveHorizon);
+    }
+
+    private List<OrderSummary> merge(List<OrderSummary> hot, List<OrderSummary> archived, int limit) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<OrderSummary> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(hot);
+        merged.addAll(archived);
+        merged.sort(LATEST_FIRST);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    private List<OrderInfo> toOrderInfos(List<OrderSummary> summaries, Set<Long> archivedIds, UserInfo user) {
+        List<Long> hotIds = new ArrayList<>();
+        List<Long> archivedOrderIds = new ArrayList<>();
+        for (OrderSummary summary : summaries) {
+            (archivedIds.contains(summary.getOrderId()) ? archivedOrderIds : hotIds).add(summary.getOrderId());
+        }
+
+        Map<Long, List<OrderItemInfo>> orderItems = new HashMap<>();
+        if (!hotIds.isEmpty()) {
+            orderItems.putAll(groupByOrder(orderItemRepository.findSummariesByOrderIds(hotIds)));
+        }
+        if (!archivedOrderIds.isEmpty()) {
+            orderItems.putAll(groupByOrder(orderItemArchiveRepository.findSummariesByOrderIds(archivedOrderIds)));
+        }
+
+        return summaries.stream()
+                .map(summary -> OrderInfo.of(summary, user,
+                        orderItems.getOrDefault(summary.getOrderId(), List.of()), estimateArrivalAt(summary)))
+                .toList();
+    }
+
+    // 배달 중인 주문만 도착 예정 시각을 계산, 조회 시 추가 쿼리 없이 projection 값만 사용
+    private LocalDateTime estimateArrivalAt(OrderSummary summary) {
+        if (summary.getStatus() != OrderStatus.REQUESTED && summary.getStatus() != OrderStatus.PROGRESS) {
+            return null;
+        }
+        return deliveryEtaEstimator.estimate(summary.getShopId(), summary.getShopZipcode(),
+                summary.getDeliveryZipcode(), summary.getCreatedAt(), summary.getPickupedAt());
+    }
+
+    private Map<Long, List<OrderItemInfo>> groupByOrder(List<OrderItemSummary> orderItems) {
+        return orderItems.stream()
+                .collect(Collectors.groupingBy(
+                        OrderItemSummary::getOrderId,
+                        Collectors.mapping(OrderItemInfo::of, Collectors.toList())));
+    }
+}
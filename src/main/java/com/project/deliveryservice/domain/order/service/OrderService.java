@@ -6,7 +6,9 @@ import com.project.deliveryservice.domain.order.dto.OrderInfo;
 import com.project.deliveryservice.domain.order.dto.OrderRequest;
 import com.project.deliveryservice.domain.order.entity.Order;
 import com.project.deliveryservice.domain.order.entity.OrderItem;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
 import com.project.deliveryservice.domain.order.repository.OrderRepository;
+import com.project.deliveryservice.domain.shop.entity.Shop;
 import com.project.deliveryservice.domain.user.entity.User;
 import com.project.deliveryservice.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -23,16 +25,32 @@ public class OrderService {
     private final DeliveryService deliveryService;
     private final UserService userService;
     private final OrderItemService orderItemService;
+    private final OrderOutboxService orderOutboxService;
 
     @Transactional
     public OrderInfo createOrder(long userId, OrderRequest request) {
         // userId 검증
         User user = userService.getUserOrThrowById(userId);
+        return createOrder(user, request);
+    }
 
-        // itemId 검증 후 OrderItem 생성
-        List<OrderItem> orderItems = request.getOrderItems().stream()
-                .map(orderItemService::verifyAndCreateFromRequest)
-                .toList();
+    @Transactional
+    public OrderInfo createOrder(User user, OrderRequest request) {
+        Order order = prepareOrder(user, request);
+        return saveOrders(List.of(order)).get(0);
+    }
+
+    /**
+     * 주문 요청을 검증하고 저장되지 않은 Order 를 생성한다.
+     *
+     * @param user 주문자
+     * @param request 주문 요청
+     * @return 주문 아이템과 배달 정보가 포함된 Order
+     */
+    @Transactional(readOnly = true)
+    public Order prepareOrder(User user, OrderRequest request) {
+        // itemId 일괄 검증 후 OrderItem 생성
+        List<OrderItem> orderItems = orderItemService.verifyAndCreateFromRequests(request.getOrderItems());
 
         // 주문 수량의 합이 MAX_QUANTITY 를 초과하면 에러 던짐
         orderItemService.throwIfExceedMaxQuantity(orderItems);
@@ -43,7 +61,30 @@ public class OrderService {
         );
 
         // 주문 생성
-        Order order = new Order(user, delivery, orderItems);
-        return OrderInfo.of(orderRepository.save(order));
+        return new Order(user, getShop(orderItems), delivery, orderItems);
+    }
+
+    /**
+     * 검증이 끝난 주문들과 주문 접수 이벤트를 하나의 트랜잭션으로 저장한다.
+     *
+     * @param orders prepareOrder 로 생성된 주문 목록
+     * @return 저장 순서대로 생성된 OrderInfo 목록
+     */
+    @Transactional
+    public List<OrderInfo> saveOrders(List<Order> orders) {
+        List<Order> saved = orderRepository.saveAll(orders);
+
+        // 주문 접수 이벤트를 같은 트랜잭션에서 outbox 에 기록
+        orderOutboxService.append(saved.stream().map(Order::getId).toList(), OrderStatus.REQUESTED);
+
+        return saved.stream()
+                .map(order -> OrderInfo.of(order, deliveryService.estimateArrivalAt(
+                        order.getShop(), order.getDelivery(), order.getCreatedAt())))
+                .toList();
+    }
+
+    private Shop getShop(List<OrderItem> orderItems) {
+        // 검증 단계에서 모든 아이템이 같은 가게임을 보장함
+        return orderItems.isEmpty() ? null : orderItems.get(0).getItem().getShop();
     }
 }
@@ -0,0 +1,82 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.common.exception.NotExistException;
+import com.project.deliveryservice.common.exception.StatusConflictException;
+import com.project.deliveryservice.domain.order.dto.OrderStatusResult;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.event.OrderStatusChangedEvent;
+import com.project.deliveryservice.domain.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class OrderStatusService {
+
+    private final OrderRepository orderRepository;
+    private final OrderOutboxService orderOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 주문 상태가 from 인 경우에만 to 로 변경한다.
+     *
+     * @throws IllegalArgumentException from 에서 to 로 변경할 수 없는 경우
+     * @throws NotExistException 주문이 없는 경우
+     * @throws StatusConflictException 주문 상태가 이미 from 이 아닌 경우
+     */
+    @Transactional
+    public OrderStatusResult changeStatus(long orderId, OrderStatus from, OrderStatus to) {
+        throwIfInvalidTransition(from, to);
+
+        LocalDateTime now = LocalDateTime.now();
+        if (orderRepository.updateStatus(orderId, from, to, now) == 0) {
+            // 변경에 실패한 경우에만 주문이 있는지 확인해 404 와 409 를 구분
+            if (!orderRepository.existsById(orderId)) {
+                throw new NotExistException(ErrorMsg.ORDER_NOT_EXIST);
+            }
+            throw new StatusConflictException(ErrorMsg.STATUS_CONFLICT);
+        }
+        orderOutboxService.append(List.of(orderId), to);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(List.of(orderId), to, now));
+
+        return new OrderStatusResult(to, List.of(orderId), List.of());
+    }
+
+    /**
+     * 가게의 주문들 중 상태가 from 인 주문들을 하나의 update 문으로 to 로 변경한다.
+     * 상태가 이미 변경된 주문은 건너뛴다.
+     *
+     * @throws IllegalArgumentException from 에서 to 로 변경할 수 없는 경우
+     */
+    @Transactional
+    public OrderStatusResult changeStatusInBulk(long shopId, List<Long> orderIds, OrderStatus from, OrderStatus to) {
+        throwIfInvalidTransition(from, to);
+
+        List<Long> distinctOrderIds = orderIds.stream().distinct().toList();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> changed = orderRepository.updateStatusInBulk(shopId, distinctOrderIds, from, to, now);
+        if (!changed.isEmpty()) {
+            orderOutboxService.append(changed, to);
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(changed, to, now));
+        }
+
+        Set<Long> changedSet = new HashSet<>(changed);
+        List<Long> skipped = distinctOrderIds.stream()
+                .filter(orderId -> !changedSet.contains(orderId))
+                .toList();
+        return new OrderStatusResult(to, changed, skipped);
+    }
+
+    private void throwIfInvalidTransition(OrderStatus from, OrderStatus to) {
+        if (!from.canTransitTo(to))
+            throw new IllegalArgumentException(ErrorMsg.INVALID_STATUS_TRANSITION + from + " to " + to);
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.deliveryservice.domain.sales.controller;
+
+import com.project.deliveryservice.domain.sales.dto.ShopDailySalesInfo;
+import com.project.deliveryservice.domain.sales.service.ShopSalesService;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+@RestController
+@RequestMapping("/api/shops/{shopId}/sales")
+@RequiredArgsConstructor
+public class ShopSalesController {
+
+    private final ShopSalesService shopSalesService;
+
+    // 기간을 지정하지 않으면 오늘 매출
+    @GetMapping
+    public ApiResponse<List<ShopDailySalesInfo>> getDailySales(
+            @PathVariable long shopId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate today = LocalDate.now();
+        return success(shopSalesService.getDailySales(shopId, from == null ? today : from, to == null ? today : to));
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.deliveryservice.domain.sales.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 단위 금액 projection
+ */
+@Getter
+@AllArgsConstructor
+public class OrderSalesAmount {
+
+    private Long orderId;
+
+    private Long shopId;
+
+    private Long amount;
+
+    private Long quantity;
+}
@@ -0,0 +1,22 @@
+package com.project.deliveryservice.domain.sales.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SalesReconcileResult {
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    // 다시 계산된 (가게, 일) 집계 수
+    private int rebuiltRows;
+
+    private long elapsedMillis;
+}
@@ -0,0 +1,27 @@
+package com.project.deliveryservice.domain.sales.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ShopDailySalesInfo {
+
+    private Long shopId;
+
+    private LocalDate salesDate;
+
+    private long orderCount;
+
+    private long revenue;
+
+    private long quantity;
+
+    private long refundCount;
+
+    private long refundAmount;
+}
@@ -0,0 +1,20 @@
+package com.project.deliveryservice.domain.sales.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재집계 시 원본 주문에서 가게 단위로 합산한 projection
+ */
+@Getter
+@AllArgsConstructor
+public class ShopSalesAggregate {
+
+    private Long shopId;
+
+    private Long count;
+
+    private Long amount;
+
+    private Long quantity;
+}
@@ -0,0 +1,53 @@
+package com.project.deliveryservice.domain.sales.entity;
+
+import com.project.deliveryservice.common.entity.BaseTimeEntity;
+import com.project.deliveryservice.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 가게별 일 매출 집계
+ * 주문 완료 건은 완료일, 환불 건은 환불 완료일 기준으로 집계한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "shop_daily_sales",
+        uniqueConstraints = @UniqueConstraint(name = "uk_shop_daily_sales", columnNames = {"shopId", "salesDate"}),
+        indexes = @Index(name = "idx_shop_daily_sales_date", columnList = "salesDate"))
+public class ShopDailySales extends BaseTimeEntity {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(nullable = false)
+    private Long shopId;
+
+    @Column(nullable = false)
+    private LocalDate salesDate;
+
+    // 완료된 주문 수
+    @Column(nullable = false)
+    private long orderCount;
+
+    // 완료된 주문 금액 합계
+    @Column(nullable = false)
+    private long revenue;
+
+    // 완료된 주문의 아이템 수량 합계
+    @Column(nullable = false)
+    private long quantity;
+
+    // 환불 완료된 주문 수
+    @Column(nullable = false)
+    private long refundCount;
+
+    // 환불 완료된 주문 금액 합계
+    @Column(nullable = false)
+    private long refundAmount;
+}
@@ -0,0 +1,65 @@
+package com.project.deliveryservice.domain.sales.repository;
+
+import com.project.deliveryservice.domain.sales.dto.OrderSalesAmount;
+import com.project.deliveryservice.domain.sales.dto.ShopSalesAggregate;
+import com.project.deliveryservice.domain.sales.entity.ShopDailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ShopDailySalesRepository extends JpaRepository<ShopDailySales, Long> {
+
+    List<ShopDailySales> findAllByShopIdAndSalesDateBetweenOrderBySalesDate(Long shopId, LocalDate from, LocalDate to);
+
+    /**
+     * 집계 row 에 증분을 더한다. row 가 없으면 0 을 반환한다.
+     */
+    @Modifying
+    @Query("update ShopDailySales s set" +
+            " s.orderCount = s.orderCount + :orderCount," +
+            " s.revenue = s.revenue + :revenue," +
+            " s.quantity = s.quantity + :quantity," +
+            " s.refundCount = s.refundCount + :refundCount," +
+            " s.refundAmount = s.refundAmount + :refundAmount," +
+            " s.updatedAt = :now" +
+            " where s.shopId = :shopId and s.salesDate = :salesDate")
+    int addDelta(@Param("shopId") Long shopId,
+                 @Param("salesDate") LocalDate salesDate,
+                 @Param("orderCount") long orderCount,
+                 @Param("revenue") long revenue,
+                 @Param("quantity") long quantity,
+                 @Param("refundCount") long refundCount,
+                 @Param("refundAmount") long refundAmount,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from ShopDailySales s where s.salesDate = :salesDate")
+    int deleteAllBySalesDate(@Param("salesDate") LocalDate salesDate);
+
+    @Query("select new com.project.deliveryservice.domain.sales.dto.OrderSalesAmount(" +
+            "o.id, o.shop.id, sum(cast(oi.price as long) * oi.quantity), sum(cast(oi.quantity as long)))" +
+            " from OrderItem oi join oi.order o" +
+            " where o.id in :orderIds" +
+            " group by o.id, o.shop.id")
+    List<OrderSalesAmount> sumAmountsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("select new com.project.deliveryservice.domain.sales.dto.ShopSalesAggregate(" +
+            "o.shop.id, count(distinct o.id), sum(cast(oi.price as long) * oi.quantity), sum(cast(oi.quantity as long)))" +
+            " from OrderItem oi join oi.order o" +
+            " where o.completedAt >= :start and o.completedAt < :end" +
+            " group by o.shop.id")
+    List<ShopSalesAggregate> sumCompletedByShop(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("select new com.project.deliveryservice.domain.sales.dto.ShopSalesAggregate(" +
+            "o.shop.id, count(distinct o.id), sum(cast(oi.price as long) * oi.quantity), sum(cast(oi.quantity as long)))" +
+            " from OrderItem oi join oi.order o" +
+            " where o.refundCompletedAt >= :start and o.refundCompletedAt < :end" +
+            " group by o.shop.id")
+    List<ShopSalesAggregate> sumRefundedByShop(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
@@ -0,0 +1,42 @@
+package com.project.deliveryservice.domain.sales.service;
+
+/**
+ * 아직 DB 에 반영되지 않은 (가게, 일) 매출 증분
+ * ConcurrentHashMap.compute 안에서만 변경되므로 별도의 동기화가 필요 없다.
+ */
+class SalesDelta {
+
+    long orderCount;
+    long revenue;
+    long quantity;
+    long refundCount;
+    long refundAmount;
+
+    SalesDelta merge(SalesDelta other) {
+        orderCount += other.orderCount;
+        revenue += other.revenue;
+        quantity += other.quantity;
+        refundCount += other.refundCount;
+        refundAmount += other.refundAmount;
+        return this;
+    }
+
+    SalesDelta copy() {
+        return new SalesDelta().merge(this);
+    }
+
+    static SalesDelta completed(long amount, long quantity) {
+        SalesDelta delta = new SalesDelta();
+        delta.orderCount = 1;
+        delta.revenue = amount;
+        delta.quantity = quantity;
+        return delta;
+    }
+
+    static SalesDelta refunded(long amount) {
+        SalesDelta delta = new SalesDelta();
+        delta.refundCount = 1;
+        delta.refundAmount = amount;
+        return delta;
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.deliveryservice.domain.sales.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+record SalesKey(long shopId, LocalDate salesDate) {
+
+    // 여러 인스턴스가 flush 할 때 같은 순서로 row 를 잠그도록 정렬
+    static final Comparator<SalesKey> LOCK_ORDER = Comparator.comparingLong(SalesKey::shopId)
+            .thenComparing(SalesKey::salesDate);
+}
@@ -0,0 +1,151 @@
+package com.project.deliveryservice.domain.sales.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.sales.dto.SalesReconcileResult;
+import com.project.deliveryservice.domain.sales.dto.ShopSalesAggregate;
+import com.project.deliveryservice.domain.sales.entity.ShopDailySales;
+import com.project.deliveryservice.domain.sales.repository.ShopDailySalesRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 원본 주문으로부터 일 매출 집계를 다시 계산한다.
+ * 하루 단위로 나눈 구간을 병렬로 처리하며, 각 날짜는 하나의 트랜잭션에서 기존 집계를 지우고 새로 쓴다.
+ * 증분 반영과 겹치지 않도록 날짜가 끝나고 close-grace 가 지난 날짜만 대상으로 하며,
+ * 재집계 전에 SalesRollupBuffer 에서 해당 날짜를 마감해 이후 들어오는 증분이 재집계 결과에 다시 더해지지 않게 한다.
+ */
+@Slf4j
+@Service
+public class SalesReconciliationService {
+
+    private static final int MAX_DAYS = 366;
+
+    private final ShopDailySalesRepository salesRepository;
+    private final SalesRollupBuffer salesRollupBuffer;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int scheduledDays;
+    private final boolean archiveEnabled;
+    private final int archiveMinAgeDays;
+    private final long closeGraceMinutes;
+
+    public SalesReconciliationService(
+            ShopDailySalesRepository salesRepository,
+            SalesRollupBuffer salesRollupBuffer,
+            PlatformTransactionManager transactionManager,
+            @Value("${sales.reconcile.parallelism:4}") int parallelism,
+            @Value("${sales.reconcile.scheduled-days:2}") int scheduledDays,
+            @Value("${order.archive.enabled:false}") boolean archiveEnabled,
+            @Value("${order.archive.min-age-days:90}") int archiveMinAgeDays,
+            @Value("${sales.reconcile.close-grace-minutes:10}") long closeGraceMinutes) {
+
+        this.salesRepository = salesRepository;
+        this.salesRollupBuffer = salesRollupBuffer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newFixedThreadPool(parallelism);
+        this.scheduledDays = scheduledDays;
+        this.archiveEnabled = archiveEnabled;
+        this.archiveMinAgeDays = archiveMinAgeDays;
+        this.closeGraceMinutes = closeGraceMinutes;
+    }
+
+    /**
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함), 날짜가 끝나고 close-grace 가 지나 커밋 중인 주문이 남아 있지 않아야 함
+     */
+    public SalesReconcileResult reconcile(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || !isClosed(to) || from.plusDays(MAX_DAYS).isBefore(to) || isArchived(from)) {
+            throw new IllegalArgumentException(ErrorMsg.INVALID_RECONCILE_RANGE);
+        }
+
+        long start = System.currentTimeMillis();
+        // 남은 증분을 반영하고 이후 들어오는 증분은 버리도록 마감, 재집계가 원본 주문으로 모두 다시 계산함
+        salesRollupBuffer.closeThrough(to);
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDate salesDate = day;
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> transactionTemplate.execute(status -> rebuild(salesDate)), executor));
+        }
+
+        int rebuiltRows = futures.stream()
+                .mapToInt(CompletableFuture::join)
+                .sum();
+
+        return SalesReconcileResult.builder()
+                .from(from)
+                .to(to)
+                .rebuiltRows(rebuiltRows)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    @Scheduled(cron = "${sales.reconcile.cron:0 30 3 * * *}")
+    public void reconcileRecentDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        SalesReconcileResult result = reconcile(yesterday.minusDays(scheduledDays - 1), yesterday);
+        log.info("sales reconciled from={} to={} rows={} elapsed={}ms",
+                result.getFrom(), result.getTo(), result.getRebuiltRows(), result.getElapsedMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 마감 직전에 완료된 주문의 커밋과 증분 반영이 끝날 시간을 두고 마감
+    private boolean isClosed(LocalDate salesDate) {
+        return salesDate.plusDays(1).atStartOfDay().plusMinutes(closeGraceMinutes).isBefore(LocalDateTime.now());
+    }
+
+    // 보관 테이블로 옮겨졌을 수 있는 주문의 날짜는 원본 주문으로 다시 계산할 수 없음
+    private boolean isArchived(LocalDate salesDate) {
+        return archiveEnabled && !salesDate.isAfter(LocalDate.now().minusDays(archiveMinAgeDays));
+    }
+
+    private int rebuild(LocalDate salesDate) {
+        LocalDateTime start = salesDate.atStartOfDay();
+        LocalDateTime end = salesDate.plusDays(1).atStartOfDay();
+
+        Map<Long, ShopDailySales.ShopDailySalesBuilder> rows = new LinkedHashMap<>();
+        for (ShopSalesAggregate completed : salesRepository.sumCompletedByShop(start, end)) {
+            rows.computeIfAbsent(completed.getShopId(), shopId -> newRow(shopId, salesDate))
+                    .orderCount(completed.getCount())
+                    .revenue(completed.getAmount())
+                    .quantity(completed.getQuantity());
+        }
+        for (ShopSalesAggregate refunded : salesRepository.sumRefundedByShop(start, end)) {
+            rows.computeIfAbsent(refunded.getShopId(), shopId -> newRow(shopId, salesDate))
+                    .refundCount(refunded.getCount())
+                    .refundAmount(refunded.getAmount());
+        }
+
+        salesRepository.deleteAllBySalesDate(salesDate);
+        salesRepository.saveAll(rows.values().stream()
+                .map(ShopDailySales.ShopDailySalesBuilder::build)
+                .toList());
+        return rows.size();
+    }
+
+    private ShopDailySales.ShopDailySalesBuilder newRow(long shopId, LocalDate salesDate) {
+        return ShopDailySales.builder()
+                .shopId(shopId)
+                .salesDate(salesDate);
+    }
+}
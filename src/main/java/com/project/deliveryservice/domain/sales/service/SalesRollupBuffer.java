@@ -0,0 +1,149 @@
+package com.project.deliveryservice.domain.sales.service;
+
+import com.project.deliveryservice.domain.sales.entity.ShopDailySales;
+import com.project.deliveryservice.domain.sales.repository.ShopDailySalesRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 완료/환불 증분을 (가게, 일) 단위로 메모리에 모았다가 주기적으로 한 번에 반영한다.
+ * 주문마다 집계 row 를 잠그는 대신 flush 주기 동안 같은 가게의 증분이 하나의 update 로 합쳐진다.
+ * 프로세스가 비정상 종료되면 반영되지 않은 증분은 유실되며, SalesReconciliationService 가 원본 주문으로 다시 맞춘다.
+ * 재집계로 마감된 날짜의 증분은 이미 재집계에 포함되어 있으므로, 마감 이후 들어온 증분은 버린다.
+ */
+@Slf4j
+@Component
+public class SalesRollupBuffer {
+
+    private final Map<SalesKey, SalesDelta> pending = new ConcurrentHashMap<>();
+
+    // 이 날짜까지는 재집계로 마감되어 증분을 더하지 않음
+    private volatile LocalDate closedThrough = LocalDate.MIN;
+
+    private final ShopDailySalesRepository salesRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SalesRollupBuffer(ShopDailySalesRepository salesRepository, PlatformTransactionManager transactionManager) {
+        this.salesRepository = salesRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void addCompleted(long shopId, LocalDate salesDate, long amount, long quantity) {
+        add(new SalesKey(shopId, salesDate), SalesDelta.completed(amount, quantity));
+    }
+
+    public void addRefunded(long shopId, LocalDate salesDate, long amount) {
+        add(new SalesKey(shopId, salesDate), SalesDelta.refunded(amount));
+    }
+
+    /**
+     * @return 아직 반영되지 않은 증분, 없으면 null
+     */
+    SalesDelta getPending(long shopId, LocalDate salesDate) {
+        SalesDelta[] snapshot = new SalesDelta[1];
+        pending.computeIfPresent(new SalesKey(shopId, salesDate), (k, delta) -> {
+            snapshot[0] = delta.copy();
+            return delta;
+        });
+        return snapshot[0];
+    }
+
+    /**
+     * 모인 증분을 (가게, 일) 별로 반영한다. 실패한 증분은 다음 flush 에서 다시 시도한다.
+     *
+     * @return 반영된 (가게, 일) 수
+     */
+    @Scheduled(fixedDelayString = "${sales.rollup.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<SalesKey> keys = new ArrayList<>(pending.keySet());
+        keys.sort(SalesKey.LOCK_ORDER);
+
+        int flushed = 0;
+        for (SalesKey key : keys) {
+            // 제거 이후 들어온 증분은 새 entry 에 쌓여 다음 flush 에서 반영됨
+            SalesDelta delta = pending.remove(key);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                write(key, delta);
+                flushed++;
+            } catch (RuntimeException e) {
+                log.warn("failed to flush sales rollup shopId={} date={}", key.shopId(), key.salesDate(), e);
+                add(key, delta);
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * salesDate 까지의 날짜를 마감하고 남아 있는 증분을 반영한다.
+     * 반환된 뒤에는 마감된 날짜의 증분이 더해지지 않으므로, 호출한 쪽은 해당 날짜의 집계를 원본 주문으로 다시 쓸 수 있다.
+     */
+    public synchronized void closeThrough(LocalDate salesDate) {
+        if (salesDate.isAfter(closedThrough)) {
+            closedThrough = salesDate;
+        }
+        // synchronized 이므로 진행 중이던 flush 가 끝난 뒤에 실행되며, 이후 flush 에는 마감된 날짜의 증분이 없음
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(SalesKey key, SalesDelta delta) {
+        if (!key.salesDate().isAfter(closedThrough)) {
+            log.debug("dropped sales delta of closed date shopId={} date={}", key.shopId(), key.salesDate());
+            return;
+        }
+        pending.compute(key, (k, current) -> current == null ? delta : current.merge(delta));
+    }
+
+    private void write(SalesKey key, SalesDelta delta) {
+        if (addDelta(key, delta) > 0) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> salesRepository.saveAndFlush(ShopDailySales.builder()
+                    .shopId(key.shopId())
+                    .salesDate(key.salesDate())
+                    .orderCount(delta.orderCount)
+                    .revenue(delta.revenue)
+                    .quantity(delta.quantity)
+                    .refundCount(delta.refundCount)
+                    .refundAmount(delta.refundAmount)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 row 를 만든 경우
+            addDelta(key, delta);
+        }
+    }
+
+    private int addDelta(SalesKey key, SalesDelta delta) {
+        Integer updated = transactionTemplate.execute(status -> salesRepository.addDelta(
+                key.shopId(), key.salesDate(),
+                delta.orderCount, delta.revenue, delta.quantity,
+                delta.refundCount, delta.refundAmount,
+                LocalDateTime.now()));
+        return updated == null ? 0 : updated;
+    }
+}
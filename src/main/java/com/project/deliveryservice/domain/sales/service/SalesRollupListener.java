@@ -0,0 +1,40 @@
+package com.project.deliveryservice.domain.sales.service;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.event.OrderStatusChangedEvent;
+import com.project.deliveryservice.domain.sales.dto.OrderSalesAmount;
+import com.project.deliveryservice.domain.sales.repository.ShopDailySalesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+/**
+ * 커밋된 주문 완료/환불 완료를 매출 집계 버퍼에 더한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupListener {
+
+    private final ShopDailySalesRepository salesRepository;
+    private final SalesRollupBuffer salesRollupBuffer;
+
+    @TransactionalEventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        OrderStatus status = event.getStatus();
+        if (status != OrderStatus.COMPLETED && status != OrderStatus.REFUND_COMPLETED) {
+            return;
+        }
+
+        LocalDate salesDate = event.getChangedAt().toLocalDate();
+        // 변경된 주문들의 금액을 하나의 group by 쿼리로 조회
+        for (OrderSalesAmount amount : salesRepository.sumAmountsByOrderIds(event.getOrderIds())) {
+            if (status == OrderStatus.COMPLETED) {
+                salesRollupBuffer.addCompleted(amount.getShopId(), salesDate, amount.getAmount(), amount.getQuantity());
+            } else {
+                salesRollupBuffer.addRefunded(amount.getShopId(), salesDate, amount.getAmount());
+            }
+        }
+    }
+}
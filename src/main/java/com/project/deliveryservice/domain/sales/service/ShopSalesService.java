@@ -0,0 +1,69 @@
+package com.project.deliveryservice.domain.sales.service;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.sales.dto.ShopDailySalesInfo;
+import com.project.deliveryservice.domain.sales.entity.ShopDailySales;
+import com.project.deliveryservice.domain.sales.repository.ShopDailySalesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ShopSalesService {
+
+    private static final int MAX_DAYS = 366;
+
+    private final ShopDailySalesRepository salesRepository;
+    private final SalesRollupBuffer salesRollupBuffer;
+
+    /**
+     * 가게의 기간별 일 매출을 조회한다. 아직 반영되지 않은 증분도 포함되므로 오늘 매출도 flush 주기를 기다리지 않는다.
+     * 매출이 없는 날짜는 결과에 포함되지 않는다.
+     */
+    public List<ShopDailySalesInfo> getDailySales(long shopId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || from.plusDays(MAX_DAYS).isBefore(to)) {
+            throw new IllegalArgumentException(ErrorMsg.INVALID_SALES_RANGE);
+        }
+
+        Map<LocalDate, ShopDailySales> stored = salesRepository
+                .findAllByShopIdAndSalesDateBetweenOrderBySalesDate(shopId, from, to).stream()
+                .collect(Collectors.toMap(ShopDailySales::getSalesDate, Function.identity()));
+
+        List<ShopDailySalesInfo> result = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            ShopDailySales sales = stored.get(day);
+            SalesDelta delta = salesRollupBuffer.getPending(shopId, day);
+            if (sales == null && delta == null) {
+                continue;
+            }
+
+            SalesDelta total = delta == null ? new SalesDelta() : delta;
+            if (sales != null) {
+                total.orderCount += sales.getOrderCount();
+                total.revenue += sales.getRevenue();
+                total.quantity += sales.getQuantity();
+                total.refundCount += sales.getRefundCount();
+                total.refundAmount += sales.getRefundAmount();
+            }
+            result.add(ShopDailySalesInfo.builder()
+                    .shopId(shopId)
+                    .salesDate(day)
+                    .orderCount(total.orderCount)
+                    .revenue(total.revenue)
+                    .quantity(total.quantity)
+                    .refundCount(total.refundCount)
+                    .refundAmount(total.refundAmount)
+                    .build());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.deliveryservice.domain.search.controller;
+
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.search.dto.SearchHit;
+import com.project.deliveryservice.domain.search.dto.Suggestion;
+import com.project.deliveryservice.domain.search.service.AutocompleteIndex;
+import com.project.deliveryservice.domain.search.service.SearchIndex;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private static final int MAX_QUERY_LENGTH = 50;
+    private static final int MAX_LIMIT = 100;
+
+    private final SearchIndex searchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+
+    @GetMapping
+    public ApiResponse<List<SearchHit>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Long shopId,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException(ErrorMsg.SEARCH_QUERY_TOO_LONG);
+        }
+        return success(searchIndex.search(q, shopId, Math.min(Math.max(limit, 1), MAX_LIMIT)));
+    }
+
+    @GetMapping("/autocomplete")
+    public ApiResponse<List<Suggestion>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException(ErrorMsg.SEARCH_QUERY_TOO_LONG);
+        }
+        return success(autocompleteIndex.suggest(q, Math.max(limit, 1)));
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.deliveryservice.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 색인용 아이템 projection
+ */
+@Getter
+@AllArgsConstructor
+public class ItemDocument {
+
+    private Long itemId;
+
+    private Long shopId;
+
+    private String name;
+
+    private String description;
+}
@@ -0,0 +1,16 @@
+package com.project.deliveryservice.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 자동완성 색인용 이름별 주문 수
+ */
+@Getter
+@AllArgsConstructor
+public class NamePopularity {
+
+    private String name;
+
+    private long popularity;
+}
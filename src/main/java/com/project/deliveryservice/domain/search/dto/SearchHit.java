@@ -0,0 +1,26 @@
+package com.project.deliveryservice.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SearchHit {
+
+    private SearchType type;
+
+    // 아이템 또는 가게 아이디
+    private Long id;
+
+    private Long shopId;
+
+    // 아이템 이름, 가게는 이름이 없어 null
+    private String name;
+
+    private String description;
+
+    // 높을수록 검색어와 관련이 높음
+    private int score;
+}
@@ -0,0 +1,6 @@
+package com.project.deliveryservice.domain.search.dto;
+
+public enum SearchType {
+    ITEM,
+    SHOP
+}
@@ -0,0 +1,16 @@
+package com.project.deliveryservice.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 색인용 가게 projection
+ */
+@Getter
+@AllArgsConstructor
+public class ShopDocument {
+
+    private Long shopId;
+
+    private String description;
+}
@@ -0,0 +1,14 @@
+package com.project.deliveryservice.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class Suggestion {
+
+    private String text;
+
+    // 같은 이름의 아이템이 주문된 횟수
+    private long popularity;
+}
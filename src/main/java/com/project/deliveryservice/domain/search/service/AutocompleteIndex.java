@@ -0,0 +1,45 @@
+package com.project.deliveryservice.domain.search.service;
+
+import com.project.deliveryservice.domain.item.repository.ItemRepository;
+import com.project.deliveryservice.domain.search.dto.NamePopularity;
+import com.project.deliveryservice.domain.search.dto.Suggestion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 아이템 이름 자동완성
+ * 스케줄러 스레드에서 새 trie 를 만든 뒤 참조를 교체하므로 조회는 잠금 없이 항상 완성된 trie 를 읽는다.
+ */
+@Slf4j
+@Component
+public class AutocompleteIndex {
+
+    private final ItemRepository itemRepository;
+    private final int topK;
+
+    private volatile CompactTrie trie;
+
+    public AutocompleteIndex(ItemRepository itemRepository,
+                             @Value("${autocomplete.top-k:10}") int topK) {
+        this.itemRepository = itemRepository;
+        this.topK = topK;
+        this.trie = CompactTrie.build(List.of(), topK);
+    }
+
+    @Scheduled(fixedDelayString = "${autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        List<NamePopularity> names = itemRepository.findAllNamePopularities();
+        CompactTrie rebuilt = CompactTrie.build(names, topK);
+        trie = rebuilt;
+        log.info("autocomplete rebuilt. names={}, heavyNodes={}, estimatedBytes={}",
+                rebuilt.size(), rebuilt.heavyNodeCount(), rebuilt.estimatedBytes());
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, topK));
+    }
+}
@@ -0,0 +1,229 @@
+package com.project.deliveryservice.domain.search.service;
+
+import com.project.deliveryservice.domain.search.dto.NamePopularity;
+import com.project.deliveryservice.domain.search.dto.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동완성용 읽기 전용 trie
+ * 정규화된 이름을 정렬해 하나의 char 배열에 이어 붙여 두면 trie 의 각 노드(접두어)는 정렬된 배열의 연속 구간이 되므로,
+ * 노드와 간선을 객체로 만들지 않고 이진 탐색으로 노드를 찾는다.
+ * 구간이 작은 노드는 구간을 직접 훑어 상위 k 개를 고르고, 구간이 큰 노드만 상위 k 개를 미리 계산해 둔다.
+ */
+class CompactTrie {
+
+    // 이 크기 이하의 구간은 조회 시 직접 훑음
+    static final int SCAN_LIMIT = 256;
+
+    private final int topK;
+    // 정렬된 정규화 이름, i 번째 이름은 keyChars[keyOffsets[i], keyOffsets[i + 1])
+    private final char[] keyChars;
+    private final int[] keyOffsets;
+    // 화면에 보여줄 이름, 정규화된 이름과 같으면 저장하지 않아 길이가 0
+    private final char[] textChars;
+    private final int[] textOffsets;
+    private final int[] popularities;
+    // 큰 구간 노드의 접두어 -> 인기 순 이름 번호
+    private final Map<String, int[]> heavyNodes;
+
+    private CompactTrie(int topK, char[] keyChars, int[] keyOffsets, char[] textChars, int[] textOffsets,
+                        int[] popularities, Map<String, int[]> heavyNodes) {
+        this.topK = topK;
+        this.keyChars = keyChars;
+        this.keyOffsets = keyOffsets;
+        this.textChars = textChars;
+        this.textOffsets = textOffsets;
+        this.popularities = popularities;
+        this.heavyNodes = heavyNodes;
+    }
+
+    /**
+     * 정규화한 이름이 같으면 인기를 합치고, 가장 많이 주문된 표기를 보여줄 이름으로 쓴다.
+     */
+    static CompactTrie build(List<NamePopularity> names, int topK) {
+        Map<String, Entry> entries = new HashMap<>();
+        for (NamePopularity name : names) {
+            if (name.getName() == null) {
+                continue;
+            }
+            String key = NgramIndex.normalize(name.getName());
+            if (key.isEmpty()) {
+                continue;
+            }
+            Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+            entry.popularity += name.getPopularity();
+            if (entry.text == null || name.getPopularity() > entry.textPopularity) {
+                entry.text = name.getName().strip();
+                entry.textPopularity = name.getPopularity();
+            }
+        }
+
+        String[] keys = entries.keySet().toArray(String[]::new);
+        Arrays.sort(keys);
+
+        int[] keyOffsets = new int[keys.length + 1];
+        int[] textOffsets = new int[keys.length + 1];
+        int[] popularities = new int[keys.length];
+        StringBuilder keyBuilder = new StringBuilder();
+        StringBuilder textBuilder = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            Entry entry = entries.get(keys[i]);
+            keyBuilder.append(keys[i]);
+            if (!entry.text.equals(keys[i])) {
+                textBuilder.append(entry.text);
+            }
+            keyOffsets[i + 1] = keyBuilder.length();
+            textOffsets[i + 1] = textBuilder.length();
+            popularities[i] = (int) Math.min(entry.popularity, Integer.MAX_VALUE);
+        }
+
+        char[] keyChars = new char[keyBuilder.length()];
+        keyBuilder.getChars(0, keyBuilder.length(), keyChars, 0);
+        char[] textChars = new char[textBuilder.length()];
+        textBuilder.getChars(0, textBuilder.length(), textChars, 0);
+
+        CompactTrie trie = new CompactTrie(topK, keyChars, keyOffsets, textChars, textOffsets, popularities, new HashMap<>());
+        trie.buildHeavyNodes();
+        return trie;
+    }
+
+    List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = NgramIndex.normalize(prefix);
+        if (normalized.isEmpty() || size() == 0) {
+            return List.of();
+        }
+
+        int from = firstNotBefore(normalized, 0);
+        int to = firstNotBefore(normalized, 1);
+        int[] top;
+        if (to - from > SCAN_LIMIT) {
+            top = heavyNodes.get(normalized);
+        } else {
+            top = topOf(from, to);
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, top.length));
+        for (int i = 0; i < top.length && i < limit; i++) {
+            suggestions.add(new Suggestion(text(top[i]), popularities[top[i]]));
+        }
+        return suggestions;
+    }
+
+    int size() {
+        return popularities.length;
+    }
+
+    int heavyNodeCount() {
+        return heavyNodes.size();
+    }
+
+    /**
+     * 배열 길이로 계산한 대략적인 메모리 사용량
+     */
+    long estimatedBytes() {
+        long bytes = 2L * keyChars.length + 4L * keyOffsets.length
+                + 2L * textChars.length + 4L * textOffsets.length
+                + 4L * popularities.length;
+        for (Map.Entry<String, int[]> node : heavyNodes.entrySet()) {
+            // map entry, 접두어 문자열, 배열 헤더를 포함한 근사치
+            bytes += 48 + 40 + 2L * node.getKey().length() + 16 + 4L * node.getValue().length;
+        }
+        return bytes;
+    }
+
+    // 접두어 깊이별로 정렬된 이름을 한 번씩 훑어 구간이 큰 노드의 상위 k 개를 계산
+    private void buildHeavyNodes() {
+        for (int depth = 1; ; depth++) {
+            boolean found = false;
+            int start = -1;
+            for (int i = 0; i <= size(); i++) {
+                boolean sameNode = i < size() && start >= 0 && keyLength(i) >= depth && sharesPrefix(start, i, depth);
+                if (sameNode) {
+                    continue;
+                }
+                if (start >= 0 && i - start > SCAN_LIMIT) {
+                    heavyNodes.put(new String(keyChars, keyOffsets[start], depth), topOf(start, i));
+                    found = true;
+                }
+                start = i < size() && keyLength(i) >= depth ? i : -1;
+            }
+            if (!found) {
+                return;
+            }
+        }
+    }
+
+    // [from, to) 구간에서 인기 순 상위 k 개, 인기가 같으면 이름 순
+    private int[] topOf(int from, int to) {
+        int[] top = new int[Math.min(topK, to - from)];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (count == top.length && popularities[i] <= popularities[top[count - 1]]) {
+                continue;
+            }
+            int pos = count == top.length ? count - 1 : count++;
+            while (pos > 0 && popularities[top[pos - 1]] < popularities[i]) {
+                top[pos] = top[pos - 1];
+                pos--;
+            }
+            top[pos] = i;
+        }
+        return top;
+    }
+
+    // 앞 prefix.length() 글자를 prefix 와 비교한 값이 bound 이상인 첫 번째 이름
+    private int firstNotBefore(String prefix, int bound) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePrefix(mid, prefix) < bound) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int comparePrefix(int index, String prefix) {
+        int offset = keyOffsets[index];
+        int length = Math.min(keyLength(index), prefix.length());
+        for (int i = 0; i < length; i++) {
+            int diff = keyChars[offset + i] - prefix.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return keyLength(index) < prefix.length() ? -1 : 0;
+    }
+
+    private boolean sharesPrefix(int a, int b, int depth) {
+        return Arrays.equals(keyChars, keyOffsets[a], keyOffsets[a] + depth,
+                keyChars, keyOffsets[b], keyOffsets[b] + depth);
+    }
+
+    private int keyLength(int index) {
+        return keyOffsets[index + 1] - keyOffsets[index];
+    }
+
+    private String text(int index) {
+        int length = textOffsets[index + 1] - textOffsets[index];
+        if (length == 0) {
+            return new String(keyChars, keyOffsets[index], keyLength(index));
+        }
+        return new String(textChars, textOffsets[index], length);
+    }
+
+    private static class Entry {
+
+        private String text;
+        private long textPopularity;
+        private long popularity;
+    }
+}
@@ -0,0 +1,217 @@
+package com.project.deliveryservice.domain.search.service;
+
+import com.project.deliveryservice.domain.search.dto.SearchHit;
+import com.project.deliveryservice.domain.search.dto.SearchType;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 글자 단위 unigram, bigram 역색인
+ * 텍스트는 NFC 로 정규화해 한글 자모를 완성형 음절로 합치고, 소문자로 바꾼 뒤 글자와 숫자만 남긴다.
+ * 공백을 지우므로 "떡 볶이" 와 "떡볶이" 는 같은 텍스트로 색인된다.
+ * 검색어의 모든 gram 을 가진 문서를 posting 교집합으로 찾고, 실제로 검색어를 포함하는지 확인한 뒤 점수를 매긴다.
+ * 문서 삭제는 표시만 하며 삭제된 문서는 다음 재구성 때 정리된다. 동기화는 호출하는 쪽에서 한다.
+ */
+class NgramIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> itemDocs = new HashMap<>();
+    private final Map<Long, Integer> shopDocs = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private int docCount;
+    private SearchType[] types = new SearchType[INITIAL_CAPACITY];
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] shopIds = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    // 점수 계산용 정규화된 이름, 설명
+    private String[] normalizedNames = new String[INITIAL_CAPACITY];
+    private String[] normalizedDescriptions = new String[INITIAL_CAPACITY];
+
+    void putItem(long itemId, long shopId, String name, String description) {
+        removeItem(itemId);
+        itemDocs.put(itemId, add(SearchType.ITEM, itemId, shopId, name, description));
+    }
+
+    void putShop(long shopId, String description) {
+        removeShop(shopId);
+        shopDocs.put(shopId, add(SearchType.SHOP, shopId, shopId, null, description));
+    }
+
+    void removeItem(long itemId) {
+        Integer doc = itemDocs.remove(itemId);
+        if (doc != null) {
+            delete(doc);
+        }
+    }
+
+    void removeShop(long shopId) {
+        Integer doc = shopDocs.remove(shopId);
+        if (doc != null) {
+            delete(doc);
+        }
+    }
+
+    int size() {
+        return itemDocs.size() + shopDocs.size();
+    }
+
+    /**
+     * @param shopId 가게 아이디, null 이면 전체 가게
+     * @return 점수가 높은 순으로 최대 limit 개
+     */
+    List<SearchHit> search(String query, Long shopId, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        int[] grams = grams(normalized);
+        PostingList[] lists = new PostingList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return List.of();
+            }
+        }
+        // 짧은 목록부터 교집합
+        Arrays.sort(lists, Comparator.comparingInt(PostingList::count));
+        int[] candidates = lists[0].decode();
+        int size = candidates.length;
+        for (int i = 1; i < lists.length && size > 0; i++) {
+            size = lists[i].retainAll(candidates, size);
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int doc = candidates[i];
+            if (deleted.get(doc) || (shopId != null && shopIds[doc] != shopId)) {
+                continue;
+            }
+            int score = score(doc, normalized);
+            if (score > 0) {
+                hits.add(new SearchHit(types[doc], ids[doc], shopIds[doc], names[doc], descriptions[doc], score));
+            }
+        }
+
+        hits.sort(Comparator.comparingInt(SearchHit::getScore).reversed().thenComparing(SearchHit::getId));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    // 이름에 포함되면 설명보다 높게, 이름이 검색어로 시작하거나 검색어와 길이가 비슷할수록 높게
+    private int score(int doc, String query) {
+        int score = 0;
+        String name = normalizedNames[doc];
+        if (name != null && name.contains(query)) {
+            score += 100 + 50 * query.length() / name.length();
+            if (name.startsWith(query)) {
+                score += 20;
+            }
+        }
+        String description = normalizedDescriptions[doc];
+        if (description != null && description.contains(query)) {
+            score += 10;
+        }
+        return score;
+    }
+
+    private int add(SearchType type, long id, long shopId, String name, String description) {
+        int doc = docCount++;
+        ensureCapacity(doc);
+        types[doc] = type;
+        ids[doc] = id;
+        shopIds[doc] = shopId;
+        names[doc] = name;
+        descriptions[doc] = description;
+        normalizedNames[doc] = name == null ? null : normalize(name);
+        normalizedDescriptions[doc] = description == null ? null : normalize(description);
+
+        // 이름과 설명의 gram 을 중복 없이 추가
+        int[] nameGrams = normalizedNames[doc] == null ? new int[0] : allGrams(normalizedNames[doc]);
+        int[] descriptionGrams = normalizedDescriptions[doc] == null ? new int[0] : allGrams(normalizedDescriptions[doc]);
+        int[] docGrams = Arrays.copyOf(nameGrams, nameGrams.length + descriptionGrams.length);
+        System.arraycopy(descriptionGrams, 0, docGrams, nameGrams.length, descriptionGrams.length);
+        Arrays.stream(docGrams).distinct()
+                .forEach(gram -> postings.computeIfAbsent(gram, g -> new PostingList()).add(doc));
+        return doc;
+    }
+
+    private void delete(int doc) {
+        deleted.set(doc);
+        names[doc] = null;
+        descriptions[doc] = null;
+        normalizedNames[doc] = null;
+        normalizedDescriptions[doc] = null;
+    }
+
+    private void ensureCapacity(int doc) {
+        if (doc < ids.length) {
+            return;
+        }
+        int capacity = ids.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        shopIds = Arrays.copyOf(shopIds, capacity);
+        names = Arrays.copyOf(names, capacity);
+        descriptions = Arrays.copyOf(descriptions, capacity);
+        normalizedNames = Arrays.copyOf(normalizedNames, capacity);
+        normalizedDescriptions = Arrays.copyOf(normalizedDescriptions, capacity);
+    }
+
+    static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 검색어의 gram, 한 글자면 unigram 아니면 bigram
+    static int[] grams(String normalized) {
+        if (normalized.length() == 1) {
+            return new int[]{unigram(normalized.charAt(0))};
+        }
+        int[] grams = new int[normalized.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = bigram(normalized.charAt(i), normalized.charAt(i + 1));
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    // 문서의 gram, 한 글자 검색어도 찾을 수 있도록 unigram 과 bigram 모두
+    private static int[] allGrams(String normalized) {
+        int length = normalized.length();
+        int[] grams = new int[length + Math.max(length - 1, 0)];
+        for (int i = 0; i < length; i++) {
+            grams[i] = unigram(normalized.charAt(i));
+            if (i + 1 < length) {
+                grams[length + i] = bigram(normalized.charAt(i), normalized.charAt(i + 1));
+            }
+        }
+        return grams;
+    }
+
+    // 정규화된 글자는 '\0' 이 아니므로 상위 16 bit 가 0 인 unigram 과 겹치지 않음
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.deliveryservice.domain.search.service;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순 문서 번호 목록을 직전 번호와의 차이로 varint 인코딩해 byte 배열에 보관한다.
+ * 문서 번호는 항상 증가하는 순서로만 추가된다.
+ */
+class PostingList {
+
+    private byte[] data = new byte[4];
+    private int length;
+    private int count;
+    private int last = -1;
+
+    void add(int doc) {
+        int delta = doc - last;
+        last = doc;
+        count++;
+
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((delta & ~0x7F) != 0) {
+            data[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        data[length++] = (byte) delta;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int bytes() {
+        return length;
+    }
+
+    int[] decode() {
+        int[] docs = new int[count];
+        int doc = -1;
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            doc += delta;
+            docs[i] = doc;
+        }
+        return docs;
+    }
+
+    /**
+     * candidates 앞쪽 size 개 중 이 목록에도 있는 문서만 남긴다.
+     *
+     * @return 남은 문서 수
+     */
+    int retainAll(int[] candidates, int size) {
+        int kept = 0;
+        int doc = -1;
+        int pos = 0;
+        int read = 0;
+        for (int i = 0; i < size; i++) {
+            int candidate = candidates[i];
+            while (doc < candidate && read < count) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[pos++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                doc += delta;
+                read++;
+            }
+            if (doc == candidate) {
+                candidates[kept++] = candidate;
+            } else if (doc < candidate) {
+                break;
+            }
+        }
+        return kept;
+    }
+}
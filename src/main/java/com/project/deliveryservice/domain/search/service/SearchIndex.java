@@ -0,0 +1,128 @@
+package com.project.deliveryservice.domain.search.service;
+
+import com.project.deliveryservice.domain.item.event.ItemChangedEvent;
+import com.project.deliveryservice.domain.item.repository.ItemRepository;
+import com.project.deliveryservice.domain.search.dto.ItemDocument;
+import com.project.deliveryservice.domain.search.dto.SearchHit;
+import com.project.deliveryservice.domain.search.dto.ShopDocument;
+import com.project.deliveryservice.domain.shop.event.ShopChangedEvent;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 아이템 이름, 설명과 가게 설명의 검색 색인
+ * 주기적으로 전체를 다시 만들고 (삭제된 문서도 이때 정리됨), 그 사이의 아이템, 가게 변경은 커밋 이후 하나씩 반영한다.
+ * 재구성 중에 반영된 변경은 재구성 결과에 빠져 있을 수 있으므로 교체 직후 다시 반영한다.
+ */
+@Component
+public class SearchIndex {
+
+    private final ItemRepository itemRepository;
+    private final ShopRepository shopRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private NgramIndex index = new NgramIndex();
+
+    // 재구성 중 변경된 아이템, 가게 아이디
+    private final Set<Long> changedItemIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedShopIds = ConcurrentHashMap.newKeySet();
+
+    public SearchIndex(ItemRepository itemRepository, ShopRepository shopRepository) {
+        this.itemRepository = itemRepository;
+        this.shopRepository = shopRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${search.reload-interval-ms:600000}")
+    public synchronized void reload() {
+        changedItemIds.clear();
+        changedShopIds.clear();
+
+        NgramIndex rebuilt = new NgramIndex();
+        shopRepository.findAllSearchDocuments()
+                .forEach(shop -> rebuilt.putShop(shop.getShopId(), shop.getDescription()));
+        itemRepository.findAllSearchDocuments()
+                .forEach(item -> rebuilt.putItem(item.getItemId(), item.getShopId(), item.getName(), item.getDescription()));
+
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List.copyOf(changedShopIds).forEach(this::reindexShop);
+        List.copyOf(changedItemIds).forEach(this::reindexItem);
+    }
+
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        changedItemIds.add(event.getItemId());
+        reindexItem(event.getItemId());
+    }
+
+    @TransactionalEventListener
+    public void onShopChanged(ShopChangedEvent event) {
+        changedShopIds.add(event.getShopId());
+        reindexShop(event.getShopId());
+    }
+
+    /**
+     * @param shopId 가게 아이디, null 이면 전체 가게에서 검색
+     */
+    public List<SearchHit> search(String query, Long shopId, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, shopId, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void reindexItem(long itemId) {
+        Optional<ItemDocument> item = itemRepository.findSearchDocumentById(itemId);
+
+        lock.writeLock().lock();
+        try {
+            if (item.isPresent()) {
+                ItemDocument document = item.get();
+                index.putItem(itemId, document.getShopId(), document.getName(), document.getDescription());
+            } else {
+                index.removeItem(itemId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void reindexShop(long shopId) {
+        Optional<ShopDocument> shop = shopRepository.findSearchDocumentById(shopId);
+
+        lock.writeLock().lock();
+        try {
+            if (shop.isPresent()) {
+                index.putShop(shopId, shop.get().getDescription());
+            } else {
+                index.removeShop(shopId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
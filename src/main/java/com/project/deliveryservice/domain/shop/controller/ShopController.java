@@ -0,0 +1,51 @@
+package com.project.deliveryservice.domain.shop.controller;
+
+import com.project.deliveryservice.domain.shop.dto.NearbyShopInfo;
+import com.project.deliveryservice.domain.shop.dto.ShopInfo;
+import com.project.deliveryservice.domain.shop.dto.ShopSlice;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.service.ShopService;
+import com.project.deliveryservice.utils.ApiUtils.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static com.project.deliveryservice.utils.ApiUtils.success;
+
+@RestController
+@RequestMapping("/api/shops")
+@RequiredArgsConstructor
+public class ShopController {
+
+    private final ShopService shopService;
+
+    @GetMapping
+    public ApiResponse<ShopSlice> getShops(
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) Integer maxMinPrice,
+            @RequestParam(required = false) Integer cursorMinPrice,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        return success(shopService.getShops(category, maxMinPrice, cursorMinPrice, cursorId, size));
+    }
+
+    @GetMapping("/open")
+    public ApiResponse<List<ShopInfo>> getOpenShops(
+            @RequestParam(required = false) Category category,
+            @RequestParam(defaultValue = "50") int limit) {
+        return success(shopService.getOpenShops(category, limit));
+    }
+
+    @GetMapping("/nearby")
+    public ApiResponse<List<NearbyShopInfo>> getNearbyShops(
+            @AuthenticationPrincipal String email,
+            @RequestParam(defaultValue = "3") double radiusKm,
+            @RequestParam(defaultValue = "50") int limit) {
+        return success(shopService.getNearbyShops(email, radiusKm, limit));
+    }
+}
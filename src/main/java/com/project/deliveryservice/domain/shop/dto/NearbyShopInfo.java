@@ -0,0 +1,16 @@
+package com.project.deliveryservice.domain.shop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class NearbyShopInfo {
+
+    private ShopInfo shop;
+
+    // 사용자 주소로부터의 직선 거리
+    private double distanceKm;
+}
@@ -0,0 +1,23 @@
+package com.project.deliveryservice.domain.shop.dto;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ShopAddressRequest {
+
+    @NotEmpty
+    private String city;
+
+    @NotEmpty
+    private String street;
+
+    @NotEmpty
+    @Digits(integer = 5, fraction = 0, message = "must only contain numeric value")
+    private String zipCode;
+}
@@ -0,0 +1,13 @@
+package com.project.deliveryservice.domain.shop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ShopDistance {
+
+    private long shopId;
+
+    private double distanceKm;
+}
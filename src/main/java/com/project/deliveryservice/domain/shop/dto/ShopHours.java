@@ -0,0 +1,25 @@
+package com.project.deliveryservice.domain.shop.dto;
+
+import com.project.deliveryservice.domain.shop.entity.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+/**
+ * 영업 시간 색인용 projection
+ */
+@Getter
+@AllArgsConstructor
+public class ShopHours {
+
+    private Long shopId;
+
+    private Category category;
+
+    private int restDays;
+
+    private LocalTime startTime;
+
+    private LocalTime endTime;
+}
@@ -0,0 +1,28 @@
+package com.project.deliveryservice.domain.shop.dto;
+
+import com.project.deliveryservice.domain.shop.entity.DayBit;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ShopHoursRequest {
+
+    // 휴무일
+    @NotNull
+    private List<DayBit> restDays;
+
+    // 영업 시작 시간
+    @NotNull
+    private LocalTime startTime;
+
+    // 영업 종료 시간, 시작 시간보다 이르면 다음 날 새벽까지 영업
+    @NotNull
+    private LocalTime endTime;
+}
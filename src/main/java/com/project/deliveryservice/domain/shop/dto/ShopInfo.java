@@ -1,5 +1,6 @@
 package com.project.deliveryservice.domain.shop.dto;
 
+import com.project.deliveryservice.domain.shop.entity.Shop;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +20,20 @@ public class ShopInfo {
 
     private String category;
 
+    // 최소 주문 금액
+    private int minPrice;
+
     // 휴무일
 
     // 영업시간
+
+    public static ShopInfo of(Shop source) {
+        return ShopInfo.builder()
+                .shopId(source.getId())
+                .address(source.getAddress() == null ? null : source.getAddress().toString())
+                .description(source.getDescription())
+                .category(source.getCategory().name())
+                .minPrice(source.getMinPrice())
+                .build();
+    }
 }
@@ -0,0 +1,18 @@
+package com.project.deliveryservice.domain.shop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공간 색인용 projection
+ */
+@Getter
+@AllArgsConstructor
+public class ShopLocation {
+
+    private Long shopId;
+
+    private double latitude;
+
+    private double longitude;
+}
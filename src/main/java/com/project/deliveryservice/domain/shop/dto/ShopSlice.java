@@ -0,0 +1,34 @@
+package com.project.deliveryservice.domain.shop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ShopSlice {
+
+    // 최소 주문 금액, 아이디 순으로 정렬된 가게 목록
+    private List<ShopInfo> shops;
+
+    // 다음 페이지 존재 여부
+    private boolean hasNext;
+
+    // 다음 페이지 요청 시 전달할 커서 (마지막 가게의 최소 주문 금액과 아이디)
+    private Integer nextCursorMinPrice;
+
+    private Long nextCursorShopId;
+
+    public static ShopSlice of(List<ShopInfo> shops, boolean hasNext) {
+        ShopInfo last = shops.isEmpty() ? null : shops.get(shops.size() - 1);
+        return ShopSlice.builder()
+                .shops(shops)
+                .hasNext(hasNext)
+                .nextCursorMinPrice(hasNext ? last.getMinPrice() : null)
+                .nextCursorShopId(hasNext ? last.getShopId() : null)
+                .build();
+    }
+}
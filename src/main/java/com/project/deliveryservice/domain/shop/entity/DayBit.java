@@ -1,5 +1,8 @@
 package com.project.deliveryservice.domain.shop.entity;
 
+import java.time.DayOfWeek;
+import java.util.Collection;
+
 public enum DayBit {
 
     MON(1 << 1),
@@ -10,9 +13,31 @@ public enum DayBit {
     SAT(1 << 6),
     SUN(1 << 7);
 
+    private static final DayBit[] BY_DAY_OF_WEEK = {MON, TUE, WED, THU, FRI, SAT, SUN};
+
     private final int bit;
 
     DayBit(int bit) {
         this.bit = bit;
     }
+
+    public int getBit() {
+        return bit;
+    }
+
+    public boolean isSet(int days) {
+        return (days & bit) != 0;
+    }
+
+    public static DayBit of(DayOfWeek dayOfWeek) {
+        return BY_DAY_OF_WEEK[dayOfWeek.ordinal()];
+    }
+
+    public static int toDays(Collection<DayBit> dayBits) {
+        int days = 0;
+        for (DayBit dayBit : dayBits) {
+            days |= dayBit.bit;
+        }
+        return days;
+    }
 }
@@ -2,6 +2,7 @@ package com.project.deliveryservice.domain.shop.entity;
 
 import com.project.deliveryservice.common.entity.Address;
 import com.project.deliveryservice.common.entity.ExtendedTimeEntity;
+import com.project.deliveryservice.common.entity.GeoPoint;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -13,6 +14,7 @@ import java.time.LocalTime;
 @AllArgsConstructor
 @NoArgsConstructor(access =  AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = @Index(name = "idx_shop_category_min_price", columnList = "category, minPrice, id"))
 public class Shop extends ExtendedTimeEntity {
 
     @Id
@@ -31,6 +33,10 @@ public class Shop extends ExtendedTimeEntity {
     @Column(nullable = false)
     public Address address;
 
+    @Embedded
+    // 주소의 우편번호로 찾은 좌표, 찾지 못하면 null
+    public GeoPoint location;
+
     @Size(min=10, max=100)
     @Column(nullable = false)
     // 가게 설명
@@ -47,4 +53,15 @@ public class Shop extends ExtendedTimeEntity {
     @Column(nullable = false)
     // 영업 종료 시간
     public LocalTime endTime;
+
+    public void changeAddress(Address address, GeoPoint location) {
+        this.address = address;
+        this.location = location;
+    }
+
+    public void changeBusinessHours(int restDays, LocalTime startTime, LocalTime endTime) {
+        this.restDays = restDays;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
 }
@@ -0,0 +1,14 @@
+package com.project.deliveryservice.domain.shop.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가게 정보가 변경된 트랜잭션 안에서 발행되는 애플리케이션 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ShopChangedEvent {
+
+    private Long shopId;
+}
@@ -0,0 +1,66 @@
+package com.project.deliveryservice.domain.shop.repository;
+
+import com.project.deliveryservice.domain.search.dto.ShopDocument;
+import com.project.deliveryservice.domain.shop.dto.ShopHours;
+import com.project.deliveryservice.domain.shop.dto.ShopLocation;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.entity.Shop;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ShopRepository extends JpaRepository<Shop, Long> {
+
+    @Query("select new com.project.deliveryservice.domain.shop.dto.ShopHours(s.id, s.category, s.restDays, s.startTime, s.endTime)" +
+            " from Shop s" +
+            " where s.deletedAt is null")
+    List<ShopHours> findAllHours();
+
+    @Query("select new com.project.deliveryservice.domain.shop.dto.ShopHours(s.id, s.category, s.restDays, s.startTime, s.endTime)" +
+            " from Shop s" +
+            " where s.id = :shopId and s.deletedAt is null")
+    Optional<ShopHours> findHoursById(@Param("shopId") Long shopId);
+
+    @Query("select new com.project.deliveryservice.domain.shop.dto.ShopLocation(s.id, s.location.latitude, s.location.longitude)" +
+            " from Shop s" +
+            " where s.deletedAt is null and s.location.latitude is not null")
+    List<ShopLocation> findAllLocations();
+
+    @Query("select new com.project.deliveryservice.domain.shop.dto.ShopLocation(s.id, s.location.latitude, s.location.longitude)" +
+            " from Shop s" +
+            " where s.id = :shopId and s.deletedAt is null and s.location.latitude is not null")
+    Optional<ShopLocation> findLocationById(@Param("shopId") Long shopId);
+
+    @Query("select s from Shop s where s.deletedAt is null")
+    List<Shop> findAllActive();
+
+    /**
+     * 최소 주문 금액, 아이디 순으로 정렬된 가게 목록을 커서 이후부터 조회한다.
+     * 메모리 카탈로그가 준비되기 전에만 사용된다.
+     */
+    @Query("select s from Shop s" +
+            " where s.deletedAt is null" +
+            " and (:category is null or s.category = :category)" +
+            " and s.minPrice <= :maxMinPrice" +
+            " and (s.minPrice > :cursorMinPrice or (s.minPrice = :cursorMinPrice and s.id > :cursorId))" +
+            " order by s.minPrice, s.id")
+    List<Shop> findSliceByCategoryAndMinPrice(@Param("category") Category category,
+                                              @Param("maxMinPrice") int maxMinPrice,
+                                              @Param("cursorMinPrice") int cursorMinPrice,
+                                              @Param("cursorId") long cursorId,
+                                              Pageable pageable);
+
+    @Query("select new com.project.deliveryservice.domain.search.dto.ShopDocument(s.id, s.description)" +
+            " from Shop s" +
+            " where s.deletedAt is null")
+    List<ShopDocument> findAllSearchDocuments();
+
+    @Query("select new com.project.deliveryservice.domain.search.dto.ShopDocument(s.id, s.description)" +
+            " from Shop s" +
+            " where s.id = :shopId and s.deletedAt is null")
+    Optional<ShopDocument> findSearchDocumentById(@Param("shopId") Long shopId);
+}
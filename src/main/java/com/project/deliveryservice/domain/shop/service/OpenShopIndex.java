@@ -0,0 +1,244 @@
+package com.project.deliveryservice.domain.shop.service;
+
+import com.project.deliveryservice.domain.shop.dto.ShopHours;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.event.ShopChangedEvent;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 현재 영업 중인 가게를 찾기 위한 메모리 색인
+ * 가게마다 조밀한 위치를 부여하고, 같은 영업 일정을 가진 가게들을 하나의 그룹으로 묶어 그룹마다 주간 분 단위 bitset 을 한 번만 계산한다.
+ * 특정 시각에 영업 중인 가게는 그 분에 영업하는 그룹들의 가게 bitset 을 OR 한 뒤 카테고리 bitset 과 AND 하여 구한다.
+ * 영업 일정이 다른 가게 수보다 훨씬 적으므로 가게 수가 늘어도 비용은 bitset 연산 몇 번으로 유지된다.
+ * 영업 시간이 비어 있는 가게는 영업하지 않는 것으로 보고 색인하지 않는다.
+ */
+@Slf4j
+@Component
+public class OpenShopIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ShopRepository shopRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 가게 아이디 -> 색인 위치
+    private final Map<Long, Integer> positions = new HashMap<>();
+    // 사용 중인 위치, 삭제된 가게의 위치는 재사용됨
+    private final BitSet occupied = new BitSet();
+    private long[] shopIds = new long[INITIAL_CAPACITY];
+    private ShopSchedule[] schedules = new ShopSchedule[INITIAL_CAPACITY];
+    private Category[] categories = new Category[INITIAL_CAPACITY];
+
+    private final Map<ShopSchedule, ScheduleGroup> groups = new HashMap<>();
+    private final Map<Category, BitSet> categoryMembers = new EnumMap<>(Category.class);
+
+    // 색인이 변경될 때마다 증가, 분 단위 결과 캐시의 유효성 확인에 사용
+    private long version;
+    private volatile OpenCache openCache;
+
+    public OpenShopIndex(ShopRepository shopRepository) {
+        this.shopRepository = shopRepository;
+    }
+
+    /**
+     * 전체 가게를 다시 읽어 색인을 새로 만든다. 다른 인스턴스에서 변경된 영업 시간도 이때 반영된다.
+     * 조회와 반영을 onShopChanged 와 같은 모니터 안에서 하므로, 읽은 뒤 반영 전에 처리된 변경을 오래된 값으로 덮어쓰지 않는다.
+     * 조회 요청은 read lock 만 사용하므로 다시 읽는 동안에도 막히지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${shop.open-index.reload-interval-ms:600000}")
+    public synchronized void reload() {
+        List<ShopHours> hours = shopRepository.findAllHours();
+
+        lock.writeLock().lock();
+        try {
+            positions.clear();
+            occupied.clear();
+            Arrays.fill(schedules, null);
+            Arrays.fill(categories, null);
+            groups.clear();
+            categoryMembers.clear();
+            hours.forEach(this::put);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onShopChanged(ShopChangedEvent event) {
+        Optional<ShopHours> hours = shopRepository.findHoursById(event.getShopId());
+        if (hours.isPresent()) {
+            upsert(hours.get());
+        } else {
+            remove(event.getShopId());
+        }
+    }
+
+    public void upsert(ShopHours hours) {
+        lock.writeLock().lock();
+        try {
+            removeIfPresent(hours.getShopId());
+            put(hours);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long shopId) {
+        lock.writeLock().lock();
+        try {
+            if (removeIfPresent(shopId)) {
+                version++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param category 카테고리, null 이면 전체
+     * @param at 영업 여부를 확인할 시각
+     * @param limit 반환할 최대 가게 수
+     * @return 영업 중인 가게 아이디 목록
+     */
+    public List<Long> findOpenShopIds(Category category, LocalDateTime at, int limit) {
+        int minute = ShopSchedule.minuteOfWeek(at);
+
+        lock.readLock().lock();
+        try {
+            BitSet open = openAt(minute);
+            if (category != null) {
+                BitSet members = categoryMembers.get(category);
+                if (members == null) {
+                    return List.of();
+                }
+                open = (BitSet) open.clone();
+                open.and(members);
+            }
+
+            List<Long> result = new ArrayList<>(Math.min(limit, open.cardinality()));
+            for (int pos = open.nextSetBit(0); pos >= 0 && result.size() < limit; pos = open.nextSetBit(pos + 1)) {
+                result.add(shopIds[pos]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isOpen(long shopId, LocalDateTime at) {
+        lock.readLock().lock();
+        try {
+            Integer pos = positions.get(shopId);
+            return pos != null && groups.get(schedules[pos]).minutes.get(ShopSchedule.minuteOfWeek(at));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return positions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // read lock 을 잡은 상태에서 호출, 반환된 bitset 은 캐시와 공유되므로 변경하면 안 됨
+    private BitSet openAt(int minute) {
+        OpenCache cache = openCache;
+        if (cache != null && cache.minute() == minute && cache.version() == version) {
+            return cache.open();
+        }
+
+        BitSet open = new BitSet();
+        for (ScheduleGroup group : groups.values()) {
+            if (group.minutes.get(minute)) {
+                open.or(group.members);
+            }
+        }
+        openCache = new OpenCache(minute, version, open);
+        return open;
+    }
+
+    private void put(ShopHours hours) {
+        if (hours.getStartTime() == null || hours.getEndTime() == null) {
+            log.warn("shop {} has no business hours, not indexed", hours.getShopId());
+            return;
+        }
+
+        int pos = occupied.nextClearBit(0);
+        ensureCapacity(pos);
+        occupied.set(pos);
+        positions.put(hours.getShopId(), pos);
+
+        ShopSchedule schedule = new ShopSchedule(hours.getRestDays(), hours.getStartTime(), hours.getEndTime());
+        shopIds[pos] = hours.getShopId();
+        schedules[pos] = schedule;
+        categories[pos] = hours.getCategory();
+
+        groups.computeIfAbsent(schedule, ScheduleGroup::new).members.set(pos);
+        categoryMembers.computeIfAbsent(hours.getCategory(), c -> new BitSet()).set(pos);
+    }
+
+    private boolean removeIfPresent(long shopId) {
+        Integer pos = positions.remove(shopId);
+        if (pos == null) {
+            return false;
+        }
+
+        ScheduleGroup group = groups.get(schedules[pos]);
+        group.members.clear(pos);
+        if (group.members.isEmpty()) {
+            groups.remove(schedules[pos]);
+        }
+        categoryMembers.get(categories[pos]).clear(pos);
+
+        occupied.clear(pos);
+        schedules[pos] = null;
+        categories[pos] = null;
+        return true;
+    }
+
+    private void ensureCapacity(int pos) {
+        if (pos < shopIds.length) {
+            return;
+        }
+        int capacity = Math.max(pos + 1, shopIds.length * 2);
+        shopIds = Arrays.copyOf(shopIds, capacity);
+        schedules = Arrays.copyOf(schedules, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+    }
+
+    private static class ScheduleGroup {
+
+        // 영업 중인 주간 분
+        private final BitSet minutes;
+        // 이 일정을 가진 가게들의 위치
+        private final BitSet members = new BitSet();
+
+        ScheduleGroup(ShopSchedule schedule) {
+            this.minutes = schedule.toMinuteOfWeekBits();
+        }
+    }
+
+    private record OpenCache(int minute, long version, BitSet open) {
+    }
+}
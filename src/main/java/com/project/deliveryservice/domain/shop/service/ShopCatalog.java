@@ -0,0 +1,164 @@
+package com.project.deliveryservice.domain.shop.service;
+
+import com.project.deliveryservice.domain.shop.dto.ShopInfo;
+import com.project.deliveryservice.domain.shop.dto.ShopSlice;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.entity.Shop;
+import com.project.deliveryservice.domain.shop.event.ShopChangedEvent;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 카테고리, 최소 주문 금액 조건의 가게 목록 조회를 위한 읽기 전용 메모리 카탈로그
+ * 가게를 (최소 주문 금액, 아이디) 순으로 정렬한 배열과 카테고리별 위치 bitset 으로 구성된 스냅샷을 만들어 두고,
+ * 가게가 변경되면 새 스냅샷을 만들어 통째로 교체한다. 조회는 교체 중에도 이전 스냅샷을 잠금 없이 읽는다.
+ */
+@Component
+public class ShopCatalog {
+
+    private final ShopRepository shopRepository;
+    private final long reloadIntervalMillis;
+
+    // 마지막 재구성 이후 가게 변경 여부
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile Snapshot snapshot;
+    private volatile long builtAt;
+
+    public ShopCatalog(ShopRepository shopRepository,
+                       @Value("${shop.catalog.reload-interval-ms:600000}") long reloadIntervalMillis) {
+        this.shopRepository = shopRepository;
+        this.reloadIntervalMillis = reloadIntervalMillis;
+    }
+
+    /**
+     * 변경된 가게가 있으면 스냅샷을 다시 만든다. 짧은 시간 동안의 변경은 한 번의 재구성으로 합쳐진다.
+     * 다른 인스턴스의 변경도 반영되도록 일정 주기마다 변경이 없어도 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${shop.catalog.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (dirty.getAndSet(false) || System.currentTimeMillis() - builtAt >= reloadIntervalMillis) {
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        List<Shop> shops = shopRepository.findAllActive();
+        snapshot = Snapshot.of(shops);
+        builtAt = System.currentTimeMillis();
+    }
+
+    @TransactionalEventListener
+    public void onShopChanged(ShopChangedEvent event) {
+        dirty.set(true);
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.infos.length;
+    }
+
+    /**
+     * @param category 카테고리, null 이면 전체
+     * @param maxMinPrice 최소 주문 금액 상한
+     * @param cursorMinPrice 이전 페이지 마지막 가게의 최소 주문 금액, null 이면 처음부터
+     * @param cursorId 이전 페이지 마지막 가게의 아이디
+     * @param size 페이지 크기
+     */
+    public ShopSlice find(Category category, int maxMinPrice, Integer cursorMinPrice, Long cursorId, int size) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("shop catalog is not ready");
+        }
+        return current.find(category, maxMinPrice, cursorMinPrice, cursorId, size);
+    }
+
+    private static class Snapshot {
+
+        private static final Comparator<ShopInfo> ORDER = Comparator.comparingInt(ShopInfo::getMinPrice)
+                .thenComparingLong(ShopInfo::getShopId);
+
+        // (최소 주문 금액, 아이디) 순으로 정렬, 세 배열의 같은 위치는 같은 가게
+        private final int[] minPrices;
+        private final long[] shopIds;
+        private final ShopInfo[] infos;
+        private final Map<Category, BitSet> categoryMembers;
+
+        private Snapshot(int[] minPrices, long[] shopIds, ShopInfo[] infos, Map<Category, BitSet> categoryMembers) {
+            this.minPrices = minPrices;
+            this.shopIds = shopIds;
+            this.infos = infos;
+            this.categoryMembers = categoryMembers;
+        }
+
+        static Snapshot of(List<Shop> shops) {
+            ShopInfo[] infos = shops.stream()
+                    .map(ShopInfo::of)
+                    .sorted(ORDER)
+                    .toArray(ShopInfo[]::new);
+
+            int[] minPrices = new int[infos.length];
+            long[] shopIds = new long[infos.length];
+            Map<Category, BitSet> categoryMembers = new EnumMap<>(Category.class);
+            for (int pos = 0; pos < infos.length; pos++) {
+                minPrices[pos] = infos[pos].getMinPrice();
+                shopIds[pos] = infos[pos].getShopId();
+                categoryMembers.computeIfAbsent(Category.valueOf(infos[pos].getCategory()), c -> new BitSet(infos.length))
+                        .set(pos);
+            }
+            return new Snapshot(minPrices, shopIds, infos, categoryMembers);
+        }
+
+        ShopSlice find(Category category, int maxMinPrice, Integer cursorMinPrice, Long cursorId, int size) {
+            int from = cursorMinPrice == null ? 0 : after(cursorMinPrice, cursorId == null ? Long.MAX_VALUE : cursorId);
+            int to = after(maxMinPrice, Long.MAX_VALUE);
+
+            List<ShopInfo> result = new ArrayList<>(Math.min(size + 1, Math.max(to - from, 0)));
+            if (category == null) {
+                for (int pos = from; pos < to && result.size() <= size; pos++) {
+                    result.add(infos[pos]);
+                }
+            } else {
+                BitSet members = categoryMembers.get(category);
+                if (members != null) {
+                    for (int pos = members.nextSetBit(from); pos >= 0 && pos < to && result.size() <= size;
+                         pos = members.nextSetBit(pos + 1)) {
+                        result.add(infos[pos]);
+                    }
+                }
+            }
+
+            boolean hasNext = result.size() > size;
+            return ShopSlice.of(hasNext ? result.subList(0, size) : result, hasNext);
+        }
+
+        // (minPrice, shopId) 보다 뒤에 있는 첫 위치
+        private int after(int minPrice, long shopId) {
+            int low = 0;
+            int high = minPrices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (minPrices[mid] < minPrice || (minPrices[mid] == minPrice && shopIds[mid] <= shopId)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.project.deliveryservice.domain.shop.service;
+
+import com.project.deliveryservice.domain.shop.dto.ShopDistance;
+import com.project.deliveryservice.domain.shop.dto.ShopLocation;
+import com.project.deliveryservice.domain.shop.event.ShopChangedEvent;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import com.project.deliveryservice.utils.GeoUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가게 좌표의 격자 공간 색인
+ * 위도, 경도를 같은 크기(도 단위)의 칸으로 나누고 칸마다 가게 아이디와 좌표를 primitive 배열로 보관한다.
+ * 반경 검색은 반경을 감싸는 사각형에 걸친 칸만 훑고, 칸 안의 가게는 사각형 비교 후 haversine 거리로 거른다.
+ */
+@Component
+public class ShopGeoIndex {
+
+    private final ShopRepository shopRepository;
+    private final double cellDegrees;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Cell> cells = new HashMap<>();
+    // 가게 아이디 -> 가게가 속한 칸의 key
+    private final Map<Long, Long> cellKeys = new HashMap<>();
+
+    public ShopGeoIndex(ShopRepository shopRepository,
+                        @Value("${shop.geo-index.cell-km:1}") double cellKm) {
+        this.shopRepository = shopRepository;
+        this.cellDegrees = cellKm / GeoUtils.KM_PER_DEGREE;
+    }
+
+    @Scheduled(fixedDelayString = "${shop.geo-index.reload-interval-ms:600000}")
+    public void reload() {
+        List<ShopLocation> locations = shopRepository.findAllLocations();
+
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cellKeys.clear();
+            locations.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onShopChanged(ShopChangedEvent event) {
+        Optional<ShopLocation> location = shopRepository.findLocationById(event.getShopId());
+        if (location.isPresent()) {
+            upsert(location.get());
+        } else {
+            remove(event.getShopId());
+        }
+    }
+
+    public void upsert(ShopLocation location) {
+        lock.writeLock().lock();
+        try {
+            removeIfPresent(location.getShopId());
+            put(location);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long shopId) {
+        lock.writeLock().lock();
+        try {
+            removeIfPresent(shopId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 반경 안의 가게를 가까운 순으로 최대 limit 개
+     */
+    public List<ShopDistance> findWithin(double latitude, double longitude, double radiusKm, int limit) {
+        double dLat = radiusKm / GeoUtils.KM_PER_DEGREE;
+        double dLon = GeoUtils.longitudeDelta(latitude, radiusKm);
+        int fromRow = row(Math.max(latitude - dLat, -90));
+        int toRow = row(Math.min(latitude + dLat, 90));
+        int fromCol = col(Math.max(longitude - dLon, -180));
+        int toCol = col(Math.min(longitude + dLon, 180));
+
+        List<ShopDistance> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int row = fromRow; row <= toRow; row++) {
+                for (int col = fromCol; col <= toCol; col++) {
+                    Cell cell = cells.get(key(row, col));
+                    if (cell != null) {
+                        cell.collect(latitude, longitude, dLat, dLon, radiusKm, found);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        found.sort(Comparator.comparingDouble(ShopDistance::getDistanceKm).thenComparingLong(ShopDistance::getShopId));
+        return found.size() > limit ? found.subList(0, limit) : found;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellKeys.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(ShopLocation location) {
+        long key = key(row(location.getLatitude()), col(location.getLongitude()));
+        cells.computeIfAbsent(key, k -> new Cell()).add(location.getShopId(), location.getLatitude(), location.getLongitude());
+        cellKeys.put(location.getShopId(), key);
+    }
+
+    private void removeIfPresent(long shopId) {
+        Long key = cellKeys.remove(shopId);
+        if (key == null) {
+            return;
+        }
+        Cell cell = cells.get(key);
+        cell.remove(shopId);
+        if (cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / cellDegrees);
+    }
+
+    private int col(double longitude) {
+        return (int) Math.floor((longitude + 180) / cellDegrees);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private static class Cell {
+
+        private long[] shopIds = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private int size;
+
+        void add(long shopId, double latitude, double longitude) {
+            if (size == shopIds.length) {
+                shopIds = Arrays.copyOf(shopIds, size * 2);
+                latitudes = Arrays.copyOf(latitudes, size * 2);
+                longitudes = Arrays.copyOf(longitudes, size * 2);
+            }
+            shopIds[size] = shopId;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            size++;
+        }
+
+        // 마지막 원소를 삭제된 자리로 옮긴다, 칸 안의 순서는 의미 없음
+        void remove(long shopId) {
+            for (int i = 0; i < size; i++) {
+                if (shopIds[i] == shopId) {
+                    size--;
+                    shopIds[i] = shopIds[size];
+                    latitudes[i] = latitudes[size];
+                    longitudes[i] = longitudes[size];
+                    return;
+                }
+            }
+        }
+
+        void collect(double latitude, double longitude, double dLat, double dLon, double radiusKm,
+                     List<ShopDistance> found) {
+            for (int i = 0; i < size; i++) {
+                if (Math.abs(latitudes[i] - latitude) > dLat || Math.abs(longitudes[i] - longitude) > dLon) {
+                    continue;
+                }
+                double distance = GeoUtils.distanceKm(latitude, longitude, latitudes[i], longitudes[i]);
+                if (distance <= radiusKm) {
+                    found.add(new ShopDistance(shopIds[i], distance));
+                }
+            }
+        }
+    }
+}
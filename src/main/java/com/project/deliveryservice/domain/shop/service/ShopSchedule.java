@@ -0,0 +1,53 @@
+package com.project.deliveryservice.domain.shop.service;
+
+import com.project.deliveryservice.domain.shop.entity.DayBit;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * 휴무일과 영업 시간으로 정해지는 주간 영업 일정
+ * 주의 분(월요일 00:00 = 0 ~ 일요일 23:59 = 10079) 단위 bitset 으로 변환된다.
+ * 종료 시간이 시작 시간보다 이르면 다음 날 새벽까지 영업하며, 새벽 영업은 전날의 영업으로 보아 전날이 휴무일이면 영업하지 않는다.
+ * 시작 시간과 종료 시간이 같으면 시작 시간부터 24시간 영업한다.
+ */
+public record ShopSchedule(int restDays, LocalTime startTime, LocalTime endTime) {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    public ShopSchedule {
+        Objects.requireNonNull(startTime, "startTime");
+        Objects.requireNonNull(endTime, "endTime");
+    }
+
+    public BitSet toMinuteOfWeekBits() {
+        BitSet minutes = new BitSet(MINUTES_PER_WEEK);
+        int start = startTime.getHour() * 60 + startTime.getMinute();
+        int end = endTime.getHour() * 60 + endTime.getMinute();
+        int length = end > start ? end - start : end + MINUTES_PER_DAY - start;
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (DayBit.of(day).isSet(restDays)) {
+                continue;
+            }
+            int from = day.ordinal() * MINUTES_PER_DAY + start;
+            int to = from + length;
+            if (to <= MINUTES_PER_WEEK) {
+                minutes.set(from, to);
+            } else {
+                // 일요일 밤에 시작한 영업은 월요일 새벽으로 이어짐
+                minutes.set(from, MINUTES_PER_WEEK);
+                minutes.set(0, to - MINUTES_PER_WEEK);
+            }
+        }
+        return minutes;
+    }
+
+    public static int minuteOfWeek(LocalDateTime dateTime) {
+        return dateTime.getDayOfWeek().ordinal() * MINUTES_PER_DAY + dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+}
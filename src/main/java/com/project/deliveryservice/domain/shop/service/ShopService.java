@@ -0,0 +1,146 @@
+package com.project.deliveryservice.domain.shop.service;
+
+import com.project.deliveryservice.common.entity.Address;
+import com.project.deliveryservice.common.entity.GeoPoint;
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.location.service.GeoLocationService;
+import com.project.deliveryservice.domain.shop.dto.NearbyShopInfo;
+import com.project.deliveryservice.domain.shop.dto.ShopAddressRequest;
+import com.project.deliveryservice.domain.shop.dto.ShopDistance;
+import com.project.deliveryservice.domain.shop.dto.ShopHoursRequest;
+import com.project.deliveryservice.domain.shop.dto.ShopInfo;
+import com.project.deliveryservice.domain.shop.dto.ShopSlice;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.entity.DayBit;
+import com.project.deliveryservice.domain.shop.entity.Shop;
+import com.project.deliveryservice.domain.shop.event.ShopChangedEvent;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import com.project.deliveryservice.domain.user.entity.User;
+import com.project.deliveryservice.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ShopService {
+
+    private static final int MAX_LIMIT = 200;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final double MAX_RADIUS_KM = 20;
+
+    private final ShopRepository shopRepository;
+    private final OpenShopIndex openShopIndex;
+    private final ShopCatalog shopCatalog;
+    private final ShopGeoIndex shopGeoIndex;
+    private final UserService userService;
+    private final GeoLocationService geoLocationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Shop getShopOrThrowById(long shopId) {
+        return shopRepository.findById(shopId)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMsg.SHOP_NOT_EXIST));
+    }
+
+    /**
+     * 카테고리, 최소 주문 금액 조건의 가게 목록을 최소 주문 금액이 낮은 순으로 조회한다.
+     * 메모리 카탈로그에서 조회하고, 카탈로그가 아직 만들어지지 않았으면 DB 에서 조회한다.
+     *
+     * @param category 카테고리, null 이면 전체
+     * @param maxMinPrice 최소 주문 금액 상한, null 이면 제한 없음
+     */
+    public ShopSlice getShops(Category category, Integer maxMinPrice, Integer cursorMinPrice, Long cursorId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int priceLimit = maxMinPrice == null ? Integer.MAX_VALUE : maxMinPrice;
+        if (shopCatalog.isReady()) {
+            return shopCatalog.find(category, priceLimit, cursorMinPrice, cursorId, pageSize);
+        }
+
+        List<ShopInfo> shops = shopRepository.findSliceByCategoryAndMinPrice(category, priceLimit,
+                        cursorMinPrice == null ? Integer.MIN_VALUE : cursorMinPrice,
+                        cursorId == null ? Long.MAX_VALUE : cursorId,
+                        PageRequest.of(0, pageSize + 1)).stream()
+                .map(ShopInfo::of)
+                .toList();
+        boolean hasNext = shops.size() > pageSize;
+        return ShopSlice.of(hasNext ? shops.subList(0, pageSize) : shops, hasNext);
+    }
+
+    /**
+     * 현재 영업 중인 가게를 조회한다. 영업 여부는 색인에서 판단하고 DB 는 결과 가게만 한 번에 조회한다.
+     *
+     * @param category 카테고리, null 이면 전체
+     */
+    public List<ShopInfo> getOpenShops(Category category, int limit) {
+        List<Long> shopIds = openShopIndex.findOpenShopIds(category, LocalDateTime.now(),
+                Math.min(Math.max(limit, 1), MAX_LIMIT));
+        if (shopIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Shop> shops = shopRepository.findAllById(shopIds).stream()
+                .collect(Collectors.toMap(Shop::getId, Function.identity()));
+        return shopIds.stream()
+                .map(shops::get)
+                .filter(Objects::nonNull)
+                .map(ShopInfo::of)
+                .toList();
+    }
+
+    /**
+     * 사용자 주소에서 반경 안에 있는 가게를 가까운 순으로 조회한다.
+     */
+    public List<NearbyShopInfo> getNearbyShops(String email, double radiusKm, int limit) {
+        User user = userService.getUserOrThrowByEmail(email);
+        GeoPoint location = user.getLocation();
+        if (location == null) {
+            throw new IllegalArgumentException(ErrorMsg.USER_LOCATION_NOT_EXIST);
+        }
+
+        List<ShopDistance> nearby = shopGeoIndex.findWithin(location.getLatitude(), location.getLongitude(),
+                Math.min(Math.max(radiusKm, 0), MAX_RADIUS_KM), Math.min(Math.max(limit, 1), MAX_LIMIT));
+        if (nearby.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Shop> shops = shopRepository.findAllById(nearby.stream().map(ShopDistance::getShopId).toList()).stream()
+                .collect(Collectors.toMap(Shop::getId, Function.identity()));
+        return nearby.stream()
+                .filter(d -> shops.containsKey(d.getShopId()))
+                .map(d -> new NearbyShopInfo(ShopInfo.of(shops.get(d.getShopId())), d.getDistanceKm()))
+                .toList();
+    }
+
+    /**
+     * 주소를 변경하고 우편번호로 좌표를 다시 찾는다. 커밋 이후 공간 색인에 반영된다.
+     */
+    @Transactional
+    public ShopInfo changeAddress(long shopId, ShopAddressRequest request) {
+        Shop shop = getShopOrThrowById(shopId);
+        Address address = new Address(request.getCity(), request.getStreet(), request.getZipCode());
+        shop.changeAddress(address, geoLocationService.locate(address).orElse(null));
+        eventPublisher.publishEvent(new ShopChangedEvent(shopId));
+        return ShopInfo.of(shop);
+    }
+
+    /**
+     * 영업 일정을 변경한다. 커밋 이후 영업 중 색인에 반영된다.
+     */
+    @Transactional
+    public ShopInfo changeBusinessHours(long shopId, ShopHoursRequest request) {
+        Shop shop = getShopOrThrowById(shopId);
+        shop.changeBusinessHours(DayBit.toDays(request.getRestDays()), request.getStartTime(), request.getEndTime());
+        eventPublisher.publishEvent(new ShopChangedEvent(shopId));
+        return ShopInfo.of(shop);
+    }
+}
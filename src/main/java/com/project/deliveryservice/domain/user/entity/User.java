@@ -3,6 +3,8 @@ package com.project.deliveryservice.domain.user.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.project.deliveryservice.common.entity.Address;
 import com.project.deliveryservice.common.entity.ExtendedTimeEntity;
+import com.project.deliveryservice.common.entity.GeoPoint;
+import com.project.deliveryservice.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -14,7 +16,7 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends ExtendedTimeEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @SnowflakeId
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -34,6 +36,14 @@ public class User extends ExtendedTimeEntity {
     @Embedded
     private Address address;
 
+    // 주소의 우편번호로 찾은 좌표, 찾지 못하면 null
+    @Embedded
+    private GeoPoint location;
+
+    public void changeLocation(GeoPoint location) {
+        this.location = location;
+    }
+
     @JsonIgnore
     public boolean isEnabled() {
         return getDeletedAt() == null;
@@ -1,11 +1,22 @@
 package com.project.deliveryservice.domain.user.repository;
 
 import com.project.deliveryservice.domain.user.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // 권한 확인과 UserInfo 생성에 사용되는 level 을 함께 조회
+    @EntityGraph(attributePaths = "level")
     Optional<User> findByEmail(String email);
+
+    @EntityGraph(attributePaths = "level")
+    Optional<User> findWithLevelById(Long id);
+
+    @EntityGraph(attributePaths = "level")
+    List<User> findAllWithLevelByIdIn(Collection<Long> ids);
 }
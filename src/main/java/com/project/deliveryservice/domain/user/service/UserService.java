@@ -2,23 +2,38 @@ package com.project.deliveryservice.domain.user.service;
 
 import com.project.deliveryservice.common.exception.DuplicatedArgumentException;
 import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.location.service.GeoLocationService;
 import com.project.deliveryservice.domain.user.entity.User;
 import com.project.deliveryservice.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final GeoLocationService geoLocationService;
 
     public User getUserOrThrowById(Long userId) {
-        return userRepository.findById(userId)
+        return userRepository.findWithLevelById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("user not exist"));
     }
 
+    /**
+     * @return 존재하는 사용자만 담긴 userId 를 key 로 하는 map
+     */
+    public Map<Long, User> getUsersByIds(Collection<Long> userIds) {
+        return userRepository.findAllWithLevelByIdIn(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
     public User getUserOrThrowByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException(email + " is not found"));
@@ -31,7 +46,13 @@ public class UserService {
                 });
     }
 
+    /**
+     * 좌표가 없으면 주소의 우편번호로 좌표를 찾아 함께 저장한다.
+     */
     public User save(User user) {
+        if (user.getLocation() == null) {
+            geoLocationService.locate(user.getAddress()).ifPresent(user::changeLocation);
+        }
         return userRepository.save(user);
     }
 }
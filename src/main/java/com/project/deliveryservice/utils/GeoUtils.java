@@ -0,0 +1,28 @@
+package com.project.deliveryservice.utils;
+
+public abstract class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // 위도 1도의 거리
+    public static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    /**
+     * 두 좌표 사이의 대원 거리 (haversine)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 중심이 latitude 인 반경 radiusKm 원이 걸치는 최대 경도 차이, 극을 포함하면 180
+     */
+    public static double longitudeDelta(double latitude, double radiusKm) {
+        double sin = Math.sin(radiusKm / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude));
+        return sin >= 1 || Double.isNaN(sin) ? 180 : Math.toDegrees(Math.asin(sin));
+    }
+}
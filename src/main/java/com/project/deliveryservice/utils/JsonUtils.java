@@ -16,6 +16,10 @@ public class JsonUtils {
         return objectMapper.writeValueAsString(data);
     }
 
+    public <T> byte[] serializeToBytes(T data) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(data);
+    }
+
     public <T> T deserialize(String json, Class<T> clazz) throws JsonProcessingException {
         return objectMapper.readValue(json, clazz);
     }
@@ -5,5 +5,5 @@ VALUES ('고마운분', 0, 'ROLE_NORMAL'),
        ('천생연분', 20, 'ROLE_VIP'),
        ('관리자', -1, 'ROLE_ADMIN');
 
-INSERT INTO USERS (email, username, password, level_id)
-VALUES ('test@naver.com', 'test', '1234', 1);
\ No newline at end of file
+INSERT INTO USERS (id, email, username, password, level_id)
+VALUES (1, 'test@naver.com', 'test', '1234', 1);
\ No newline at end of file
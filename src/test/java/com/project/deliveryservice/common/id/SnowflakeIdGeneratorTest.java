@@ -0,0 +1,124 @@
+package com.project.deliveryservice.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long EPOCH = SnowflakeIdGenerator.DEFAULT_EPOCH;
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 식별자를 발급해도 중복되지 않는다.")
+    void test_01() throws Exception {
+
+        // given
+        int threadCount = 16;
+        int idsPerThread = 100_000;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet(threadCount * idsPerThread);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long prev = 0;
+                for (int j = 0; j < idsPerThread; j++) {
+                    long id = generator.nextId();
+                    // 한 스레드 안에서는 항상 증가하는 값을 발급받음
+                    assertTrue(id > prev);
+                    prev = id;
+                    ids.add(id);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ids.size(), equalTo(threadCount * idsPerThread));
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 돌아가도 식별자는 감소하지 않고 중복되지 않는다.")
+    void test_02() {
+
+        // given
+        AtomicLong clock = new AtomicLong(EPOCH + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, EPOCH, clock::get);
+        long before = generator.nextId();
+
+        // when - 시계가 5초 뒤로 돌아감
+        clock.addAndGet(-5_000);
+        long after = generator.nextId();
+
+        // then
+        assertThat(after, greaterThan(before));
+        assertThat(generator.extractTimestamp(after), equalTo(EPOCH + 10_000));
+    }
+
+    @Test
+    @DisplayName("한 밀리초의 sequence 를 모두 소진하면 다음 밀리초의 식별자를 발급한다.")
+    void test_03() {
+
+        // given - 시계가 멈춰 있음
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, EPOCH, () -> EPOCH + 1_000);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // when
+        long last = 0;
+        for (int i = 0; i <= SnowflakeIdGenerator.MAX_SEQUENCE + 1; i++) {
+            last = generator.nextId();
+            ids.add(last);
+        }
+
+        // then
+        assertThat(ids.size(), equalTo((int) SnowflakeIdGenerator.MAX_SEQUENCE + 2));
+        assertThat(generator.extractTimestamp(last), equalTo(EPOCH + 1_001));
+    }
+
+    @Test
+    @DisplayName("서로 다른 node id 의 생성기는 같은 시각에도 다른 식별자를 발급한다.")
+    void test_04() {
+
+        // given
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, EPOCH, () -> EPOCH + 1_000);
+        SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, EPOCH, () -> EPOCH + 1_000);
+
+        // when
+        long id1 = node1.nextId();
+        long id2 = node2.nextId();
+
+        // then
+        assertNotEquals(id1, id2);
+        assertThat(SnowflakeIdGenerator.extractNodeId(id1), equalTo(1L));
+        assertThat(SnowflakeIdGenerator.extractNodeId(id2), equalTo(2L));
+    }
+
+    @Test
+    @DisplayName("node id 가 범위를 벗어나면 예외를 던진다.")
+    void test_05() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+    }
+}
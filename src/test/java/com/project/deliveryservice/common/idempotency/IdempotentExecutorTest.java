@@ -0,0 +1,173 @@
+package com.project.deliveryservice.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deliveryservice.common.exception.StatusConflictException;
+import com.project.deliveryservice.common.exception.TooManyRequestsException;
+import com.project.deliveryservice.utils.JsonUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotentExecutorTest {
+
+    private InMemoryIdempotencyStore store;
+    private IdempotentExecutor executor;
+
+    @BeforeEach
+    void setup() {
+        store = new InMemoryIdempotencyStore(Duration.ofMinutes(10), 1000, Clock.systemUTC());
+        executor = new IdempotentExecutor(store, new JsonUtils(new ObjectMapper()), 16);
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 요청하면 작업은 한 번만 실행되고 모두 같은 응답을 받는다.")
+    void test_01() throws Exception {
+
+        // given
+        int threadCount = 8;
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return executor.execute("user:key-1", Integer.class, executions::incrementAndGet);
+            }));
+        }
+        start.countDown();
+
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            results.add(future.get());
+        }
+        pool.shutdown();
+
+        // then
+        assertEquals(1, executions.get());
+        assertThat(results, everyItem(is(1)));
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 키가 해제되어 같은 키로 다시 시도할 수 있다.")
+    void test_02() {
+
+        // given
+        String key = "user:key-2";
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> executor.execute(key, String.class, () -> {
+            throw new IllegalArgumentException("item not exist");
+        }));
+        String result = executor.execute(key, String.class, () -> "created");
+
+        // then
+        assertEquals("created", result);
+        assertEquals("created", executor.execute(key, String.class, () -> "created again"));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 같은 키를 처리 중이면 충돌 예외가 발생한다.")
+    void test_03() {
+
+        // given
+        String key = "user:key-3";
+        store.reserve(key);
+
+        // when
+        // then
+        assertThrows(StatusConflictException.class,
+                () -> executor.execute(key, String.class, () -> "created"));
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 키와 최대 개수를 넘은 오래된 키는 제거된다.")
+    void test_04() {
+
+        // given
+        MutableClock clock = new MutableClock();
+        InMemoryIdempotencyStore bounded = new InMemoryIdempotencyStore(Duration.ofSeconds(10), 3, clock);
+        for (int i = 0; i < 5; i++) {
+            bounded.reserve("key-" + i);
+            bounded.complete("key-" + i, "response-" + i);
+        }
+
+        // when
+        int sizeAfterBound = bounded.size();
+        clock.advance(Duration.ofSeconds(11));
+        boolean reservedAgain = bounded.reserve("key-4");
+
+        // then
+        assertEquals(3, sizeAfterBound);
+        assertTrue(bounded.findResponse("key-0").isEmpty());
+        assertTrue(reservedAgain);
+        assertEquals(1, bounded.size());
+    }
+
+    @Test
+    @DisplayName("최대 개수에 도달해도 처리 중인 키는 제거하지 않고 새 키를 거절한다.")
+    void test_05() {
+
+        // given
+        InMemoryIdempotencyStore bounded = new InMemoryIdempotencyStore(Duration.ofMinutes(10), 2, Clock.systemUTC());
+        bounded.reserve("key-0");
+        bounded.reserve("key-1");
+
+        // when
+        assertThrows(TooManyRequestsException.class, () -> bounded.reserve("key-2"));
+        boolean inFlightReservedAgain = bounded.reserve("key-0");
+        bounded.complete("key-0", "response-0");
+        boolean reservedAfterComplete = bounded.reserve("key-2");
+        bounded.release("key-1");
+        boolean reservedAfterRelease = bounded.reserve("key-3");
+
+        // then
+        assertFalse(inFlightReservedAgain);
+        assertTrue(reservedAfterComplete);
+        assertTrue(bounded.findResponse("key-0").isEmpty());
+        assertTrue(reservedAfterRelease);
+        assertEquals(2, bounded.size());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
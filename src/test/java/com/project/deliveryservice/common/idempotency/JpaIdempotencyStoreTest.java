@@ -0,0 +1,72 @@
+package com.project.deliveryservice.common.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "idempotency.store=jpa")
+class JpaIdempotencyStoreTest {
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("이미 선점된 키를 다시 선점하면 예외 없이 false 를 반환하고, 이후 연산은 정상적으로 커밋된다.")
+    void test_01() {
+
+        // given
+        String key = "user:jpa-key-1";
+        assertTrue(idempotencyStore.reserve(key));
+
+        // when
+        boolean reservedAgain = idempotencyStore.reserve(key);
+        idempotencyStore.complete(key, "response");
+
+        // then
+        assertInstanceOf(JpaIdempotencyStore.class, idempotencyStore);
+        assertFalse(reservedAgain);
+        assertEquals(Optional.of("response"), idempotencyStore.findResponse(key));
+    }
+
+    @Test
+    @DisplayName("호출한 트랜잭션 안에서 선점에 실패해도 호출한 트랜잭션은 롤백되지 않는다.")
+    void test_02() {
+
+        // given
+        String key = "user:jpa-key-2";
+        idempotencyStore.reserve(key);
+
+        // when
+        Boolean reservedAgain = new TransactionTemplate(transactionManager)
+                .execute(status -> idempotencyStore.reserve(key));
+
+        // then
+        assertFalse(reservedAgain);
+    }
+
+    @Test
+    @DisplayName("해제된 키는 다시 선점할 수 있다.")
+    void test_03() {
+
+        // given
+        String key = "user:jpa-key-3";
+        idempotencyStore.reserve(key);
+
+        // when
+        idempotencyStore.release(key);
+        boolean reservedAgain = idempotencyStore.reserve(key);
+
+        // then
+        assertTrue(reservedAgain);
+        assertEquals(Optional.empty(), idempotencyStore.findResponse(key));
+    }
+}
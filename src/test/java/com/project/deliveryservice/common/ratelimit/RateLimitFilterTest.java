@@ -0,0 +1,76 @@
+package com.project.deliveryservice.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RateLimitFilterTest {
+
+    RateLimiters rateLimiters;
+    RateLimitFilter filter;
+    FilterChain mockFilterChain;
+
+    @BeforeEach
+    void setup() {
+        // 주문 생성은 사용자당 한 번만 허용
+        rateLimiters = new RateLimiters(10, 50, 0.001, 1, 100);
+        filter = new RateLimitFilter(rateLimiters, new ObjectMapper());
+        mockFilterChain = Mockito.mock(FilterChain.class);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user@naver.com", null, List.of()));
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("주문 생성만 제한하고 주문 조회, 배달 추적 구독, 관리자 상태 변경과 비슷한 경로는 세지 않는다.")
+    void test_01() throws Exception {
+
+        // given
+        List<MockHttpServletRequest> unlimited = List.of(
+                new MockHttpServletRequest("GET", "/api/orders"),
+                new MockHttpServletRequest("GET", "/api/orders/1"),
+                new MockHttpServletRequest("GET", "/api/orders/1/tracking"),
+                new MockHttpServletRequest("PATCH", "/api/orders/status"),
+                new MockHttpServletRequest("POST", "/api/orders-export"));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            for (MockHttpServletRequest request : unlimited) {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                filter.doFilterInternal(request, response, mockFilterChain);
+                assertEquals(HttpStatus.OK.value(), response.getStatus(), request.getRequestURI());
+            }
+        }
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilterInternal(new MockHttpServletRequest("POST", "/api/orders"), first, mockFilterChain);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilterInternal(new MockHttpServletRequest("POST", "/api/orders"), second, mockFilterChain);
+
+        // then
+        assertEquals(HttpStatus.OK.value(), first.getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), second.getStatus());
+        assertNotNull(second.getHeader(HttpHeaders.RETRY_AFTER));
+        verify(mockFilterChain, times(unlimited.size() * 3 + 1)).doFilter(any(), any());
+        assertEquals(1, rateLimiters.getOrderLimiter().getStats().getRejectedCount());
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.deliveryservice.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    @DisplayName("버킷 크기만큼 연속으로 허용한 뒤 거절하고, 시간이 지나면 토큰이 다시 채워진다.")
+    void test_01() {
+
+        // given
+        RateLimiter limiter = new RateLimiter("test", 10, 5, 100, clock::get);
+
+        // when
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (limiter.tryAcquire("user")) {
+                allowed++;
+            }
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+
+        // then
+        assertEquals(5, allowed);
+        assertEquals(5, limiter.getStats().getRejectedCount());
+        assertTrue(limiter.tryAcquire("user"));
+        assertTrue(limiter.tryAcquire("user"));
+        assertFalse(limiter.tryAcquire("user"));
+        assertTrue(limiter.tryAcquire("other"));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 버킷 크기를 초과해 허용하지 않는다.")
+    void test_02() throws Exception {
+
+        // given
+        RateLimiter limiter = new RateLimiter("test", 1, 100, 100, clock::get);
+        int threadCount = 8;
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 1000; j++) {
+                    if (limiter.tryAcquire("user")) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(100, allowed.get());
+    }
+
+    @Test
+    @DisplayName("다시 가득 찬 버킷만 제거되고, 키 수 한도를 넘은 키들은 하나의 공유 버킷으로 제한한다.")
+    void test_03() {
+
+        // given
+        RateLimiter limiter = new RateLimiter("test", 10, 2, 2, clock::get);
+        limiter.tryAcquire("a");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        limiter.tryAcquire("b");
+        limiter.tryAcquire("b");
+
+        // when
+        boolean overflowFirst = limiter.tryAcquire("c");
+        boolean overflowSecond = limiter.tryAcquire("d");
+        boolean overflowThird = limiter.tryAcquire("e");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(60));
+        int evicted = limiter.evictIdle();
+        boolean trackedAgain = limiter.tryAcquire("f");
+
+        // then
+        assertTrue(overflowFirst);
+        assertTrue(overflowSecond);
+        assertFalse(overflowThird);
+        assertEquals(3, limiter.getStats().getOverflowCount());
+        assertTrue(limiter.retryAfterSeconds("e") > 0);
+        assertEquals(1, evicted);
+        assertTrue(trackedAgain);
+        assertEquals(2, limiter.getStats().getTrackedKeys());
+    }
+}
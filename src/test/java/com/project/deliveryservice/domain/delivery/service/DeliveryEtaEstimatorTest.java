@@ -0,0 +1,122 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.domain.delivery.dto.DeliverySample;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeliveryEtaEstimatorTest {
+
+    private static final LocalDateTime base = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    DeliveryRepository mockDeliveryRepository;
+    DeliveryEtaEstimator etaEstimator;
+
+    @BeforeEach
+    void setup() {
+        mockDeliveryRepository = Mockito.mock(DeliveryRepository.class);
+        etaEstimator = new DeliveryEtaEstimator(mockDeliveryRepository, 28, 2, 200, 20, 15);
+    }
+
+    @Test
+    @DisplayName("표본이 없는 zone 쌍은 출발 zone 의 평균, 그것도 없으면 전체 평균을 사용한다.")
+    void test_01() {
+
+        // given
+        TravelTimeMatrix matrix = new TravelTimeMatrix(200, 20);
+        int gangnam = TravelTimeMatrix.zoneOf("06236");
+        int songpa = TravelTimeMatrix.zoneOf("05500");
+        int mapo = TravelTimeMatrix.zoneOf("04100");
+
+        // when
+        float empty = matrix.minutes(gangnam, songpa);
+        matrix.add(gangnam, songpa, 10);
+        matrix.add(gangnam, songpa, 20);
+        matrix.add(gangnam, mapo, 60);
+        matrix.add(mapo, songpa, 6);
+
+        // then
+        assertEquals(20, empty);
+        assertEquals(62, gangnam);
+        assertEquals(-1, TravelTimeMatrix.zoneOf("0a123"));
+        assertEquals(15, matrix.minutes(gangnam, songpa));
+        assertEquals(2, matrix.samples(gangnam, songpa));
+        assertEquals(30, matrix.minutes(gangnam, TravelTimeMatrix.zoneOf("99999")));
+        assertEquals(24, matrix.minutes(songpa, mapo));
+        assertEquals(24, matrix.minutes(-1, songpa));
+    }
+
+    @Test
+    @DisplayName("마지막으로 읽은 완료 시각과 아이디 이후의 배달만 이어서 읽어 통계에 반영한다.")
+    void test_02() {
+
+        // given
+        DeliverySample first = sample(1L, 10L, base, 12, 18);
+        DeliverySample second = sample(2L, 10L, base.plusMinutes(5), 8, 22);
+        DeliverySample third = sample(3L, 11L, base.plusMinutes(10), 20, 30);
+        // 3시간이 넘는 표본은 버림
+        DeliverySample broken = sample(4L, 10L, base.plusMinutes(15), 10, 600);
+        when(mockDeliveryRepository.findSamplesCompletedAfter(any(), eq(0L), any()))
+                .thenReturn(List.of(first, second));
+        when(mockDeliveryRepository.findSamplesCompletedAfter(second.getCompletedAt(), 2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(third));
+        when(mockDeliveryRepository.findSamplesCompletedAfter(third.getCompletedAt(), 3L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(broken));
+
+        // when
+        int firstRefresh = etaEstimator.refresh();
+        int secondRefresh = etaEstimator.refresh();
+
+        // then
+        assertEquals(3, firstRefresh);
+        assertEquals(1, secondRefresh);
+        verify(mockDeliveryRepository).findSamplesCompletedAfter(third.getCompletedAt(), 3L, PageRequest.of(0, 2));
+        assertEquals(10, etaEstimator.prepMinutes(10L));
+        assertEquals(20, etaEstimator.prepMinutes(11L));
+        assertEquals(15, etaEstimator.prepMinutes(12L));
+        assertEquals(20, etaEstimator.travelMinutes("05500", "05600"));
+        assertEquals(30, etaEstimator.travelMinutes("05500", "04100"));
+    }
+
+    @Test
+    @DisplayName("수령 전에는 조리 완료 예상 시각부터, 수령 후에는 수령 시각부터 이동 시간을 더한다.")
+    void test_03() {
+
+        // given
+        when(mockDeliveryRepository.findSamplesCompletedAfter(any(), eq(0L), any()))
+                .thenReturn(List.of(sample(1L, 10L, base, 10, 25)));
+        etaEstimator.refresh();
+
+        // when
+        LocalDateTime beforePrepared = etaEstimator.estimate(10L, "05500", "05600", base, null, base.plusMinutes(3));
+        LocalDateTime afterPrepared = etaEstimator.estimate(10L, "05500", "05600", base, null, base.plusMinutes(40));
+        LocalDateTime pickedUp = etaEstimator.estimate(10L, "05500", "05600", base, base.plusMinutes(12), base.plusMinutes(40));
+        LocalDateTime unknownZone = etaEstimator.estimate(null, null, null, base, null, base);
+
+        // then
+        assertEquals(base.plusMinutes(10 + 25), beforePrepared);
+        assertEquals(base.plusMinutes(40 + 25), afterPrepared);
+        assertEquals(base.plusMinutes(12 + 25), pickedUp);
+        // 가게, zone 을 모르면 기본 조리 시간과 전체 평균 이동 시간을 사용
+        assertEquals(base.plusMinutes(15 + 25), unknownZone);
+    }
+
+    // 055 zone 가게에서 출발, 이동 시간이 30분 이상이면 041 zone, 아니면 056 zone 으로 가는 배달
+    private DeliverySample sample(Long deliveryId, Long shopId, LocalDateTime orderedAt, int prepMinutes, int travelMinutes) {
+        LocalDateTime pickupedAt = orderedAt.plusMinutes(prepMinutes);
+        return new DeliverySample(deliveryId, shopId, "05500", travelMinutes >= 30 ? "04100" : "05600",
+                orderedAt, pickupedAt, pickupedAt.plusMinutes(travelMinutes));
+    }
+}
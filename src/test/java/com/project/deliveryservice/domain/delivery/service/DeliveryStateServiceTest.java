@@ -0,0 +1,94 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.domain.delivery.dto.DeliveryStateResult;
+import com.project.deliveryservice.domain.delivery.entity.DeliveryTransition;
+import com.project.deliveryservice.domain.delivery.event.DeliveryStateChangedEvent;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DeliveryStateServiceTest {
+
+    DeliveryRepository mockDeliveryRepository;
+    ApplicationEventPublisher mockEventPublisher;
+
+    DeliveryStateService deliveryStateService;
+
+    @BeforeEach
+    void setup() {
+        mockDeliveryRepository = Mockito.mock(DeliveryRepository.class);
+        mockEventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        deliveryStateService = new DeliveryStateService(mockDeliveryRepository, mockEventPublisher);
+    }
+
+    @Test
+    @DisplayName("일괄 수령은 한 번의 update 로 수행되고, 변경된 배달의 주문으로 이벤트를 발행한다.")
+    void test_01() {
+
+        // given - 103번 배달은 아직 배정되지 않음
+        when(mockDeliveryRepository.updateStateInBulk(eq(List.of(101L, 102L, 103L)), eq(DeliveryTransition.PICKUP), any()))
+                .thenReturn(List.of(101L, 102L));
+        when(mockDeliveryRepository.findOrderIdsByDeliveryIds(List.of(101L, 102L))).thenReturn(List.of(1L, 2L));
+
+        // when
+        DeliveryStateResult result = deliveryStateService.changeStateInBulk(List.of(101L, 102L, 103L, 101L), DeliveryTransition.PICKUP);
+
+        // then
+        verify(mockDeliveryRepository, times(1)).updateStateInBulk(anyCollection(), any(), any());
+        ArgumentCaptor<DeliveryStateChangedEvent> captor = ArgumentCaptor.forClass(DeliveryStateChangedEvent.class);
+        verify(mockEventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(List.of(1L, 2L), captor.getValue().getOrderIds());
+        assertEquals(DeliveryTransition.PICKUP, captor.getValue().getTransition());
+        // 수령은 기사를 풀어주지 않음
+        verify(mockDeliveryRepository, never()).findIdleRiderIdsByDeliveryIds(anyCollection());
+        assertEquals(List.of(), captor.getValue().getReleasedRiderIds());
+        assertEquals(List.of(101L, 102L), result.getChangedDeliveryIds());
+        assertEquals(List.of(103L), result.getSkippedDeliveryIds());
+    }
+
+    @Test
+    @DisplayName("변경된 배달이 없으면 주문을 조회하지 않고 이벤트도 발행하지 않는다.")
+    void test_02() {
+
+        // given
+        when(mockDeliveryRepository.updateStateInBulk(anyCollection(), any(), any())).thenReturn(List.of());
+
+        // when
+        DeliveryStateResult result = deliveryStateService.changeStateInBulk(List.of(101L), DeliveryTransition.COMPLETE);
+
+        // then
+        verify(mockDeliveryRepository, never()).findOrderIdsByDeliveryIds(anyCollection());
+        verify(mockEventPublisher, never()).publishEvent(any());
+        assertEquals(List.of(), result.getChangedDeliveryIds());
+        assertEquals(List.of(101L), result.getSkippedDeliveryIds());
+    }
+
+    @Test
+    @DisplayName("배달을 완료하면 진행 중인 배달이 없어진 기사를 이벤트에 담는다.")
+    void test_03() {
+
+        // given - 101번과 102번은 11번 기사의 묶음 배달
+        when(mockDeliveryRepository.updateStateInBulk(eq(List.of(101L, 102L)), eq(DeliveryTransition.COMPLETE), any()))
+                .thenReturn(List.of(101L, 102L));
+        when(mockDeliveryRepository.findOrderIdsByDeliveryIds(List.of(101L, 102L))).thenReturn(List.of(1L, 2L));
+        when(mockDeliveryRepository.findIdleRiderIdsByDeliveryIds(List.of(101L, 102L))).thenReturn(List.of(11L));
+
+        // when
+        deliveryStateService.changeStateInBulk(List.of(101L, 102L), DeliveryTransition.COMPLETE);
+
+        // then
+        ArgumentCaptor<DeliveryStateChangedEvent> captor = ArgumentCaptor.forClass(DeliveryStateChangedEvent.class);
+        verify(mockEventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(List.of(11L), captor.getValue().getReleasedRiderIds());
+    }
+}
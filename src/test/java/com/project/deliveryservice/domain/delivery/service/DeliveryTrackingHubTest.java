@@ -0,0 +1,160 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.deliveryservice.common.exception.TooManyRequestsException;
+import com.project.deliveryservice.domain.delivery.dto.DeliveryProgress;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.event.OrderStatusChangedEvent;
+import com.project.deliveryservice.utils.JsonUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryTrackingHubTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    RiderLocationStore locationStore;
+    List<RecordingEmitter> emitters;
+    DeliveryTrackingHub trackingHub;
+
+    @BeforeEach
+    void setup() {
+        locationStore = new RiderLocationStore();
+        emitters = new CopyOnWriteArrayList<>();
+        DeliveryEtaEstimator etaEstimator = new DeliveryEtaEstimator(Mockito.mock(DeliveryRepository.class), 28, 100, 200, 20, 15);
+        trackingHub = new DeliveryTrackingHub(locationStore, etaEstimator, new JsonUtils(objectMapper), 60_000, 2, 1) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("구독 직후 현재 상태를 보내고, 한 주기 동안의 변경은 최신 상태 하나로 합쳐서 보낸다.")
+    void test_01() throws Exception {
+
+        // given
+        trackingHub.subscribe(progress(1L, null));
+        RecordingEmitter emitter = emitters.get(0);
+
+        // when
+        trackingHub.onAllocated(1L, 11L);
+        locationStore.update(11L, 37.50, 127.00, 1_000, 0);
+        locationStore.update(11L, 37.51, 127.01, 2_000, 0);
+        trackingHub.flush();
+        emitter.await(2);
+        trackingHub.flush();
+
+        // then
+        assertEquals(2, emitter.events.size());
+        assertEquals("WAITING", emitter.events.get(0).get("status").asText());
+        assertFalse(emitter.events.get(0).get("estimatedArrivalAt").isNull());
+        JsonNode pushed = emitter.events.get(1);
+        assertEquals("ALLOCATED", pushed.get("status").asText());
+        assertEquals(11L, pushed.get("riderId").asLong());
+        assertEquals(37.51, pushed.get("riderLatitude").asDouble());
+        assertEquals(2_000L, pushed.get("positionRecordedAt").asLong());
+        assertEquals(1, trackingHub.getStats().getPushes());
+    }
+
+    @Test
+    @DisplayName("주문이 완료되면 마지막 상태를 보내고 스트림을 닫는다.")
+    void test_02() throws Exception {
+
+        // given
+        trackingHub.subscribe(progress(1L, 11L));
+        trackingHub.subscribe(progress(1L, 11L));
+
+        // when
+        trackingHub.onPickedUp(List.of(1L));
+        // 늦게 도착한 이전 단계의 변경은 무시
+        trackingHub.onAllocated(1L, 12L);
+        trackingHub.onStatusChanged(new OrderStatusChangedEvent(List.of(1L), OrderStatus.COMPLETED, LocalDateTime.now()));
+        trackingHub.flush();
+
+        // then
+        for (RecordingEmitter emitter : emitters) {
+            emitter.awaitCompleted();
+            assertEquals("ALLOCATED", emitter.events.get(0).get("status").asText());
+            assertEquals("COMPLETED", emitter.events.get(1).get("status").asText());
+            assertEquals(11L, emitter.events.get(1).get("riderId").asLong());
+            assertTrue(emitter.events.get(1).get("estimatedArrivalAt").isNull());
+            assertTrue(emitter.completed);
+        }
+        assertEquals(0, trackingHub.getStats().getTrackedOrders());
+    }
+
+    @Test
+    @DisplayName("노드의 구독자 수가 최대치에 도달하면 구독을 거절한다.")
+    void test_03() {
+
+        // given
+        trackingHub.subscribe(progress(1L, null));
+        trackingHub.subscribe(progress(2L, null));
+
+        // when, then
+        assertThrows(TooManyRequestsException.class, () -> trackingHub.subscribe(progress(3L, null)));
+        assertEquals(2, trackingHub.getStats().getSubscribers());
+    }
+
+    private DeliveryProgress progress(long orderId, Long riderId) {
+        LocalDateTime allocatedAt = riderId == null ? null : LocalDateTime.now();
+        return new DeliveryProgress(orderId, OrderStatus.PROGRESS, riderId, allocatedAt, null, null,
+                1L, "05500", "05600", LocalDateTime.now());
+    }
+
+    private class RecordingEmitter extends SseEmitter {
+
+        private final List<JsonNode> events = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (DataWithMediaType data : builder.build()) {
+                if (MediaType.APPLICATION_JSON.equals(data.getMediaType())) {
+                    try {
+                        events.add(objectMapper.readTree((String) data.getData()));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        // sender 스레드가 보내는 이벤트를 기다림
+        private void await(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        private void awaitCompleted() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (!completed && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.domain.delivery.dto.DeliverySample;
+import com.project.deliveryservice.domain.delivery.dto.DispatchAssignment;
+import com.project.deliveryservice.domain.delivery.dto.DispatchStats;
+import com.project.deliveryservice.domain.delivery.dto.PendingDelivery;
+import com.project.deliveryservice.domain.delivery.entity.DeliveryTransition;
+import com.project.deliveryservice.domain.delivery.event.DeliveryStateChangedEvent;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryAssignmentWriter;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.event.OrderStatusChangedEvent;
+import com.project.deliveryservice.utils.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DispatchServiceTest {
+
+    private static final double MAX_PICKUP_KM = 3;
+
+    DeliveryRepository mockDeliveryRepository;
+    DeliveryAssignmentWriter mockAssignmentWriter;
+    DeliveryTrackingHub mockTrackingHub;
+    RiderPool riderPool;
+    RiderLocationStore locationStore;
+    DeliveryEtaEstimator etaEstimator;
+    DispatchService dispatchService;
+
+    @BeforeEach
+    void setup() {
+        mockDeliveryRepository = Mockito.mock(DeliveryRepository.class);
+        mockAssignmentWriter = Mockito.mock(DeliveryAssignmentWriter.class);
+        mockTrackingHub = Mockito.mock(DeliveryTrackingHub.class);
+        riderPool = new RiderPool();
+        locationStore = new RiderLocationStore();
+        etaEstimator = new DeliveryEtaEstimator(mockDeliveryRepository, 28, 100, 200, 20, 15);
+        dispatchService = new DispatchService(mockDeliveryRepository, mockAssignmentWriter, riderPool, locationStore,
+                mockTrackingHub, etaEstimator, MAX_PICKUP_KM, 0.2, 32, 2000, 3, 5, 10);
+    }
+
+    @Test
+    @DisplayName("한 라운드의 배정은 하나의 batch 로 반영되고, 반영되지 않은 배정의 기사는 풀로 돌아간다.")
+    void test_01() {
+
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(mockDeliveryRepository.findPendingByOrderIds(List.of(1L, 2L))).thenReturn(List.of(
+                new PendingDelivery(101L, 1L, 1L, 37.500, 127.000, now, "05500", "05600"),
+                new PendingDelivery(102L, 2L, 2L, 37.510, 127.010, now, "05500", "05600")));
+        dispatchService.onStatusChanged(new OrderStatusChangedEvent(List.of(1L, 2L), OrderStatus.PROGRESS, now));
+        riderPool.available(11L, 37.501, 127.001);
+        riderPool.available(12L, 37.511, 127.011);
+        riderPool.available(13L, 37.600, 127.100);
+        when(mockAssignmentWriter.assign(anyList(), any())).thenReturn(new boolean[]{true, false});
+
+        // when
+        dispatchService.runRound();
+
+        // then
+        ArgumentCaptor<List<DispatchAssignment>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mockAssignmentWriter, times(1)).assign(captor.capture(), any());
+        List<DispatchAssignment> assignments = captor.getValue();
+        assertEquals(List.of(101L, 102L), assignments.stream().map(DispatchAssignment::getDeliveryId).toList());
+        assertEquals(List.of(11L, 12L), assignments.stream().map(DispatchAssignment::getRiderId).toList());
+        verify(mockTrackingHub, times(1)).onAllocated(1L, 11L);
+        verify(mockTrackingHub, never()).onAllocated(eq(2L), anyLong());
+
+        DispatchStats stats = dispatchService.getStats();
+        assertEquals(0, stats.getPendingDeliveries());
+        assertEquals(1, stats.getAssignments());
+        assertEquals(1, stats.getConflicts());
+        assertEquals(List.of(12L, 13L), riderPool.snapshot().stream().map(RiderPool.Rider::riderId).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("취소된 주문은 대기열에서 빠지고, 반경 안에 기사가 없으면 배정하지 않는다.")
+    void test_02() {
+
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(mockDeliveryRepository.findPendingByOrderIds(List.of(1L, 2L))).thenReturn(List.of(
+                new PendingDelivery(101L, 1L, 1L, 37.500, 127.000, now, "05500", "05600"),
+                new PendingDelivery(102L, 2L, 2L, 37.700, 127.200, now, "05500", "05600")));
+        dispatchService.onStatusChanged(new OrderStatusChangedEvent(List.of(1L, 2L), OrderStatus.PROGRESS, now));
+        dispatchService.onStatusChanged(new OrderStatusChangedEvent(List.of(1L), OrderStatus.CANCELED, now));
+        riderPool.available(11L, 37.501, 127.001);
+
+        // when
+        dispatchService.runRound();
+
+        // then
+        verify(mockAssignmentWriter, never()).assign(anyList(), any());
+        assertEquals(1, dispatchService.getStats().getPendingDeliveries());
+        assertEquals(1, riderPool.size());
+    }
+
+    @Test
+    @DisplayName("오래 기다린 배달은 더 가까운 새 배달보다 먼저 가까운 기사를 배정받는다.")
+    void test_03() {
+
+        // given
+        DispatchMatcher matcher = new DispatchMatcher(MAX_PICKUP_KM, 0.2, 32);
+
+        // when
+        // 두 배달 모두 기사 하나만 반경 안에 있고, 0번은 1km, 1번은 0.1km 떨어져 있음
+        int[] fresh = matcher.match(new double[]{37.509, 37.5009}, new double[]{127, 127}, new double[]{0, 0},
+                new double[]{37.5}, new double[]{127});
+        int[] aged = matcher.match(new double[]{37.509, 37.5009}, new double[]{127, 127}, new double[]{10, 0},
+                new double[]{37.5}, new double[]{127});
+
+        // then
+        assertArrayEquals(new int[]{-1, 0}, fresh);
+        assertArrayEquals(new int[]{0, -1}, aged);
+    }
+
+    @Test
+    @DisplayName("배차 시뮬레이션: 라운드 일괄 배정은 선착순 배정보다 평균 픽업 거리가 짧다.")
+    void test_04() {
+
+        // given
+        Random random = new Random(42);
+        DispatchMatcher matcher = new DispatchMatcher(MAX_PICKUP_KM, 0, 32);
+        int rounds = 20;
+        int deliveries = 2000;
+        int riders = 2000;
+
+        long greedyAssigned = 0;
+        double greedyDistance = 0;
+        long firstComeAssigned = 0;
+        double firstComeDistance = 0;
+        for (int round = 0; round < rounds; round++) {
+            double[] deliveryLatitudes = randomArray(random, deliveries, 37.45, 37.65);
+            double[] deliveryLongitudes = randomArray(random, deliveries, 126.85, 127.15);
+            double[] riderLatitudes = randomArray(random, riders, 37.45, 37.65);
+            double[] riderLongitudes = randomArray(random, riders, 126.85, 127.15);
+
+            // when
+            int[] greedy = matcher.match(deliveryLatitudes, deliveryLongitudes, new double[deliveries], riderLatitudes, riderLongitudes);
+            int[] firstCome = firstCome(deliveryLatitudes, deliveryLongitudes, riderLatitudes, riderLongitudes);
+
+            for (int d = 0; d < deliveries; d++) {
+                if (greedy[d] >= 0) {
+                    greedyAssigned++;
+                    greedyDistance += GeoUtils.distanceKm(deliveryLatitudes[d], deliveryLongitudes[d],
+                            riderLatitudes[greedy[d]], riderLongitudes[greedy[d]]);
+                }
+                if (firstCome[d] >= 0) {
+                    firstComeAssigned++;
+                    firstComeDistance += GeoUtils.distanceKm(deliveryLatitudes[d], deliveryLongitudes[d],
+                            riderLatitudes[firstCome[d]], riderLongitudes[firstCome[d]]);
+                }
+            }
+        }
+
+        // then
+        double greedyAverage = greedyDistance / greedyAssigned;
+        double firstComeAverage = firstComeDistance / firstComeAssigned;
+        String report = String.format("greedy: assigned=%d avgPickupKm=%.3f, firstCome: assigned=%d avgPickupKm=%.3f",
+                greedyAssigned, greedyAverage, firstComeAssigned, firstComeAverage);
+        assertTrue(greedyAverage < firstComeAverage, report);
+        assertTrue(greedyAssigned >= firstComeAssigned * 0.95, report);
+    }
+
+    @Test
+    @DisplayName("같은 가게에서 비슷한 시각에 주문된 배달은 묶어서 한 기사에게 배정한다.")
+    void test_05() {
+
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        // 055 zone 에서 056 zone 까지 15분, 056 zone 안에서 3분
+        when(mockDeliveryRepository.findSamplesCompletedAfter(any(), eq(0L), any())).thenReturn(List.of(
+                new DeliverySample(1L, 1L, "05500", "05600", now.minusMinutes(40), now.minusMinutes(30), now.minusMinutes(15)),
+                new DeliverySample(2L, 1L, "05600", "05600", now.minusMinutes(40), now.minusMinutes(30), now.minusMinutes(27))));
+        etaEstimator.refresh();
+        when(mockDeliveryRepository.findPendingByOrderIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new PendingDelivery(101L, 1L, 1L, 37.500, 127.000, now.minusMinutes(2), "05500", "05600"),
+                new PendingDelivery(102L, 2L, 1L, 37.500, 127.000, now.minusMinutes(1), "05500", "05600"),
+                new PendingDelivery(103L, 3L, 2L, 37.510, 127.010, now, "05500", "05600")));
+        dispatchService.onStatusChanged(new OrderStatusChangedEvent(List.of(1L, 2L, 3L), OrderStatus.PROGRESS, now));
+        riderPool.available(11L, 37.501, 127.001);
+        riderPool.available(12L, 37.511, 127.011);
+        when(mockAssignmentWriter.assign(anyList(), any())).thenReturn(new boolean[]{true, true, false});
+
+        // when
+        dispatchService.runRound();
+
+        // then
+        ArgumentCaptor<List<DispatchAssignment>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mockAssignmentWriter, times(1)).assign(captor.capture(), any());
+        List<DispatchAssignment> assignments = captor.getValue();
+        assertEquals(List.of(101L, 102L, 103L), assignments.stream().map(DispatchAssignment::getDeliveryId).toList());
+        assertEquals(List.of(11L, 11L, 12L), assignments.stream().map(DispatchAssignment::getRiderId).toList());
+        verify(mockTrackingHub, times(1)).onAllocated(1L, 11L);
+        verify(mockTrackingHub, times(1)).onAllocated(2L, 11L);
+
+        // 묶음이 하나도 반영되지 않은 기사만 풀로 돌아감
+        DispatchStats stats = dispatchService.getStats();
+        assertEquals(2, stats.getAssignments());
+        assertEquals(2, stats.getBundledAssignments());
+        assertEquals(1, stats.getConflicts());
+        assertEquals(List.of(12L), riderPool.snapshot().stream().map(RiderPool.Rider::riderId).toList());
+    }
+
+    @Test
+    @DisplayName("배달 완료나 배차 취소로 풀려난 기사는 마지막으로 보고된 위치로 풀에 돌아온다.")
+    void test_06() {
+
+        // given - 11번 기사만 위치를 보고함
+        LocalDateTime now = LocalDateTime.now();
+        locationStore.update(11L, 37.520, 127.020, System.currentTimeMillis(), 0);
+
+        // when
+        dispatchService.onDeliveryStateChanged(new DeliveryStateChangedEvent(List.of(1L), DeliveryTransition.COMPLETE, now, List.of(11L, 12L)));
+
+        // then
+        List<RiderPool.Rider> riders = riderPool.snapshot();
+        assertEquals(List.of(new RiderPool.Rider(11L, 37.520, 127.020)), riders);
+    }
+
+    // 배달이 들어온 순서대로 반경 안의 가장 가까운 빈 기사를 배정
+    @Test
+    @Tag("benchmark")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("[benchmark] 배달 2천 건과 기사 2천 명의 라운드 일괄 배정은 초당 1만 건 이상 배정한다.")
+    void test_07() {
+
+        // given
+        Random random = new Random(42);
+        DispatchMatcher matcher = new DispatchMatcher(MAX_PICKUP_KM, 0, 32);
+        int rounds = 20;
+        int deliveries = 2000;
+        int riders = 2000;
+
+        long assigned = 0;
+        long matchNanos = 0;
+        for (int round = 0; round < rounds; round++) {
+            double[] deliveryLatitudes = randomArray(random, deliveries, 37.45, 37.65);
+            double[] deliveryLongitudes = randomArray(random, deliveries, 126.85, 127.15);
+            double[] riderLatitudes = randomArray(random, riders, 37.45, 37.65);
+            double[] riderLongitudes = randomArray(random, riders, 126.85, 127.15);
+
+            // when
+            long start = System.nanoTime();
+            int[] greedy = matcher.match(deliveryLatitudes, deliveryLongitudes, new double[deliveries], riderLatitudes, riderLongitudes);
+            matchNanos += System.nanoTime() - start;
+            assigned += Arrays.stream(greedy).filter(rider -> rider >= 0).count();
+        }
+
+        // then
+        double assignmentsPerSecond = assigned / (matchNanos / 1e9);
+        String report = String.format("assigned=%d, assignmentsPerSecond=%.0f", assigned, assignmentsPerSecond);
+        assertTrue(assignmentsPerSecond > 10_000, report);
+    }
+
+    private int[] firstCome(double[] deliveryLatitudes, double[] deliveryLongitudes,
+                            double[] riderLatitudes, double[] riderLongitudes) {
+        int[] assigned = new int[deliveryLatitudes.length];
+        Arrays.fill(assigned, -1);
+        boolean[] taken = new boolean[riderLatitudes.length];
+        for (int d = 0; d < deliveryLatitudes.length; d++) {
+            double nearest = MAX_PICKUP_KM;
+            for (int r = 0; r < riderLatitudes.length; r++) {
+                if (taken[r]) {
+                    continue;
+                }
+                double distance = GeoUtils.distanceKm(deliveryLatitudes[d], deliveryLongitudes[d], riderLatitudes[r], riderLongitudes[r]);
+                if (distance <= nearest) {
+                    nearest = distance;
+                    assigned[d] = r;
+                }
+            }
+            if (assigned[d] >= 0) {
+                taken[assigned[d]] = true;
+            }
+        }
+        return assigned;
+    }
+
+    private double[] randomArray(Random random, int size, double from, double to) {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = from + random.nextDouble() * (to - from);
+        }
+        return values;
+    }
+}
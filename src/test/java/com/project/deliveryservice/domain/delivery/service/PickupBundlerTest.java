@@ -0,0 +1,232 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.domain.delivery.dto.DeliveryBundle;
+import com.project.deliveryservice.domain.delivery.dto.DeliverySample;
+import com.project.deliveryservice.domain.delivery.dto.PendingDelivery;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class PickupBundlerTest {
+
+    // 10 x 10 격자의 zone, 한 칸 이동에 4분과 출발, 도착에 3분이 걸림
+    private static final int GRID = 10;
+    private static final LocalDateTime base = LocalDateTime.of(2024, 5, 1, 18, 0);
+
+    DeliveryEtaEstimator etaEstimator;
+
+    @BeforeEach
+    void setup() {
+        DeliveryRepository mockDeliveryRepository = Mockito.mock(DeliveryRepository.class);
+        List<DeliverySample> samples = new ArrayList<>();
+        for (int from = 0; from < GRID * GRID; from++) {
+            for (int to = 0; to < GRID * GRID; to++) {
+                LocalDateTime pickupedAt = base.minusDays(1);
+                samples.add(new DeliverySample((long) samples.size() + 1, null, zipcode(from), zipcode(to),
+                        null, pickupedAt, pickupedAt.plusMinutes(travelMinutes(from, to))));
+            }
+        }
+        when(mockDeliveryRepository.findSamplesCompletedAfter(any(), eq(0L), any())).thenReturn(samples);
+        etaEstimator = new DeliveryEtaEstimator(mockDeliveryRepository, 28, GRID * GRID * GRID * GRID + 1, 200, 20, 15);
+        etaEstimator.refresh();
+    }
+
+    @Test
+    @DisplayName("같은 가게에서 window 안에 주문된 배달을 가장 오래 기다린 배달부터 가까운 순서로 묶는다.")
+    void test_01() {
+
+        // given
+        // 가게는 (0, 0), 배달지는 (0, 1), (0, 3), (0, 2) 이고 마지막 배달은 window 밖에 주문됨
+        List<PendingDelivery> deliveries = List.of(
+                pending(1L, 1L, 0, 1, base),
+                pending(2L, 1L, 0, 3, base.plusMinutes(1)),
+                pending(3L, 1L, 0, 2, base.plusMinutes(2)),
+                pending(4L, 1L, 0, 2, base.plusMinutes(10)),
+                pending(5L, 2L, 0, 1, base.plusMinutes(3)));
+        // 반대 방향 배달지는 돌아가는 시간이 커서 묶지 않음
+        List<PendingDelivery> opposite = List.of(
+                pending(6L, 3L, 55, 99, base),
+                pending(7L, 3L, 55, 0, base));
+
+        // when
+        List<DeliveryBundle> bundles = new PickupBundler(etaEstimator, 3, 5, 10).bundle(deliveries);
+        List<DeliveryBundle> twoDrops = new PickupBundler(etaEstimator, 2, 5, 10).bundle(deliveries);
+        List<DeliveryBundle> oppositeBundles = new PickupBundler(etaEstimator, 3, 5, 10).bundle(opposite);
+
+        // then
+        assertEquals(List.of(List.of(1L, 3L, 2L), List.of(5L), List.of(4L)), deliveryIds(bundles));
+        assertEquals(travelMinutes(0, 1) + travelMinutes(1, 2) + travelMinutes(2, 3), bundles.get(0).getRouteMinutes());
+        assertEquals(List.of(List.of(1L, 3L), List.of(2L), List.of(5L), List.of(4L)), deliveryIds(twoDrops));
+        assertEquals(List.of(List.of(6L), List.of(7L)), deliveryIds(oppositeBundles));
+    }
+
+    @Test
+    @DisplayName("배차 시뮬레이션: 묶음 배달은 기사의 운행 시간당 배달 수를 늘리고 평균 배달 시간을 줄인다.")
+    void test_02() {
+
+        // when
+        Simulation single = simulate(1);
+        Simulation bundled = simulate(3);
+
+        // then
+        String report = "single: " + single + ", bundled: " + bundled;
+        assertEquals(single.delivered, bundled.delivered, report);
+        assertTrue(bundled.deliveriesPerBusyHour() > single.deliveriesPerBusyHour() * 1.2, report);
+        assertTrue(bundled.averageDeliveryMinutes() < single.averageDeliveryMinutes(), report);
+    }
+
+    // 저녁 1시간 동안 가게 15곳에 분당 12건씩 주문이 들어오고 기사 120명이 1분 라운드로 배정받음
+    private Simulation simulate(int maxDrops) {
+        Random random = new Random(42);
+        PickupBundler bundler = new PickupBundler(etaEstimator, maxDrops, 5, 10);
+        DispatchMatcher matcher = new DispatchMatcher(30, 0.2, 32);
+
+        int[] shopZones = random.ints(15, 0, GRID * GRID).toArray();
+        int riders = 120;
+        int[] riderZones = random.ints(riders, 0, GRID * GRID).toArray();
+        int[] riderFreeAt = new int[riders];
+
+        List<List<PendingDelivery>> ordersByMinute = new ArrayList<>();
+        long deliveryId = 0;
+        for (int minute = 0; minute < 60; minute++) {
+            List<PendingDelivery> orders = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                int shop = random.nextInt(shopZones.length);
+                int destination = nearbyZone(random, shopZones[shop]);
+                deliveryId++;
+                orders.add(pending(deliveryId, (long) shop, shopZones[shop], destination, base.plusMinutes(minute)));
+            }
+            ordersByMinute.add(orders);
+        }
+
+        Simulation result = new Simulation();
+        List<PendingDelivery> pending = new ArrayList<>();
+        for (int minute = 0; minute < 600 && (minute < 60 || !pending.isEmpty()); minute++) {
+            if (minute < 60) {
+                pending.addAll(ordersByMinute.get(minute));
+            }
+            List<Integer> free = new ArrayList<>();
+            for (int r = 0; r < riders; r++) {
+                if (riderFreeAt[r] <= minute) {
+                    free.add(r);
+                }
+            }
+            if (pending.isEmpty() || free.isEmpty()) {
+                continue;
+            }
+
+            List<DeliveryBundle> bundles = bundler.bundle(pending);
+            LocalDateTime now = base.plusMinutes(minute);
+            double[] bundleLatitudes = new double[bundles.size()];
+            double[] bundleLongitudes = new double[bundles.size()];
+            double[] waitMinutes = new double[bundles.size()];
+            for (int b = 0; b < bundles.size(); b++) {
+                bundleLatitudes[b] = bundles.get(b).getLatitude();
+                bundleLongitudes[b] = bundles.get(b).getLongitude();
+                waitMinutes[b] = Duration.between(bundles.get(b).getOrderedAt(), now).toMinutes();
+            }
+            double[] riderLatitudes = new double[free.size()];
+            double[] riderLongitudes = new double[free.size()];
+            for (int i = 0; i < free.size(); i++) {
+                riderLatitudes[i] = latitude(riderZones[free.get(i)]);
+                riderLongitudes[i] = longitude(riderZones[free.get(i)]);
+            }
+
+            int[] matched = matcher.match(bundleLatitudes, bundleLongitudes, waitMinutes, riderLatitudes, riderLongitudes);
+            for (int b = 0; b < matched.length; b++) {
+                if (matched[b] < 0) {
+                    continue;
+                }
+                int rider = free.get(matched[b]);
+                List<PendingDelivery> drops = bundles.get(b).getDrops();
+                int position = zoneOf(drops.get(0).getShopZipcode());
+                int elapsed = travelMinutes(riderZones[rider], position);
+                for (PendingDelivery drop : drops) {
+                    int destination = zoneOf(drop.getDeliveryZipcode());
+                    elapsed += travelMinutes(position, destination);
+                    position = destination;
+                    result.delivered++;
+                    result.deliveryMinutes += minute + elapsed - (int) Duration.between(base, drop.getOrderedAt()).toMinutes();
+                }
+                pending.removeAll(drops);
+                result.busyMinutes += elapsed;
+                riderFreeAt[rider] = minute + elapsed;
+                riderZones[rider] = position;
+            }
+        }
+        return result;
+    }
+
+    private static class Simulation {
+
+        private long delivered;
+        private long deliveryMinutes;
+        private long busyMinutes;
+
+        private double deliveriesPerBusyHour() {
+            return delivered * 60.0 / busyMinutes;
+        }
+
+        private double averageDeliveryMinutes() {
+            return (double) deliveryMinutes / delivered;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("delivered=%d, deliveriesPerBusyHour=%.2f, averageDeliveryMinutes=%.1f",
+                    delivered, deliveriesPerBusyHour(), averageDeliveryMinutes());
+        }
+    }
+
+    private List<List<Long>> deliveryIds(List<DeliveryBundle> bundles) {
+        return bundles.stream()
+                .map(bundle -> bundle.getDrops().stream().map(PendingDelivery::getDeliveryId).toList())
+                .toList();
+    }
+
+    private PendingDelivery pending(Long deliveryId, Long shopId, int shopZone, int deliveryZone, LocalDateTime orderedAt) {
+        return new PendingDelivery(deliveryId, deliveryId, shopId, latitude(shopZone), longitude(shopZone), orderedAt,
+                zipcode(shopZone), zipcode(deliveryZone));
+    }
+
+    // 가게에서 맨해튼 거리 3 이내의 zone
+    private int nearbyZone(Random random, int zone) {
+        int x = Math.max(0, Math.min(GRID - 1, zone / GRID + random.nextInt(7) - 3));
+        int y = Math.max(0, Math.min(GRID - 1, zone % GRID + random.nextInt(7) - 3));
+        return x * GRID + y;
+    }
+
+    private int travelMinutes(int from, int to) {
+        return 3 + 4 * (Math.abs(from / GRID - to / GRID) + Math.abs(from % GRID - to % GRID));
+    }
+
+    private String zipcode(int zone) {
+        return String.format("%03d00", zone);
+    }
+
+    private int zoneOf(String zipcode) {
+        return TravelTimeMatrix.zoneOf(zipcode);
+    }
+
+    // 한 칸은 약 2km
+    private double latitude(int zone) {
+        return 37.45 + zone / GRID * 0.018;
+    }
+
+    private double longitude(int zone) {
+        return 126.90 + zone % GRID * 0.023;
+    }
+}
@@ -0,0 +1,213 @@
+package com.project.deliveryservice.domain.delivery.service;
+
+import com.project.deliveryservice.domain.delivery.dto.RiderLocation;
+import com.project.deliveryservice.domain.delivery.dto.RiderPing;
+import com.project.deliveryservice.domain.delivery.dto.RiderPingResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiderLocationIngestorTest {
+
+    // 2023-11-14T22:13:20Z
+    private static final long BASE = 1_700_000_000_000L;
+
+    @TempDir
+    Path historyDirectory;
+
+    @Test
+    @DisplayName("기사별로 가장 최근에 측정된 위치만 남고, 늦게 도착한 과거 위치는 무시된다.")
+    void test_01() throws Exception {
+
+        // given
+        RiderLocationStore store = new RiderLocationStore();
+        RiderLocationIngestor ingestor = new RiderLocationIngestor(store, 1024, 256, 30_000, "");
+        ingestor.start();
+
+        // when
+        ingestor.ingest(List.of(
+                new RiderPing(1L, 37.50, 127.00, BASE),
+                new RiderPing(2L, 37.60, 127.10, BASE)));
+        ingestor.ingest(List.of(
+                new RiderPing(1L, 37.51, 127.01, BASE + 3_000),
+                new RiderPing(1L, 37.52, 127.02, BASE + 2_000)));
+        ingestor.stop();
+
+        // then
+        RiderLocation latest = store.getLatest(1L);
+        assertEquals(37.51, latest.getLatitude());
+        assertEquals(127.01, latest.getLongitude());
+        assertEquals(BASE + 3_000, latest.getRecordedAt());
+        assertEquals(37.60, store.getLatest(2L).getLatitude());
+        assertThrows(IllegalArgumentException.class, () -> store.getLatest(3L));
+        assertEquals(4, ingestor.getStats().getAccepted());
+        assertEquals(1, ingestor.getStats().getStale());
+    }
+
+    @Test
+    @DisplayName("이력 파일에는 기사마다 history-interval 에 한 번씩만 위치가 기록된다.")
+    void test_02() throws Exception {
+
+        // given
+        RiderLocationIngestor ingestor = new RiderLocationIngestor(
+                new RiderLocationStore(), 1024, 256, 30_000, historyDirectory.toString());
+        ingestor.start();
+
+        // when
+        // 60초 동안 5초마다 보고
+        for (long t = 0; t <= 60_000; t += 5_000) {
+            ingestor.ingest(List.of(new RiderPing(1L, 37.5, 127.0 + t / 1_000_000.0, BASE + t)));
+        }
+        ingestor.stop();
+
+        // then
+        Path file = RiderLocationHistory.fileOf(historyDirectory, LocalDate.ofEpochDay(BASE / 86_400_000L));
+        ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertEquals(3 * RiderLocationHistory.RECORD_BYTES, records.remaining());
+        for (long t = 0; t <= 60_000; t += 30_000) {
+            assertEquals(1L, records.getLong());
+            assertEquals(BASE + t, records.getLong());
+            assertEquals(37.5, records.getDouble());
+            assertEquals(127.0 + t / 1_000_000.0, records.getDouble());
+        }
+        assertEquals(3, ingestor.getStats().getHistoryRecords());
+    }
+
+    @Test
+    @DisplayName("ring buffer 는 빈 슬롯이 부족하면 확보를 거절하고, 앞선 슬롯이 공개될 때까지 뒤의 슬롯을 읽지 않는다.")
+    void test_03() {
+
+        // given
+        RiderLocationRingBuffer buffer = new RiderLocationRingBuffer(8);
+        List<Long> drained = new ArrayList<>();
+        RiderLocationRingBuffer.Consumer consumer = (riderId, latitude, longitude, recordedAt) -> drained.add(riderId);
+
+        // when
+        long first = buffer.claim(6);
+        long rejected = buffer.claim(3);
+        long second = buffer.claim(2);
+        buffer.publish(first + 1, 2L, 0, 0, 0);
+        int beforeFirst = buffer.drain(consumer, 100);
+        buffer.publish(first, 1L, 0, 0, 0);
+        for (int i = 2; i < 6; i++) {
+            buffer.publish(first + i, i + 1, 0, 0, 0);
+        }
+        int afterFirst = buffer.drain(consumer, 100);
+
+        // then
+        assertEquals(0, first);
+        assertEquals(-1, rejected);
+        assertEquals(6, second);
+        assertEquals(0, beforeFirst);
+        assertEquals(6, afterFirst);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), drained);
+        assertEquals(2, buffer.size());
+        assertEquals(8, buffer.claim(6));
+    }
+
+    @Test
+    @DisplayName("4개의 스레드가 기사 1만 명의 위치를 동시에 보고해도 모든 위치가 빠짐없이 반영된다.")
+    void test_04() throws Exception {
+
+        // given
+        RiderLocationStore store = new RiderLocationStore();
+        RiderLocationIngestor ingestor = new RiderLocationIngestor(
+                store, 65_536, 4_096, 30_000, historyDirectory.toString());
+        ingestor.start();
+        AtomicLong retries = new AtomicLong();
+
+        // when
+        ingestConcurrently(ingestor, 4, 250, retries);
+        ingestor.stop();
+
+        // then
+        String report = String.format("retries=%d", retries.get());
+        assertEquals(4L * 250 * 100, ingestor.getStats().getAccepted(), report);
+        assertEquals(10_000, store.size(), report);
+        assertEquals(0, ingestor.getStats().getBufferDepth(), report);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("[benchmark] 4개의 스레드가 기사 1만 명의 위치 100만 건을 보고하면 초당 5만 건 이상 반영된다.")
+    void test_05() throws Exception {
+
+        // given
+        RiderLocationStore store = new RiderLocationStore();
+        RiderLocationIngestor ingestor = new RiderLocationIngestor(
+                store, 65_536, 4_096, 30_000, historyDirectory.toString());
+        ingestor.start();
+        AtomicLong retries = new AtomicLong();
+        long gcBefore = gcCount();
+
+        // when
+        long start = System.nanoTime();
+        long pings = ingestConcurrently(ingestor, 4, 2_500, retries);
+        ingestor.stop();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        // then
+        double pingsPerSecond = pings / seconds;
+        String report = String.format("pings=%d, pingsPerSecond=%.0f, retries=%d, gcCollections=%d",
+                pings, pingsPerSecond, retries.get(), gcCount() - gcBefore);
+        assertEquals(pings, ingestor.getStats().getAccepted(), report);
+        assertTrue(pingsPerSecond > 50_000, report);
+    }
+
+    // 기사 1만 명의 위치를 100건씩 나눈 batch 로 threads 개의 스레드가 동시에 보고, 보고한 위치 수를 반환
+    private long ingestConcurrently(RiderLocationIngestor ingestor, int threads, int batchesPerThread,
+                                    AtomicLong retries) throws InterruptedException {
+        int batchSize = 100;
+        List<List<RiderPing>> batches = new ArrayList<>();
+        for (int b = 0; b < 100; b++) {
+            List<RiderPing> batch = new ArrayList<>();
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(new RiderPing((long) b * batchSize + i, 37.5 + i / 1000.0, 127.0 + b / 1000.0, null));
+            }
+            batches.add(batch);
+        }
+
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread producer = new Thread(() -> {
+                for (int b = 0; b < batchesPerThread; b++) {
+                    List<RiderPing> batch = batches.get(b % batches.size());
+                    RiderPingResult result;
+                    // 버퍼가 가득 차면 수집 스레드가 비울 때까지 다시 시도
+                    while ((result = ingestor.ingest(batch)).getAccepted() == 0) {
+                        retries.incrementAndGet();
+                        Thread.onSpinWait();
+                    }
+                    assertEquals(batchSize, result.getAccepted());
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        return (long) threads * batchesPerThread * batchSize;
+    }
+
+    private long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.deliveryservice.domain.item.controller;
+
+import com.project.deliveryservice.common.constants.AuthConstants;
+import com.project.deliveryservice.domain.item.dto.EncodedMenu;
+import com.project.deliveryservice.domain.item.dto.MenuItemInfo;
+import com.project.deliveryservice.domain.item.dto.ShopMenu;
+import com.project.deliveryservice.domain.item.service.ItemService;
+import com.project.deliveryservice.domain.item.service.MenuEncoder;
+import com.project.deliveryservice.utils.JsonUtils;
+import com.project.deliveryservice.utils.JwtUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.security.Key;
+import java.util.List;
+
+import static com.project.deliveryservice.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest()
+@AutoConfigureMockMvc
+class MenuControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    JsonUtils jsonUtils;
+    @Value("${jwt.secret}")
+    String secret;
+
+    @MockBean
+    ItemService mockItemService;
+
+    private Key secretKey;
+    private MenuEncoder menuEncoder;
+    private List<MenuItemInfo> items;
+
+    @BeforeEach
+    public void setup() {
+        secretKey = JwtUtils.generateKey(secret);
+        // 모든 메뉴를 압축
+        menuEncoder = new MenuEncoder(jsonUtils, 0);
+        items = List.of(
+                new MenuItemInfo(1L, "item1", "description1", 1000, true),
+                new MenuItemInfo(2L, "item2", "description2", 2000, false));
+    }
+
+    String bearer() {
+        return AuthConstants.BEARER_PREFIX + JwtUtils.createJwtToken(testEmail, testAuthority, testExpireMin, secretKey);
+    }
+
+    @Test
+    @DisplayName("인스턴스마다 메뉴 버전이 달라도 같은 메뉴는 같은 ETag 를 가지고, 버전은 응답 본문에 포함되지 않는다.")
+    public void test_01() throws Exception {
+
+        // given - 두 인스턴스가 같은 메뉴를 서로 다른 버전으로 보관
+        EncodedMenu first = menuEncoder.encode(new ShopMenu(1L, 3, items));
+        EncodedMenu second = menuEncoder.encode(new ShopMenu(1L, 7, items));
+        when(mockItemService.getEncodedMenu(1L)).thenReturn(first, second);
+
+        // when
+        MvcResult firstResult = mockMvc.perform(get("/api/shops/1/menu")
+                        .header(AuthConstants.AUTHORIZATION_HEADER, bearer()))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult secondResult = mockMvc.perform(get("/api/shops/1/menu")
+                        .header(AuthConstants.AUTHORIZATION_HEADER, bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.items[0].name").value("item1"))
+                .andExpect(jsonPath("data.version").doesNotExist())
+                .andReturn();
+
+        // then
+        assertEquals(first.getEtag(), second.getEtag());
+        assertEquals(firstResult.getResponse().getHeader(HttpHeaders.ETAG), secondResult.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 압축 여부와 관계없이 현재 메뉴의 ETag 와 같으면 본문 없이 304 를 반환한다.")
+    public void test_02() throws Exception {
+
+        // given
+        EncodedMenu menu = menuEncoder.encode(new ShopMenu(1L, 1, items));
+        when(mockItemService.getEncodedMenu(1L)).thenReturn(menu);
+
+        // when, then
+        mockMvc.perform(get("/api/shops/1/menu")
+                        .header(AuthConstants.AUTHORIZATION_HEADER, bearer())
+                        .header(HttpHeaders.IF_NONE_MATCH, menu.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, menu.getEtag()))
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/api/shops/1/menu")
+                        .header(AuthConstants.AUTHORIZATION_HEADER, bearer())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/" + menu.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, menu.getGzipEtag()));
+        mockMvc.perform(get("/api/shops/1/menu")
+                        .header(AuthConstants.AUTHORIZATION_HEADER, bearer())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(menu.getJson()));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 의 q 값에 따라 gzip 본문과 비압축 본문을 골라 반환한다.")
+    public void test_03() throws Exception {
+
+        // given
+        EncodedMenu menu = menuEncoder.encode(new ShopMenu(1L, 1, items));
+        when(mockItemService.getEncodedMenu(1L)).thenReturn(menu);
+
+        // when, then
+        for (String acceptEncoding : List.of("gzip", "br, GZIP;q=0.5", "br, *;q=0.1")) {
+            mockMvc.perform(get("/api/shops/1/menu")
+                            .header(AuthConstants.AUTHORIZATION_HEADER, bearer())
+                            .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(header().string(HttpHeaders.ETAG, menu.getGzipEtag()))
+                    .andExpect(content().bytes(menu.getGzip()));
+        }
+        for (String acceptEncoding : List.of("gzip;q=0", "identity", "*;q=0.5, gzip; q=0.0", "br")) {
+            mockMvc.perform(get("/api/shops/1/menu")
+                            .header(AuthConstants.AUTHORIZATION_HEADER, bearer())
+                            .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(header().string(HttpHeaders.ETAG, menu.getEtag()))
+                    .andExpect(content().bytes(menu.getJson()));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.project.deliveryservice.domain.item.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.domain.item.dto.EncodedMenu;
+import com.project.deliveryservice.domain.item.dto.MenuItemInfo;
+import com.project.deliveryservice.domain.item.dto.ShopMenu;
+import com.project.deliveryservice.domain.item.repository.ItemRepository;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import com.project.deliveryservice.utils.JsonUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MenuCacheTest {
+
+    ItemRepository mockItemRepository;
+    ShopRepository mockShopRepository;
+    MenuCache menuCache;
+
+    @BeforeEach
+    void setup() {
+        mockItemRepository = Mockito.mock(ItemRepository.class);
+        mockShopRepository = Mockito.mock(ShopRepository.class);
+        MenuEncoder menuEncoder = new MenuEncoder(new JsonUtils(new ObjectMapper()), 500);
+        menuCache = new MenuCache(mockItemRepository, mockShopRepository, menuEncoder, 2, Duration.ofMinutes(5), Clock.systemUTC());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 가게의 메뉴를 동시에 여러 요청이 조회해도 DB 는 한 번만 조회한다.")
+    void test_01() throws Exception {
+
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(mockItemRepository.findMenuByShopId(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(menuItem(10L, 1000));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // when
+            List<Future<ShopMenu>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> menuCache.get(1L)));
+            }
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            release.countDown();
+
+            // then
+            for (Future<ShopMenu> future : futures) {
+                assertEquals(1000, future.get(5, TimeUnit.SECONDS).getItems().get(0).getPrice());
+            }
+            verify(mockItemRepository, times(1)).findMenuByShopId(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("아이템이 변경되면 버전이 올라가고 다음 조회 때 메뉴를 다시 읽는다.")
+    void test_02() {
+
+        // given
+        when(mockItemRepository.findMenuByShopId(1L))
+                .thenReturn(List.of(menuItem(10L, 1000)))
+                .thenReturn(List.of(menuItem(10L, 2000)));
+        ShopMenu before = menuCache.get(1L);
+        menuCache.get(1L);
+
+        // when
+        menuCache.invalidate(1L);
+        ShopMenu after = menuCache.get(1L);
+
+        // then
+        assertEquals(1000, before.getItems().get(0).getPrice());
+        assertEquals(2000, after.getItems().get(0).getPrice());
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        verify(mockItemRepository, times(2)).findMenuByShopId(1L);
+    }
+
+    @Test
+    @DisplayName("메뉴를 읽는 도중 아이템이 변경되면 읽은 메뉴는 캐시에 남기지 않는다.")
+    void test_03() {
+
+        // given
+        when(mockItemRepository.findMenuByShopId(1L))
+                .thenAnswer(invocation -> {
+                    menuCache.invalidate(1L);
+                    return List.of(menuItem(10L, 1000));
+                })
+                .thenReturn(List.of(menuItem(10L, 2000)));
+
+        // when
+        ShopMenu stale = menuCache.get(1L);
+        ShopMenu fresh = menuCache.get(1L);
+
+        // then
+        assertEquals(1000, stale.getItems().get(0).getPrice());
+        assertEquals(2000, fresh.getItems().get(0).getPrice());
+        assertEquals(1, fresh.getVersion());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 먼저 캐시된 가게부터 제거한다.")
+    void test_04() {
+
+        // given
+        when(mockItemRepository.findMenuByShopId(anyLong())).thenReturn(List.of(menuItem(10L, 1000)));
+
+        // when
+        menuCache.get(1L);
+        menuCache.get(2L);
+        menuCache.get(3L);
+        menuCache.get(2L);
+
+        // then
+        assertEquals(2, menuCache.size());
+        verify(mockItemRepository, times(1)).findMenuByShopId(2L);
+        menuCache.get(1L);
+        verify(mockItemRepository, times(2)).findMenuByShopId(1L);
+    }
+
+    @Test
+    @DisplayName("직렬화된 메뉴는 한 번만 만들어지고, 메뉴가 바뀌면 ETag 도 바뀐다.")
+    void test_05() throws IOException {
+
+        // given
+        List<MenuItemInfo> items = new ArrayList<>();
+        for (long itemId = 1; itemId <= 20; itemId++) {
+            items.add(menuItem(itemId, 1000));
+        }
+        when(mockItemRepository.findMenuByShopId(1L))
+                .thenReturn(items)
+                .thenReturn(List.of(menuItem(1L, 2000)));
+
+        // when
+        EncodedMenu first = menuCache.getEncoded(1L);
+        EncodedMenu cached = menuCache.getEncoded(1L);
+        menuCache.invalidate(1L);
+        EncodedMenu changed = menuCache.getEncoded(1L);
+
+        // then
+        assertSame(first, cached);
+        assertNotEquals(first.getEtag(), changed.getEtag());
+        assertTrue(first.hasGzip());
+        assertFalse(changed.hasGzip());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.getGzip()))) {
+            assertArrayEquals(first.getJson(), gzip.readAllBytes());
+        }
+        assertTrue(new String(changed.getJson(), StandardCharsets.UTF_8).contains("\"price\":2000"));
+    }
+
+    @Test
+    @DisplayName("아이템이 없고 가게도 없으면 IllegalArgumentException 던지고 캐시하지 않는다.")
+    void test_06() {
+
+        // given
+        when(mockItemRepository.findMenuByShopId(1L)).thenReturn(List.of());
+        when(mockShopRepository.existsById(1L)).thenReturn(false);
+
+        // when
+        Throwable throwable = assertThrows(IllegalArgumentException.class, () -> menuCache.get(1L));
+
+        // then
+        assertEquals(ErrorMsg.SHOP_NOT_EXIST, throwable.getMessage());
+        assertEquals(0, menuCache.size());
+    }
+
+    @Test
+    @DisplayName("무효화된 가게는 최대 개수에 포함되지 않아 캐시된 다른 가게를 밀어내지 않는다.")
+    void test_07() {
+
+        // given
+        when(mockItemRepository.findMenuByShopId(anyLong())).thenReturn(List.of(menuItem(10L, 1000)));
+        menuCache.get(1L);
+        menuCache.get(2L);
+
+        // when
+        menuCache.invalidate(2L);
+        menuCache.get(3L);
+        menuCache.get(1L);
+
+        // then
+        assertEquals(2, menuCache.size());
+        verify(mockItemRepository, times(1)).findMenuByShopId(1L);
+    }
+
+    private MenuItemInfo menuItem(long itemId, int price) {
+        return new MenuItemInfo(itemId, "item", "description", price, false);
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.deliveryservice.domain.order.controller;
+
+import com.project.deliveryservice.common.constants.AuthConstants;
+import com.project.deliveryservice.common.exception.ErrorMsg;
+import com.project.deliveryservice.common.exception.NotExistException;
+import com.project.deliveryservice.domain.order.dto.OrderStatusResult;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.service.OrderStatusService;
+import com.project.deliveryservice.utils.JwtUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.security.Key;
+import java.util.List;
+
+import static com.project.deliveryservice.TestUtils.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest()
+@AutoConfigureMockMvc
+class OrderControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Value("${jwt.secret}")
+    String secret;
+
+    @MockBean
+    OrderStatusService mockOrderStatusService;
+
+    private Key secretKey;
+
+    @BeforeEach
+    public void setup() {
+        secretKey = JwtUtils.generateKey(secret);
+    }
+
+    String bearer(String authority) {
+        return AuthConstants.BEARER_PREFIX + JwtUtils.createJwtToken(testEmail, authority, testExpireMin, secretKey);
+    }
+
+    @Test
+    @DisplayName("일반 사용자가 주문 상태 변경을 요청하면 Forbidden 상태를 반환하고 주문을 변경하지 않는다.")
+    public void test_01() throws Exception {
+
+        mockMvc.perform(
+                        patch("/api/orders/1/status")
+                                .header(AuthConstants.AUTHORIZATION_HEADER, bearer(testAuthority))
+                                .content("{\"from\":\"REQUESTED\",\"to\":\"PROGRESS\"}")
+                                .contentType("application/json"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(
+                        patch("/api/orders/status")
+                                .header(AuthConstants.AUTHORIZATION_HEADER, bearer(testAuthority))
+                                .content("{\"shopId\":1,\"orderIds\":[1,2],\"from\":\"REQUESTED\",\"to\":\"PROGRESS\"}")
+                                .contentType("application/json"))
+                .andExpect(status().isForbidden());
+
+        verify(mockOrderStatusService, never()).changeStatus(anyLong(), any(), any());
+        verify(mockOrderStatusService, never()).changeStatusInBulk(anyLong(), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("관리자는 주문 상태를 변경할 수 있고, 없는 주문이면 Not Found 상태를 반환한다.")
+    public void test_02() throws Exception {
+
+        when(mockOrderStatusService.changeStatus(1L, OrderStatus.REQUESTED, OrderStatus.PROGRESS))
+                .thenReturn(new OrderStatusResult(OrderStatus.PROGRESS, List.of(1L), List.of()));
+        when(mockOrderStatusService.changeStatus(2L, OrderStatus.REQUESTED, OrderStatus.PROGRESS))
+                .thenThrow(new NotExistException(ErrorMsg.ORDER_NOT_EXIST));
+
+        mockMvc.perform(
+                        patch("/api/orders/1/status")
+                                .header(AuthConstants.AUTHORIZATION_HEADER, bearer("ROLE_ADMIN"))
+                                .content("{\"from\":\"REQUESTED\",\"to\":\"PROGRESS\"}")
+                                .contentType("application/json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.changedOrderIds[0]").value(1));
+        mockMvc.perform(
+                        patch("/api/orders/2/status")
+                                .header(AuthConstants.AUTHORIZATION_HEADER, bearer("ROLE_ADMIN"))
+                                .content("{\"from\":\"REQUESTED\",\"to\":\"PROGRESS\"}")
+                                .contentType("application/json"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("errorMsg").value(ErrorMsg.ORDER_NOT_EXIST));
+    }
+}
@@ -0,0 +1,151 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.entity.Address;
+import com.project.deliveryservice.domain.delivery.entity.Delivery;
+import com.project.deliveryservice.domain.item.entity.Item;
+import com.project.deliveryservice.domain.order.dto.OrderInfo;
+import com.project.deliveryservice.domain.order.dto.OrderSlice;
+import com.project.deliveryservice.domain.order.entity.Order;
+import com.project.deliveryservice.domain.order.entity.OrderItem;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.repository.OrderRepository;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.entity.Shop;
+import com.project.deliveryservice.domain.user.entity.Role;
+import com.project.deliveryservice.domain.user.entity.User;
+import com.project.deliveryservice.domain.user.repository.LevelRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest(properties = "order.archive.enabled=true")
+@Transactional
+class OrderArchiverTest {
+
+    private static final String email = "order-archive@naver.com";
+
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    LevelRepository levelRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    OrderArchiver orderArchiver;
+    @Autowired
+    OrderQueryService orderQueryService;
+
+    List<Long> orderIds = new ArrayList<>();
+    List<Long> deliveryIds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        Address address = new Address("seoul", "songpa", "12345");
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .username("tester")
+                .level(levelRepository.findByRole(Role.ROLE_NORMAL).orElseThrow())
+                .address(address)
+                .build();
+        Shop shop = Shop.builder()
+                .category(Category.KOREAN)
+                .minPrice(10000)
+                .address(address)
+                .description("test shop description")
+                .restDays(0)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(22, 0))
+                .build();
+        entityManager.persist(user);
+        entityManager.persist(shop);
+
+        List<Item> items = IntStream.rangeClosed(1, 2)
+                .mapToObj(i -> Item.builder().shop(shop).name("item" + i).price(i * 1000).build())
+                .toList();
+        items.forEach(entityManager::persist);
+
+        for (int i = 0; i < 10; i++) {
+            List<OrderItem> orderItems = items.stream()
+                    .map(item -> OrderItem.builder().item(item).price(item.getPrice()).quantity(1).build())
+                    .toList();
+            Order order = new Order(user, shop, Delivery.builder().address(address).build(), orderItems);
+            entityManager.persist(order);
+            orderIds.add(order.getId());
+            deliveryIds.add(order.getDelivery().getId());
+        }
+        entityManager.flush();
+
+        // 앞의 6건은 100일 전에 완료된 주문
+        LocalDateTime completedAt = LocalDateTime.now().minusDays(100);
+        for (Long orderId : orderIds.subList(0, 6)) {
+            orderRepository.updateStatus(orderId, OrderStatus.REQUESTED, OrderStatus.PROGRESS, completedAt);
+            orderRepository.updateStatus(orderId, OrderStatus.PROGRESS, OrderStatus.COMPLETED, completedAt);
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 주문만 보관 테이블로 옮겨진다.")
+    void test_01() {
+
+        // when
+        long archived = orderArchiver.archive(LocalDateTime.now().minusDays(90));
+
+        // then
+        assertThat(archived, equalTo(6L));
+        assertThat(orderRepository.findById(orderIds.get(0)).isPresent(), equalTo(false));
+        assertThat(orderRepository.findById(orderIds.get(6)).isPresent(), equalTo(true));
+    }
+
+    @Test
+    @DisplayName("보관된 주문도 단건 조회와 목록 조회에서 그대로 조회된다.")
+    void test_02() {
+
+        // given
+        orderArchiver.archive(LocalDateTime.now().minusDays(90));
+
+        // when
+        OrderInfo archivedOrder = orderQueryService.getOrder(email, orderIds.get(0));
+        OrderSlice first = orderQueryService.getOrders(email, null, null, 6);
+        OrderSlice second = orderQueryService.getOrders(email, first.getNextCursorCreatedAt(), first.getNextCursorId(), 6);
+
+        // then
+        assertThat(archivedOrder.getOrderStatus(), equalTo(OrderStatus.COMPLETED));
+        assertThat(archivedOrder.getOrderItems().size(), equalTo(2));
+        assertThat(first.getOrders().size() + second.getOrders().size(), equalTo(10));
+        assertThat(second.isHasNext(), equalTo(false));
+    }
+
+    @Test
+    @DisplayName("보관된 주문의 배달은 그대로 남고, 그 사이 환불 요청된 주문은 옮겨지지 않는다.")
+    void test_03() {
+
+        // given - 보관 대상이던 주문 하나가 환불 요청됨
+        orderRepository.updateStatus(orderIds.get(5), OrderStatus.COMPLETED, OrderStatus.REFUND_REQUESTED, LocalDateTime.now());
+        entityManager.clear();
+
+        // when
+        long archived = orderArchiver.archive(LocalDateTime.now().minusDays(90));
+
+        // then
+        assertThat(archived, equalTo(5L));
+        assertThat(entityManager.find(Delivery.class, deliveryIds.get(0)), notNullValue());
+        assertThat(entityManager.find(Delivery.class, deliveryIds.get(5)), notNullValue());
+        assertThat(entityManager.find(Delivery.class, deliveryIds.get(6)), notNullValue());
+        assertThat(orderRepository.findById(orderIds.get(5)).isPresent(), equalTo(true));
+    }
+}
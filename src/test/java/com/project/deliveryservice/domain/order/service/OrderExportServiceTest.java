@@ -0,0 +1,142 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.entity.Address;
+import com.project.deliveryservice.domain.delivery.entity.Delivery;
+import com.project.deliveryservice.domain.item.entity.Item;
+import com.project.deliveryservice.domain.order.entity.Order;
+import com.project.deliveryservice.domain.order.entity.OrderItem;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.entity.Shop;
+import com.project.deliveryservice.domain.user.entity.Role;
+import com.project.deliveryservice.domain.user.entity.User;
+import com.project.deliveryservice.domain.user.repository.LevelRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest(properties = {"order.export.fetch-size=2", "order.export.clear-interval=2"})
+@Transactional
+class OrderExportServiceTest {
+
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    LevelRepository levelRepository;
+    @Autowired
+    OrderExportService orderExportService;
+
+    User user;
+    Shop shop;
+    List<Item> items;
+
+    @BeforeEach
+    void setup() {
+        Address address = new Address("seoul", "songpa", "12345");
+        user = User.builder()
+                .email("order-export@naver.com")
+                .password("password")
+                .username("tester")
+                .level(levelRepository.findByRole(Role.ROLE_NORMAL).orElseThrow())
+                .address(address)
+                .build();
+        shop = Shop.builder()
+                .category(Category.KOREAN)
+                .minPrice(10000)
+                .address(address)
+                .description("test shop description")
+                .restDays(0)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(22, 0))
+                .build();
+        entityManager.persist(user);
+        entityManager.persist(shop);
+
+        items = IntStream.rangeClosed(1, 2)
+                .mapToObj(i -> Item.builder().shop(shop).name("item" + i).price(i * 1000).build())
+                .toList();
+        items.forEach(entityManager::persist);
+
+        for (int i = 0; i < 5; i++) {
+            List<OrderItem> orderItems = items.stream()
+                    .map(item -> OrderItem.builder().item(item).price(item.getPrice()).quantity(1).build())
+                    .toList();
+            entityManager.persist(new Order(user, shop, Delivery.builder().address(address).build(), orderItems));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("커서로 읽은 행을 clear-interval 마다 출력 스트림으로 내보내며 끝까지 모아두지 않는다.")
+    void test_01() {
+
+        // given - 출력 스트림에 도착할 때마다 그 시점까지의 행 수를 기록
+        RecordingOutputStream out = new RecordingOutputStream();
+
+        // when
+        long rows = orderExportService.export(LocalDate.now(), LocalDate.now(), OrderExportFormat.CSV, out);
+
+        // then - 10행이 2행마다 나뉘어 도착하고, 마지막 flush 전에 이미 대부분의 행이 쓰여 있음
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows, equalTo(10L));
+        assertThat(lines.length, equalTo(11));
+        assertThat(out.linesAtWrite.size(), greaterThanOrEqualTo(5));
+        assertThat(out.linesAtWrite.get(0), lessThanOrEqualTo(3L));
+    }
+
+    @Test
+    @DisplayName("Snowflake 도입 전에 작은 식별자로 저장된 주문도 생성 시각이 기간 안이면 내보낸다.")
+    void test_02() {
+
+        // given - IDENTITY 로 발급되던 시절의 주문
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.createNativeQuery("insert into orders (id, user_id, shop_id, status, created_at, updated_at)"
+                        + " values (1, :userId, :shopId, 'COMPLETED', :now, :now)")
+                .setParameter("userId", user.getId())
+                .setParameter("shopId", shop.getId())
+                .setParameter("now", now)
+                .executeUpdate();
+        entityManager.createNativeQuery("insert into order_item (id, order_id, item_id, price, quantity, created_at, updated_at)"
+                        + " values (1, 1, :itemId, 1000, 3, :now, :now)")
+                .setParameter("itemId", items.get(0).getId())
+                .setParameter("now", now)
+                .executeUpdate();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long rows = orderExportService.export(LocalDate.now(), LocalDate.now(), OrderExportFormat.CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows, equalTo(11L));
+        assertThat(Arrays.stream(lines).filter(line -> line.startsWith("1,")).count(), equalTo(1L));
+    }
+
+    private static class RecordingOutputStream extends ByteArrayOutputStream {
+
+        final List<Long> linesAtWrite = new ArrayList<>();
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            super.write(b, off, len);
+            linesAtWrite.add(toString(StandardCharsets.UTF_8).chars().filter(c -> c == '\n').count());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.deliveryservice.domain.order.dto.OrderExportRow;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("CSV 값에 구분자나 따옴표가 있으면 따옴표로 감싸 출력한다.")
+    void test_01() throws Exception {
+
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OrderExportWriter writer = new OrderExportWriter(OrderExportFormat.CSV, out, objectMapper);
+
+        // when
+        writer.writeHeader();
+        writer.write(new OrderExportRow(1L, CREATED_AT, OrderStatus.COMPLETED, 2L, 3L, 4L, "치킨, \"반반\"", 2, 18000));
+        writer.flush();
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("1,2024-01-01T12:00,COMPLETED,2,3,4,\"치킨, \"\"반반\"\"\",2,18000", lines[1]);
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 한 줄에 하나의 JSON 객체를 출력한다.")
+    void test_02() throws Exception {
+
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OrderExportWriter writer = new OrderExportWriter(OrderExportFormat.NDJSON, out, objectMapper);
+
+        // when
+        writer.writeHeader();
+        writer.write(new OrderExportRow(1L, CREATED_AT, OrderStatus.COMPLETED, 2L, 3L, 4L, "item", 2, 18000));
+        writer.write(new OrderExportRow(1L, CREATED_AT, OrderStatus.COMPLETED, 2L, 3L, 5L, "item2", 1, 3000));
+        writer.flush();
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(5L, objectMapper.readTree(lines[1]).get("itemId").asLong());
+    }
+
+    @Test
+    @DisplayName("writer 는 행을 모아두지 않으므로 대량의 행을 써도 힙 사용량이 행 수에 비례해 늘어나지 않는다.")
+    void test_03() throws Exception {
+
+        // given - 200만 행, 모아둔다면 수백 MB 가 필요한 양
+        int rows = 2_000_000;
+        CountingOutputStream out = new CountingOutputStream();
+        OrderExportWriter writer = new OrderExportWriter(OrderExportFormat.CSV, out, objectMapper);
+        long baseline = usedHeapAfterGc();
+        long maxGrowth = 0;
+
+        // when
+        writer.writeHeader();
+        for (int i = 0; i < rows; i++) {
+            writer.write(new OrderExportRow((long) i, CREATED_AT, OrderStatus.COMPLETED,
+                    (long) (i % 1000), (long) (i % 50), (long) i, "item-" + i, 1 + i % 3, 1000 + i % 10_000));
+            if (i % 500_000 == 0) {
+                maxGrowth = Math.max(maxGrowth, usedHeapAfterGc() - baseline);
+            }
+        }
+        writer.flush();
+        maxGrowth = Math.max(maxGrowth, usedHeapAfterGc() - baseline);
+
+        // then
+        assertThat(out.count, greaterThan(100L * 1024 * 1024));
+        assertThat(maxGrowth, lessThan(16L * 1024 * 1024));
+    }
+
+    private long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.exception.TooManyRequestsException;
+import com.project.deliveryservice.domain.order.dto.OrderInfo;
+import com.project.deliveryservice.domain.order.dto.OrderIntakeStats;
+import com.project.deliveryservice.domain.order.dto.OrderRequest;
+import com.project.deliveryservice.domain.order.entity.Order;
+import com.project.deliveryservice.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class OrderGroupCommitWriterTest {
+
+    OrderService mockOrderService;
+
+    OrderGroupCommitWriter writer;
+
+    @BeforeEach
+    void setup() {
+        mockOrderService = Mockito.mock(OrderService.class);
+        // 저장 요청된 주문 수만큼 OrderInfo 를 반환
+        when(mockOrderService.saveOrders(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            return orders.stream()
+                    .map(o -> OrderInfo.builder().build())
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    CompletableFuture<OrderInfo> submit() {
+        User user = User.builder().build();
+        OrderRequest request = OrderRequest.builder().build();
+        return writer.submit(user, request, Mockito.mock(Order.class));
+    }
+
+    @Test
+    @DisplayName("대기열의 주문들은 batch 로 묶여 커밋되고 모든 future 가 완료된다.")
+    void test_01() throws Exception {
+
+        // given - linger 시간 동안 주문을 모음
+        writer = new OrderGroupCommitWriter(mockOrderService, 1000, 1, 50, 200);
+        writer.start();
+
+        // when
+        List<CompletableFuture<OrderInfo>> futures = IntStream.range(0, 100)
+                .mapToObj(i -> submit())
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then - 주문 수보다 적은 횟수로 커밋됨
+        OrderIntakeStats stats = writer.getStats();
+        assertThat(stats.getCommittedOrders(), equalTo(100L));
+        assertThat(stats.getCommittedBatches(), lessThan(100L));
+        assertThat(stats.getMaxBatchSize(), lessThanOrEqualTo(50));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 TooManyRequestsException 을 던진다.")
+    void test_02() {
+
+        // given - 주문을 처리하는 writer 가 없음
+        writer = new OrderGroupCommitWriter(mockOrderService, 2, 0, 50, 5);
+        writer.start();
+        submit();
+        submit();
+
+        // when
+        assertThrows(TooManyRequestsException.class, this::submit);
+
+        // then
+        assertThat(writer.getStats().getQueueDepth(), equalTo(2));
+        assertThat(writer.getStats().getRejectedOrders(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("batch 커밋이 실패하면 주문별로 다시 저장한다.")
+    void test_03() throws Exception {
+
+        // given - batch 저장은 실패하고 단건 저장은 성공
+        doThrow(new IllegalStateException("batch failed")).when(mockOrderService).saveOrders(anyList());
+        when(mockOrderService.createOrder(any(User.class), any(OrderRequest.class)))
+                .thenReturn(OrderInfo.builder().build());
+        writer = new OrderGroupCommitWriter(mockOrderService, 100, 1, 10, 50);
+        writer.start();
+
+        // when
+        List<CompletableFuture<OrderInfo>> futures = IntStream.range(0, 3)
+                .mapToObj(i -> submit())
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        verify(mockOrderService, times(3)).createOrder(any(User.class), any(OrderRequest.class));
+        assertThat(writer.getStats().getFailedOrders(), equalTo(0L));
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deliveryservice.common.entity.Address;
+import com.project.deliveryservice.domain.delivery.repository.DeliveryRepository;
+import com.project.deliveryservice.domain.delivery.service.DeliveryEtaEstimator;
+import com.project.deliveryservice.domain.delivery.service.DeliveryService;
+import com.project.deliveryservice.domain.item.entity.Item;
+import com.project.deliveryservice.domain.item.repository.ItemRepository;
+import com.project.deliveryservice.domain.order.dto.OrderImportError;
+import com.project.deliveryservice.domain.order.dto.OrderImportResult;
+import com.project.deliveryservice.domain.order.entity.Order;
+import com.project.deliveryservice.domain.order.repository.OrderItemRepository;
+import com.project.deliveryservice.domain.shop.entity.Shop;
+import com.project.deliveryservice.domain.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static com.project.deliveryservice.TestUtils.getDefaultTestUser;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderImportServiceTest {
+
+    private static final String VALID_ORDER = "{\"userId\":%d,\"order\":{\"orderItems\":[{\"itemId\":%d,\"price\":1000,\"quantity\":1}]," +
+            "\"city\":\"seoul\",\"street\":\"songpa\",\"zipCode\":\"12345\"}}";
+
+    OrderService mockOrderService;
+    ItemRepository mockItemRepository;
+    UserService mockUserService;
+
+    OrderImportService orderImportService;
+
+    @BeforeEach
+    void setup() {
+        mockOrderService = Mockito.mock(OrderService.class);
+        mockItemRepository = Mockito.mock(ItemRepository.class);
+        mockUserService = Mockito.mock(UserService.class);
+        OrderItemService orderItemService = new OrderItemService(Mockito.mock(OrderItemRepository.class), mockItemRepository);
+        DeliveryService deliveryService = new DeliveryService(Mockito.mock(DeliveryRepository.class),
+                Mockito.mock(DeliveryEtaEstimator.class));
+
+        orderImportService = new OrderImportService(mockOrderService, orderItemService, deliveryService, mockUserService,
+                new ObjectMapper().findAndRegisterModules(), Validation.buildDefaultValidatorFactory().getValidator(), 100);
+        ReflectionTestUtils.setField(orderImportService, "entityManager", Mockito.mock(EntityManager.class));
+
+        Shop shop = Shop.builder().id(1L).build();
+        when(mockItemRepository.findAllWithShopByIds(any())).thenReturn(List.of(new Item(10L, shop, "item", "item", 1000, false)));
+        when(mockUserService.getUsersByIds(any()))
+                .thenReturn(Map.of(1L, getDefaultTestUser(1L, "user@naver.com", new Address("seoul", "songpa", "12345"))));
+    }
+
+    OrderImportResult importOrders(String... lines) throws Exception {
+        byte[] body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return orderImportService.importOrders(new ByteArrayInputStream(body));
+    }
+
+    @Test
+    @DisplayName("잘못된 주문은 줄 번호와 함께 보고되고, 나머지 주문은 한 번에 저장된다.")
+    void test_01() throws Exception {
+
+        // when
+        OrderImportResult result = importOrders(
+                VALID_ORDER.formatted(1, 10),
+                "{not json",
+                "{\"userId\":1,\"order\":{\"orderItems\":[],\"city\":\"seoul\",\"street\":\"songpa\",\"zipCode\":\"12345\"}}",
+                VALID_ORDER.formatted(2, 10),
+                VALID_ORDER.formatted(1, 99),
+                VALID_ORDER.formatted(1, 10));
+
+        // then
+        assertEquals(6, result.getTotal());
+        assertEquals(2, result.getImported());
+        assertThat(result.getErrors().stream().map(OrderImportError::getLine).toList(), contains(2L, 3L, 4L, 5L));
+        assertThat(result.getErrors().get(2).getMessage(), equalTo("user not exist"));
+        assertThat(result.getErrors().get(3).getMessage(), equalTo("item not exist"));
+
+        ArgumentCaptor<List<Order>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mockOrderService, times(1)).saveOrders(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        verify(mockUserService, times(1)).getUsersByIds(any());
+        verify(mockItemRepository, times(1)).findAllWithShopByIds(any());
+    }
+
+    @Test
+    @DisplayName("chunk 저장에 실패하면 한 건씩 다시 저장하여 실패한 주문만 보고한다.")
+    void test_02() throws Exception {
+
+        // given - 여러 건을 한 번에 저장하면 실패, 두 번째 단건 저장도 실패
+        when(mockOrderService.saveOrders(argThat(orders -> orders != null && orders.size() > 1)))
+                .thenThrow(new IllegalStateException("deadlock"));
+        when(mockOrderService.saveOrders(argThat(orders -> orders != null && orders.size() == 1)))
+                .thenReturn(List.of())
+                .thenThrow(new IllegalStateException("constraint violation"))
+                .thenReturn(List.of());
+
+        // when
+        OrderImportResult result = importOrders(
+                VALID_ORDER.formatted(1, 10),
+                VALID_ORDER.formatted(1, 10),
+                VALID_ORDER.formatted(1, 10));
+
+        // then
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(2L, result.getErrors().get(0).getLine());
+    }
+}
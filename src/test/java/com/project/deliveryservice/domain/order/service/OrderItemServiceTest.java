@@ -0,0 +1,127 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.domain.item.entity.Item;
+import com.project.deliveryservice.domain.item.repository.ItemRepository;
+import com.project.deliveryservice.domain.order.dto.OrderItemRequest;
+import com.project.deliveryservice.domain.order.entity.OrderItem;
+import com.project.deliveryservice.domain.order.repository.OrderItemRepository;
+import com.project.deliveryservice.domain.shop.entity.Shop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class OrderItemServiceTest {
+
+    OrderItemRepository mockOrderItemRepository;
+    ItemRepository mockItemRepository;
+
+    OrderItemService orderItemService;
+
+    @BeforeEach
+    void setup() {
+        mockOrderItemRepository = Mockito.mock(OrderItemRepository.class);
+        mockItemRepository = Mockito.mock(ItemRepository.class);
+        orderItemService = new OrderItemService(mockOrderItemRepository, mockItemRepository);
+    }
+
+    Item getItem(long itemId, Shop shop, int price) {
+        return new Item(itemId, shop, "test", "test", price, false);
+    }
+
+    Shop getShop(long shopId) {
+        return Shop.builder().id(shopId).build();
+    }
+
+    @Test
+    @DisplayName("주문 아이템 수와 관계 없이 아이템 조회는 한 번의 쿼리로 수행된다.")
+    void test_01() {
+
+        // given - 30 개의 주문 아이템
+        Shop shop = getShop(1L);
+        List<Item> items = LongStream.rangeClosed(1, 30)
+                .mapToObj(l -> getItem(l, shop, (int) l * 1000))
+                .toList();
+        List<OrderItemRequest> requests = items.stream()
+                .map(i -> new OrderItemRequest(i.getId(), i.getPrice(), 1))
+                .toList();
+        when(mockItemRepository.findAllWithShopByIds(any())).thenReturn(items);
+
+        // when
+        List<OrderItem> orderItems = orderItemService.verifyAndCreateFromRequests(requests);
+
+        // then - 조회 횟수가 N 에서 1 로 줄어듦
+        assertThat(orderItems.size(), equalTo(30));
+        verify(mockItemRepository, times(1)).findAllWithShopByIds(any());
+        verify(mockItemRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("주문 아이템의 가격은 클라이언트 요청이 아닌 아이템 가격을 사용한다.")
+    void test_02() {
+
+        // given - 클라이언트가 조작된 가격을 전송
+        Item item = getItem(1L, getShop(1L), 15000);
+        List<OrderItemRequest> requests = List.of(new OrderItemRequest(1L, 100, 2));
+        when(mockItemRepository.findAllWithShopByIds(any())).thenReturn(List.of(item));
+
+        // when
+        List<OrderItem> orderItems = orderItemService.verifyAndCreateFromRequests(requests);
+
+        // then
+        assertThat(orderItems.get(0).getPrice(), equalTo(15000));
+        assertThat(orderItems.get(0).getQuantity(), equalTo(2));
+        assertThat(orderItems.get(0).getItem(), sameInstance(item));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 아이템이 포함되어 있으면 예외를 던진다.")
+    void test_03() {
+
+        // given
+        List<OrderItemRequest> requests = List.of(
+                new OrderItemRequest(1L, 1000, 1),
+                new OrderItemRequest(2L, 1000, 1)
+        );
+        when(mockItemRepository.findAllWithShopByIds(any())).thenReturn(List.of(getItem(1L, getShop(1L), 1000)));
+
+        // when
+        Throwable throwable = assertThrows(IllegalArgumentException.class,
+                () -> orderItemService.verifyAndCreateFromRequests(requests));
+
+        // then
+        assertThat(throwable.getMessage(), equalTo("item not exist"));
+    }
+
+    @Test
+    @DisplayName("서로 다른 가게의 아이템이 포함되어 있으면 예외를 던진다.")
+    void test_04() {
+
+        // given
+        List<OrderItemRequest> requests = List.of(
+                new OrderItemRequest(1L, 1000, 1),
+                new OrderItemRequest(2L, 1000, 1)
+        );
+        when(mockItemRepository.findAllWithShopByIds(any())).thenReturn(List.of(
+                getItem(1L, getShop(1L), 1000),
+                getItem(2L, getShop(2L), 1000)
+        ));
+
+        // when
+        Throwable throwable = assertThrows(IllegalArgumentException.class,
+                () -> orderItemService.verifyAndCreateFromRequests(requests));
+
+        // then
+        assertThat(throwable.getMessage(), equalTo("items from different shops"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.entity.OrderStatusOutbox;
+import com.project.deliveryservice.domain.order.repository.OrderStatusOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class OrderOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    OrderStatusOutboxRepository mockOutboxRepository;
+    PlatformTransactionManager mockTransactionManager;
+    InMemoryOrderEventPublisher publisher;
+
+    OrderOutboxRelay relay;
+
+    @BeforeEach
+    void setup() {
+        mockOutboxRepository = Mockito.mock(OrderStatusOutboxRepository.class);
+        mockTransactionManager = Mockito.mock(PlatformTransactionManager.class);
+        publisher = new InMemoryOrderEventPublisher();
+        relay = new OrderOutboxRelay(mockOutboxRepository, publisher, mockTransactionManager, BATCH_SIZE);
+    }
+
+    List<OrderStatusOutbox> getOutboxes(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new OrderStatusOutbox(id, id * 10, OrderStatus.REQUESTED, LocalDateTime.now()))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("outbox 의 이벤트를 식별자 순서대로 발행하고 발행한 이벤트를 삭제한다.")
+    void test_01() {
+
+        // given - 가득 찬 batch 다음에 일부만 찬 batch
+        when(mockOutboxRepository.findAllByOrderByIdAsc(any()))
+                .thenReturn(getOutboxes(1, 3))
+                .thenReturn(getOutboxes(4, 5));
+        List<Long> publishedIds = new ArrayList<>();
+        publisher.subscribe(event -> publishedIds.add(event.getEventId()));
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(publishedIds, contains(1L, 2L, 3L, 4L, 5L));
+        verify(mockOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        verify(mockOutboxRepository).deleteAllByIdInBatch(List.of(4L, 5L));
+        verify(mockOutboxRepository, times(2)).findAllByOrderByIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 outbox 의 이벤트를 삭제하지 않는다.")
+    void test_02() {
+
+        // given
+        when(mockOutboxRepository.findAllByOrderByIdAsc(any())).thenReturn(getOutboxes(1, 2));
+        publisher.subscribe(event -> {
+            throw new IllegalStateException("broker unavailable");
+        });
+
+        // when
+        assertThrows(IllegalStateException.class, () -> relay.relay());
+
+        // then - 다음 relay 에서 다시 발행됨
+        verify(mockOutboxRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(mockTransactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("outbox 가 비어 있으면 아무것도 발행하지 않는다.")
+    void test_03() {
+
+        // given
+        when(mockOutboxRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of());
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(publisher.getPublishedCount(), equalTo(0L));
+        verify(mockOutboxRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+}
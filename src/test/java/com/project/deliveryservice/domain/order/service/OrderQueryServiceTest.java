@@ -0,0 +1,129 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.entity.Address;
+import com.project.deliveryservice.domain.delivery.entity.Delivery;
+import com.project.deliveryservice.domain.item.entity.Item;
+import com.project.deliveryservice.domain.order.dto.OrderSlice;
+import com.project.deliveryservice.domain.order.entity.Order;
+import com.project.deliveryservice.domain.order.entity.OrderItem;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.entity.Shop;
+import com.project.deliveryservice.domain.user.entity.Role;
+import com.project.deliveryservice.domain.user.entity.User;
+import com.project.deliveryservice.domain.user.repository.LevelRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class OrderQueryServiceTest {
+
+    private static final String email = "order-query@naver.com";
+
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    LevelRepository levelRepository;
+    @Autowired
+    OrderQueryService orderQueryService;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        Address address = new Address("seoul", "songpa", "12345");
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .username("tester")
+                .level(levelRepository.findByRole(Role.ROLE_NORMAL).orElseThrow())
+                .address(address)
+                .build();
+        Shop shop = Shop.builder()
+                .category(Category.KOREAN)
+                .minPrice(10000)
+                .address(address)
+                .description("test shop description")
+                .restDays(0)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(22, 0))
+                .build();
+        entityManager.persist(user);
+        entityManager.persist(shop);
+
+        List<Item> items = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> Item.builder().shop(shop).name("item" + i).price(i * 1000).build())
+                .toList();
+        items.forEach(entityManager::persist);
+
+        // 아이템이 3개씩 담긴 주문 30건
+        for (int i = 0; i < 30; i++) {
+            List<OrderItem> orderItems = items.stream()
+                    .map(item -> OrderItem.builder().item(item).price(item.getPrice()).quantity(1).build())
+                    .toList();
+            Delivery delivery = Delivery.builder().address(address).build();
+            entityManager.persist(new Order(user, shop, delivery, orderItems));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    long countQueries(Runnable runnable) {
+        statistics.clear();
+        runnable.run();
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회의 쿼리 수는 페이지 크기와 관계 없이 일정하다.")
+    void test_01() {
+
+        // when
+        long smallPageQueries = countQueries(() -> orderQueryService.getOrders(email, null, null, 5));
+        long largePageQueries = countQueries(() -> orderQueryService.getOrders(email, null, null, 20));
+
+        // then - 사용자, 주문, 주문 아이템 조회
+        assertThat(smallPageQueries, equalTo(3L));
+        assertThat(largePageQueries, equalTo(smallPageQueries));
+    }
+
+    @Test
+    @DisplayName("커서를 따라 조회하면 모든 주문을 중복 없이 최신순으로 조회한다.")
+    void test_02() {
+
+        // given
+        OrderSlice first = orderQueryService.getOrders(email, null, null, 20);
+
+        // when
+        OrderSlice second = orderQueryService.getOrders(email, first.getNextCursorCreatedAt(), first.getNextCursorId(), 20);
+
+        // then
+        assertThat(first.getOrders().size(), equalTo(20));
+        assertThat(first.isHasNext(), equalTo(true));
+        assertThat(second.getOrders().size(), equalTo(10));
+        assertThat(second.isHasNext(), equalTo(false));
+        assertThat(first.getOrders().get(0).getOrderItems().size(), equalTo(3));
+        assertThat(second.getOrders().get(0).getOrderId(),
+                lessThan(first.getOrders().get(19).getOrderId()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.entity.Address;
+import com.project.deliveryservice.domain.item.entity.Item;
+import com.project.deliveryservice.domain.order.dto.OrderInfo;
+import com.project.deliveryservice.domain.order.dto.OrderItemRequest;
+import com.project.deliveryservice.domain.order.dto.OrderRequest;
+import com.project.deliveryservice.domain.order.entity.Order;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.entity.Shop;
+import com.project.deliveryservice.domain.user.entity.Role;
+import com.project.deliveryservice.domain.user.entity.User;
+import com.project.deliveryservice.domain.user.repository.LevelRepository;
+import com.project.deliveryservice.domain.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class OrderServiceIntegrationTest {
+
+    private static final String email = "order-service-session@naver.com";
+
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    LevelRepository levelRepository;
+    @Autowired
+    UserService userService;
+    @Autowired
+    OrderService orderService;
+
+    @Test
+    @DisplayName("검증한 트랜잭션이 끝난 뒤 다른 스레드에서 저장해도 가게 정보로 도착 예정 시각을 계산한다.")
+    void test_01() throws Exception {
+
+        // given - 주문 요청 스레드가 검증한 주문을 group commit writer 스레드가 저장하는 경우
+        Item item = new TransactionTemplate(transactionManager).execute(status -> {
+            Address address = new Address("seoul", "songpa", "05500");
+            entityManager.persist(User.builder()
+                    .email(email)
+                    .password("password")
+                    .username("tester")
+                    .level(levelRepository.findByRole(Role.ROLE_NORMAL).orElseThrow())
+                    .address(address)
+                    .build());
+            Shop shop = Shop.builder()
+                    .category(Category.KOREAN)
+                    .minPrice(10000)
+                    .address(address)
+                    .description("test shop description")
+                    .restDays(0)
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(22, 0))
+                    .build();
+            entityManager.persist(shop);
+            Item saved = Item.builder().shop(shop).name("item").price(12000).build();
+            entityManager.persist(saved);
+            return saved;
+        });
+        User user = userService.getUserOrThrowByEmail(email);
+        Order order = orderService.prepareOrder(user, new OrderRequest(
+                List.of(new OrderItemRequest(item.getId(), 12000, 1)), "seoul", "songpa", "05600"));
+
+        // when
+        OrderInfo saved = CompletableFuture
+                .supplyAsync(() -> orderService.saveOrders(List.of(order)).get(0))
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertNotNull(saved.getOrderId());
+        assertNotNull(saved.getEstimatedArrivalAt());
+        assertEquals(item.getShop().getAddress().getZipcode(), order.getShop().getAddress().getZipcode());
+    }
+}
@@ -27,6 +27,7 @@ class OrderServiceTest {
     DeliveryService mockDeliveryService;
     UserService mockUserService;
     OrderItemService mockOrderItemService;
+    OrderOutboxService mockOrderOutboxService;
 
     OrderService orderService;
 
@@ -38,7 +39,9 @@ class OrderServiceTest {
         mockDeliveryService = Mockito.mock(DeliveryService.class);
         mockUserService = Mockito.mock(UserService.class);
         mockOrderItemService = Mockito.mock(OrderItemService.class);
-        orderService = new OrderService(mockOrderRepository, mockDeliveryService, mockUserService, mockOrderItemService);
+        mockOrderOutboxService = Mockito.mock(OrderOutboxService.class);
+        orderService = new OrderService(mockOrderRepository, mockDeliveryService, mockUserService, mockOrderItemService,
+                mockOrderOutboxService);
     }
 
     Item getItem(long itemId, int price) {
@@ -0,0 +1,122 @@
+package com.project.deliveryservice.domain.order.service;
+
+import com.project.deliveryservice.common.exception.NotExistException;
+import com.project.deliveryservice.common.exception.StatusConflictException;
+import com.project.deliveryservice.domain.order.dto.OrderStatusResult;
+import com.project.deliveryservice.domain.order.entity.OrderStatus;
+import com.project.deliveryservice.domain.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderStatusServiceTest {
+
+    OrderRepository mockOrderRepository;
+    OrderOutboxService mockOrderOutboxService;
+    ApplicationEventPublisher mockEventPublisher;
+
+    OrderStatusService orderStatusService;
+
+    @BeforeEach
+    void setup() {
+        mockOrderRepository = Mockito.mock(OrderRepository.class);
+        mockOrderOutboxService = Mockito.mock(OrderOutboxService.class);
+        mockEventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        orderStatusService = new OrderStatusService(mockOrderRepository, mockOrderOutboxService, mockEventPublisher);
+    }
+
+    @Test
+    @DisplayName("전이 테이블에 없는 상태 변경은 update 없이 예외를 던진다.")
+    void test_01() {
+
+        // when
+        assertThrows(IllegalArgumentException.class,
+                () -> orderStatusService.changeStatus(1L, OrderStatus.REQUESTED, OrderStatus.COMPLETED));
+        assertThrows(IllegalArgumentException.class,
+                () -> orderStatusService.changeStatus(1L, OrderStatus.CANCELED, OrderStatus.PROGRESS));
+
+        // then
+        verify(mockOrderRepository, never()).updateStatus(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 상태가 이미 변경되었다면 StatusConflictException 을 던지고 이벤트를 기록하지 않는다.")
+    void test_02() {
+
+        // given - 조건부 update 가 0 건을 변경
+        when(mockOrderRepository.updateStatus(eq(1L), eq(OrderStatus.REQUESTED), eq(OrderStatus.PROGRESS), any()))
+                .thenReturn(0);
+        when(mockOrderRepository.existsById(1L)).thenReturn(true);
+
+        // when
+        assertThrows(StatusConflictException.class,
+                () -> orderStatusService.changeStatus(1L, OrderStatus.REQUESTED, OrderStatus.PROGRESS));
+
+        // then
+        verify(mockOrderOutboxService, never()).append(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("상태 변경에 성공하면 같은 트랜잭션에서 outbox 에 이벤트를 기록한다.")
+    void test_03() {
+
+        // given
+        when(mockOrderRepository.updateStatus(eq(1L), eq(OrderStatus.REQUESTED), eq(OrderStatus.PROGRESS), any()))
+                .thenReturn(1);
+
+        // when
+        OrderStatusResult result = orderStatusService.changeStatus(1L, OrderStatus.REQUESTED, OrderStatus.PROGRESS);
+
+        // then
+        assertThat(result.getChangedOrderIds(), contains(1L));
+        verify(mockOrderOutboxService, times(1)).append(List.of(1L), OrderStatus.PROGRESS);
+    }
+
+    @Test
+    @DisplayName("일괄 상태 변경은 한 번의 update 로 수행되고 변경되지 않은 주문은 건너뛴다.")
+    void test_04() {
+
+        // given - 3번 주문은 이미 다른 상태
+        List<Long> orderIds = List.of(1L, 2L, 3L, 2L);
+        when(mockOrderRepository.updateStatusInBulk(eq(10L), anyCollection(), eq(OrderStatus.REQUESTED), eq(OrderStatus.PROGRESS), any()))
+                .thenReturn(List.of(1L, 2L));
+
+        // when
+        OrderStatusResult result = orderStatusService.changeStatusInBulk(10L, orderIds, OrderStatus.REQUESTED, OrderStatus.PROGRESS);
+
+        // then
+        verify(mockOrderRepository, times(1))
+                .updateStatusInBulk(eq(10L), eq(List.of(1L, 2L, 3L)), eq(OrderStatus.REQUESTED), eq(OrderStatus.PROGRESS), any());
+        verify(mockOrderOutboxService, times(1)).append(List.of(1L, 2L), OrderStatus.PROGRESS);
+        assertThat(result.getChangedOrderIds(), contains(1L, 2L));
+        assertThat(result.getSkippedOrderIds(), contains(3L));
+    }
+
+    @Test
+    @DisplayName("주문이 없어 상태 변경에 실패하면 NotExistException 을 던진다.")
+    void test_05() {
+
+        // given
+        when(mockOrderRepository.updateStatus(eq(1L), eq(OrderStatus.REQUESTED), eq(OrderStatus.PROGRESS), any()))
+                .thenReturn(0);
+        when(mockOrderRepository.existsById(1L)).thenReturn(false);
+
+        // when
+        assertThrows(NotExistException.class,
+                () -> orderStatusService.changeStatus(1L, OrderStatus.REQUESTED, OrderStatus.PROGRESS));
+
+        // then
+        verify(mockOrderOutboxService, never()).append(anyCollection(), any());
+        verify(mockEventPublisher, never()).publishEvent(any());
+    }
+}
@@ -0,0 +1,106 @@
+package com.project.deliveryservice.domain.sales.service;
+
+import com.project.deliveryservice.domain.sales.dto.SalesReconcileResult;
+import com.project.deliveryservice.domain.sales.dto.ShopSalesAggregate;
+import com.project.deliveryservice.domain.sales.repository.ShopDailySalesRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SalesReconciliationServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate YESTERDAY = TODAY.minusDays(1);
+
+    ShopDailySalesRepository mockSalesRepository;
+    PlatformTransactionManager mockTransactionManager;
+    SalesRollupBuffer salesRollupBuffer;
+    SalesReconciliationService salesReconciliationService;
+
+    @BeforeEach
+    void setup() {
+        mockSalesRepository = Mockito.mock(ShopDailySalesRepository.class);
+        mockTransactionManager = Mockito.mock(PlatformTransactionManager.class);
+        salesRollupBuffer = new SalesRollupBuffer(mockSalesRepository, mockTransactionManager);
+        salesReconciliationService = new SalesReconciliationService(
+                mockSalesRepository, salesRollupBuffer, mockTransactionManager, 2, 2, false, 90, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        salesReconciliationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("날짜별로 원본 주문에서 다시 계산한 집계로 기존 집계를 교체한다.")
+    void test_01() {
+
+        // given
+        when(mockSalesRepository.sumCompletedByShop(YESTERDAY.atStartOfDay(), TODAY.atStartOfDay()))
+                .thenReturn(List.of(new ShopSalesAggregate(1L, 2L, 20_000L, 3L)));
+        when(mockSalesRepository.sumRefundedByShop(YESTERDAY.atStartOfDay(), TODAY.atStartOfDay()))
+                .thenReturn(List.of(new ShopSalesAggregate(1L, 1L, 5_000L, 1L), new ShopSalesAggregate(2L, 1L, 3_000L, 1L)));
+
+        // when
+        SalesReconcileResult result = salesReconciliationService.reconcile(YESTERDAY.minusDays(1), YESTERDAY);
+
+        // then
+        assertEquals(2, result.getRebuiltRows());
+        verify(mockSalesRepository, times(1)).deleteAllBySalesDate(YESTERDAY);
+        verify(mockSalesRepository, times(1)).deleteAllBySalesDate(YESTERDAY.minusDays(1));
+        verify(mockSalesRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("재집계 전에 남은 증분을 반영하고, 재집계한 날짜에 늦게 들어온 증분은 다시 더하지 않는다.")
+    void test_02() {
+
+        // given
+        when(mockSalesRepository.addDelta(anyLong(), any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(1);
+        salesRollupBuffer.addCompleted(1L, YESTERDAY, 10_000, 2);
+
+        // when
+        salesReconciliationService.reconcile(YESTERDAY, YESTERDAY);
+        salesRollupBuffer.addCompleted(1L, YESTERDAY, 10_000, 2);
+        salesRollupBuffer.addCompleted(1L, TODAY, 7_000, 1);
+        int flushed = salesRollupBuffer.flush();
+
+        // then
+        verify(mockSalesRepository, times(1))
+                .addDelta(eq(1L), eq(YESTERDAY), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any());
+        assertNull(salesRollupBuffer.getPending(1L, YESTERDAY));
+        assertEquals(1, flushed);
+        verify(mockSalesRepository, times(1))
+                .addDelta(eq(1L), eq(TODAY), eq(1L), eq(7_000L), eq(1L), eq(0L), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("날짜가 끝나고 close-grace 가 지나지 않은 날짜는 재집계할 수 없다.")
+    void test_03() {
+
+        // given
+        SalesReconciliationService graceful = new SalesReconciliationService(
+                mockSalesRepository, salesRollupBuffer, mockTransactionManager, 2, 2, false, 90, 48 * 60);
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> salesReconciliationService.reconcile(TODAY, TODAY));
+        assertThrows(IllegalArgumentException.class, () -> graceful.reconcile(YESTERDAY, YESTERDAY));
+        graceful.shutdown();
+
+        // then
+        verify(mockSalesRepository, never()).deleteAllBySalesDate(any());
+        salesRollupBuffer.addCompleted(1L, YESTERDAY, 10_000, 2);
+        assertNotNull(salesRollupBuffer.getPending(1L, YESTERDAY));
+    }
+}
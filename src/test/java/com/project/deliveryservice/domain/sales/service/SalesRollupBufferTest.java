@@ -0,0 +1,94 @@
+package com.project.deliveryservice.domain.sales.service;
+
+import com.project.deliveryservice.domain.sales.entity.ShopDailySales;
+import com.project.deliveryservice.domain.sales.repository.ShopDailySalesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SalesRollupBufferTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 1);
+
+    ShopDailySalesRepository mockSalesRepository;
+    SalesRollupBuffer salesRollupBuffer;
+
+    @BeforeEach
+    void setup() {
+        mockSalesRepository = Mockito.mock(ShopDailySalesRepository.class);
+        salesRollupBuffer = new SalesRollupBuffer(mockSalesRepository, Mockito.mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("같은 가게, 같은 날의 증분은 하나의 update 로 합쳐져 반영된다.")
+    void test_01() {
+
+        // given
+        when(mockSalesRepository.addDelta(anyLong(), any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(1);
+        for (int i = 0; i < 100; i++) {
+            salesRollupBuffer.addCompleted(1L, TODAY, 10_000, 2);
+        }
+        salesRollupBuffer.addRefunded(1L, TODAY, 10_000);
+        salesRollupBuffer.addCompleted(2L, TODAY, 5_000, 1);
+
+        // when
+        int flushed = salesRollupBuffer.flush();
+
+        // then
+        assertEquals(2, flushed);
+        verify(mockSalesRepository, times(1))
+                .addDelta(eq(1L), eq(TODAY), eq(100L), eq(1_000_000L), eq(200L), eq(1L), eq(10_000L), any());
+        verify(mockSalesRepository, times(1))
+                .addDelta(eq(2L), eq(TODAY), eq(1L), eq(5_000L), eq(1L), eq(0L), eq(0L), any());
+        assertNull(salesRollupBuffer.getPending(1L, TODAY));
+    }
+
+    @Test
+    @DisplayName("집계 row 가 없으면 새로 저장한다.")
+    void test_02() {
+
+        // given
+        when(mockSalesRepository.addDelta(anyLong(), any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(0);
+        salesRollupBuffer.addCompleted(1L, TODAY, 10_000, 2);
+
+        // when
+        salesRollupBuffer.flush();
+
+        // then
+        ArgumentCaptor<ShopDailySales> captor = ArgumentCaptor.forClass(ShopDailySales.class);
+        verify(mockSalesRepository, times(1)).saveAndFlush(captor.capture());
+        assertEquals(1L, captor.getValue().getShopId());
+        assertEquals(10_000L, captor.getValue().getRevenue());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증분은 유지되어 이후 증분과 합쳐진다.")
+    void test_03() {
+
+        // given
+        when(mockSalesRepository.addDelta(anyLong(), any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenThrow(new IllegalStateException("connection closed"));
+        salesRollupBuffer.addCompleted(1L, TODAY, 10_000, 2);
+
+        // when
+        int flushed = salesRollupBuffer.flush();
+        salesRollupBuffer.addCompleted(1L, TODAY, 3_000, 1);
+
+        // then
+        assertEquals(0, flushed);
+        SalesDelta pending = salesRollupBuffer.getPending(1L, TODAY);
+        assertEquals(2, pending.orderCount);
+        assertEquals(13_000, pending.revenue);
+    }
+}
@@ -0,0 +1,117 @@
+package com.project.deliveryservice.domain.search.service;
+
+import com.project.deliveryservice.domain.search.dto.NamePopularity;
+import com.project.deliveryservice.domain.search.dto.Suggestion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactTrieTest {
+
+    @Test
+    @DisplayName("정규화한 이름이 같으면 인기를 합치고, 접두어로 시작하는 이름을 인기 순으로 추천한다.")
+    void test_01() {
+
+        // given
+        CompactTrie trie = CompactTrie.build(List.of(
+                new NamePopularity("치즈 떡볶이", 30),
+                new NamePopularity("치즈떡볶이", 5),
+                new NamePopularity("치즈볼", 20),
+                new NamePopularity("치킨", 100),
+                new NamePopularity("떡볶이", 50)), 10);
+
+        // when
+        List<Suggestion> suggestions = trie.suggest("치즈", 10);
+
+        // then
+        assertEquals(List.of("치즈 떡볶이", "치즈볼"), suggestions.stream().map(Suggestion::getText).toList());
+        assertEquals(35, suggestions.get(0).getPopularity());
+        assertEquals(List.of("치킨", "치즈 떡볶이", "치즈볼"), trie.suggest("치", 10).stream().map(Suggestion::getText).toList());
+        assertEquals(List.of("치킨"), trie.suggest("치", 1).stream().map(Suggestion::getText).toList());
+        assertTrue(trie.suggest("피자", 10).isEmpty());
+        assertTrue(trie.suggest(" ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("미리 계산된 노드와 직접 훑는 노드 모두 전체 이름을 정렬한 결과와 같다.")
+    void test_02() {
+
+        // given
+        Random random = new Random(42);
+        String syllables = "떡볶이치킨피자";
+        Map<String, Long> popularities = new HashMap<>();
+        List<NamePopularity> names = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String name = randomName(random, syllables, 1 + random.nextInt(8));
+            long popularity = random.nextInt(1_000);
+            names.add(new NamePopularity(name, popularity));
+            popularities.merge(name, popularity, Long::sum);
+        }
+        CompactTrie trie = CompactTrie.build(names, 10);
+        assertTrue(trie.heavyNodeCount() > 0);
+
+        for (int i = 0; i < 500; i++) {
+            String prefix = randomName(random, syllables, 1 + random.nextInt(4));
+
+            // when
+            List<String> actual = trie.suggest(prefix, 10).stream().map(Suggestion::getText).toList();
+
+            // then
+            List<String> expected = popularities.entrySet().stream()
+                    .filter(e -> e.getKey().startsWith(prefix))
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(10)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            assertEquals(expected, actual, prefix);
+        }
+    }
+
+    @Test
+    @DisplayName("이름 100만 개의 trie 는 64MB 이하의 메모리를 사용하고 추천의 p99 는 5ms 안에 끝난다.")
+    void test_03() {
+
+        // given
+        Random random = new Random(42);
+        String syllables = "가나다라마바사아자차카타파하떡볶이치킨피자국밥순대김라면족발보쌈";
+        List<NamePopularity> names = new ArrayList<>(1_000_000);
+        for (int i = 0; i < 1_000_000; i++) {
+            names.add(new NamePopularity(randomName(random, syllables, 3 + random.nextInt(8)), random.nextInt(10_000)));
+        }
+
+        // when
+        CompactTrie trie = CompactTrie.build(names, 10);
+        List<String> prefixes = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            prefixes.add(randomName(random, syllables, 1 + random.nextInt(3)));
+        }
+        long[] nanos = new long[prefixes.size()];
+        for (int i = 0; i < prefixes.size(); i++) {
+            long start = System.nanoTime();
+            trie.suggest(prefixes.get(i), 10);
+            nanos[i] = System.nanoTime() - start;
+        }
+
+        // then
+        long p99 = java.util.Arrays.stream(nanos).sorted().skip(nanos.length * 99L / 100).findFirst().orElseThrow();
+        String report = "names=" + trie.size() + ", heavyNodes=" + trie.heavyNodeCount()
+                + ", estimatedBytes=" + trie.estimatedBytes() + ", p99Nanos=" + p99;
+        assertTrue(trie.estimatedBytes() < 64L * 1024 * 1024, report);
+        assertTrue(p99 < 5_000_000, report);
+    }
+
+    private String randomName(Random random, String syllables, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append(syllables.charAt(random.nextInt(syllables.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,158 @@
+package com.project.deliveryservice.domain.search.service;
+
+import com.project.deliveryservice.domain.item.event.ItemChangedEvent;
+import com.project.deliveryservice.domain.item.repository.ItemRepository;
+import com.project.deliveryservice.domain.search.dto.ItemDocument;
+import com.project.deliveryservice.domain.search.dto.SearchHit;
+import com.project.deliveryservice.domain.search.dto.SearchType;
+import com.project.deliveryservice.domain.search.dto.ShopDocument;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SearchIndexTest {
+
+    ItemRepository mockItemRepository;
+    ShopRepository mockShopRepository;
+    SearchIndex searchIndex;
+
+    @BeforeEach
+    void setup() {
+        mockItemRepository = Mockito.mock(ItemRepository.class);
+        mockShopRepository = Mockito.mock(ShopRepository.class);
+        searchIndex = new SearchIndex(mockItemRepository, mockShopRepository);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기나 자모 분리와 관계없이 검색되고, 이름에 포함된 아이템이 설명에만 포함된 것보다 앞선다.")
+    void test_01() {
+
+        // given
+        when(mockShopRepository.findAllSearchDocuments()).thenReturn(List.of(
+                new ShopDocument(1L, "국물 떡볶이 전문점 입니다"),
+                new ShopDocument(2L, "바삭한 치킨 전문점 입니다")));
+        when(mockItemRepository.findAllSearchDocuments()).thenReturn(List.of(
+                new ItemDocument(10L, 1L, "떡볶이", "매콤한 국물"),
+                new ItemDocument(11L, 1L, "순대", "떡볶이와 함께"),
+                new ItemDocument(12L, 1L, "치즈 떡볶이", null),
+                new ItemDocument(20L, 2L, "후라이드 치킨", "바삭")));
+        searchIndex.reload();
+
+        // when
+        List<SearchHit> hits = searchIndex.search("떡 볶이", null, 10);
+        List<SearchHit> decomposed = searchIndex.search(Normalizer.normalize("떡볶이", Normalizer.Form.NFD), null, 10);
+
+        // then
+        assertEquals(List.of(10L, 12L, 1L, 11L), hits.stream().map(SearchHit::getId).toList());
+        assertEquals(SearchType.SHOP, hits.get(2).getType());
+        assertEquals(hits.stream().map(SearchHit::getId).toList(), decomposed.stream().map(SearchHit::getId).toList());
+        assertEquals(List.of(20L), searchIndex.search("치킨", 2L, 10).stream()
+                .filter(hit -> hit.getType() == SearchType.ITEM).map(SearchHit::getId).toList());
+        assertTrue(searchIndex.search("치킨", 1L, 10).isEmpty());
+        assertTrue(searchIndex.search("피자", null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("아이템이 변경되면 전체 재구성 없이 검색 결과에 반영된다.")
+    void test_02() {
+
+        // given
+        when(mockShopRepository.findAllSearchDocuments()).thenReturn(List.of());
+        when(mockItemRepository.findAllSearchDocuments()).thenReturn(List.of(new ItemDocument(10L, 1L, "떡볶이", null)));
+        searchIndex.reload();
+        when(mockItemRepository.findSearchDocumentById(10L)).thenReturn(Optional.of(new ItemDocument(10L, 1L, "라볶이", null)));
+        when(mockItemRepository.findSearchDocumentById(11L)).thenReturn(Optional.of(new ItemDocument(11L, 1L, "치즈 떡볶이", null)));
+
+        // when
+        searchIndex.onItemChanged(new ItemChangedEvent(1L, 10L));
+        searchIndex.onItemChanged(new ItemChangedEvent(1L, 11L));
+
+        // then
+        assertEquals(List.of(11L), searchIndex.search("떡볶이", null, 10).stream().map(SearchHit::getId).toList());
+        assertEquals(List.of(10L, 11L), searchIndex.search("볶이", null, 10).stream().map(SearchHit::getId).toList());
+        assertEquals(2, searchIndex.size());
+        verify(mockItemRepository, times(1)).findAllSearchDocuments();
+    }
+
+    @Test
+    @DisplayName("무작위 아이템에 대해 검색 결과가 정규화된 텍스트의 포함 여부와 같다.")
+    void test_03() {
+
+        // given
+        Random random = new Random(42);
+        String syllables = "떡볶이치킨피자국밥순대김밥라면";
+        List<ItemDocument> items = new ArrayList<>();
+        for (long itemId = 1; itemId <= 5_000; itemId++) {
+            items.add(new ItemDocument(itemId, itemId % 50, randomText(random, syllables, 2 + random.nextInt(8)),
+                    random.nextBoolean() ? null : randomText(random, syllables, random.nextInt(20))));
+        }
+        when(mockShopRepository.findAllSearchDocuments()).thenReturn(List.of());
+        when(mockItemRepository.findAllSearchDocuments()).thenReturn(items);
+        searchIndex.reload();
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomText(random, syllables, 1 + random.nextInt(3));
+
+            // when
+            List<Long> actual = searchIndex.search(query, null, Integer.MAX_VALUE).stream()
+                    .map(SearchHit::getId)
+                    .sorted()
+                    .toList();
+
+            // then
+            List<Long> expected = items.stream()
+                    .filter(item -> contains(item.getName(), query) || contains(item.getDescription(), query))
+                    .map(ItemDocument::getItemId)
+                    .toList();
+            assertEquals(expected, actual, query);
+        }
+    }
+
+    @Test
+    @DisplayName("posting 목록은 varint 로 압축되어도 추가한 문서 번호를 그대로 돌려준다.")
+    void test_04() {
+
+        // given
+        PostingList postingList = new PostingList();
+        int[] docs = {0, 1, 127, 128, 16_384, 2_000_000, Integer.MAX_VALUE - 1};
+
+        // when
+        for (int doc : docs) {
+            postingList.add(doc);
+        }
+        int[] candidates = {1, 2, 128, 2_000_000, Integer.MAX_VALUE};
+        int kept = postingList.retainAll(candidates, candidates.length);
+
+        // then
+        assertArrayEquals(docs, postingList.decode());
+        assertEquals(3, kept);
+        assertArrayEquals(new int[]{1, 128, 2_000_000}, java.util.Arrays.copyOf(candidates, kept));
+        assertTrue(postingList.bytes() < docs.length * Integer.BYTES);
+    }
+
+    private String randomText(Random random, String syllables, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append(syllables.charAt(random.nextInt(syllables.length())));
+            if (random.nextInt(5) == 0) {
+                sb.append(' ');
+            }
+        }
+        return sb.toString();
+    }
+
+    private boolean contains(String text, String query) {
+        return text != null && text.replace(" ", "").contains(query.replace(" ", ""));
+    }
+}
@@ -0,0 +1,195 @@
+package com.project.deliveryservice.domain.shop.service;
+
+import com.project.deliveryservice.domain.shop.dto.ShopHours;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.entity.DayBit;
+import com.project.deliveryservice.domain.shop.event.ShopChangedEvent;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OpenShopIndexTest {
+
+    // 2024-01-01 은 월요일
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    ShopRepository mockShopRepository;
+    OpenShopIndex openShopIndex;
+
+    @BeforeEach
+    void setup() {
+        mockShopRepository = Mockito.mock(ShopRepository.class);
+        openShopIndex = new OpenShopIndex(mockShopRepository);
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 영업은 다음 날 새벽까지 영업 중이고, 전날이 휴무일이면 새벽에도 영업하지 않는다.")
+    void test_01() {
+
+        // given
+        when(mockShopRepository.findAllHours()).thenReturn(List.of(
+                new ShopHours(1L, Category.KOREAN, DayBit.toDays(List.of(DayBit.SUN)),
+                        LocalTime.of(18, 0), LocalTime.of(2, 0))));
+
+        // when
+        openShopIndex.reload();
+
+        // then
+        assertTrue(openShopIndex.isOpen(1L, MONDAY.withHour(23)));
+        assertTrue(openShopIndex.isOpen(1L, MONDAY.plusDays(1).withHour(1).withMinute(59)));
+        assertFalse(openShopIndex.isOpen(1L, MONDAY.plusDays(1).withHour(2)));
+        assertFalse(openShopIndex.isOpen(1L, MONDAY.plusDays(6).withHour(19)));
+        // 일요일 휴무이므로 월요일 새벽에는 영업하지 않음
+        assertFalse(openShopIndex.isOpen(1L, MONDAY.withHour(1)));
+        // 토요일 밤 영업은 일요일 새벽까지 이어짐
+        assertTrue(openShopIndex.isOpen(1L, MONDAY.plusDays(6).withHour(1)));
+    }
+
+    @Test
+    @DisplayName("카테고리를 지정하면 해당 카테고리의 영업 중인 가게만 조회된다.")
+    void test_02() {
+
+        // given
+        when(mockShopRepository.findAllHours()).thenReturn(List.of(
+                new ShopHours(1L, Category.KOREAN, 0, LocalTime.of(9, 0), LocalTime.of(21, 0)),
+                new ShopHours(2L, Category.CHINESE, 0, LocalTime.of(9, 0), LocalTime.of(21, 0)),
+                new ShopHours(3L, Category.KOREAN, 0, LocalTime.of(22, 0), LocalTime.of(23, 0))));
+        openShopIndex.reload();
+
+        // when
+        List<Long> korean = openShopIndex.findOpenShopIds(Category.KOREAN, MONDAY.withHour(12), 10);
+        List<Long> all = openShopIndex.findOpenShopIds(null, MONDAY.withHour(12), 10);
+        List<Long> cafe = openShopIndex.findOpenShopIds(Category.CAFE, MONDAY.withHour(12), 10);
+
+        // then
+        assertEquals(List.of(1L), korean);
+        assertEquals(List.of(1L, 2L), all);
+        assertTrue(cafe.isEmpty());
+    }
+
+    @Test
+    @DisplayName("영업 시간 변경과 삭제는 전체 재구성 없이 색인에 반영된다.")
+    void test_03() {
+
+        // given
+        when(mockShopRepository.findAllHours()).thenReturn(List.of(
+                new ShopHours(1L, Category.KOREAN, 0, LocalTime.of(9, 0), LocalTime.of(21, 0)),
+                new ShopHours(2L, Category.KOREAN, 0, LocalTime.of(9, 0), LocalTime.of(21, 0))));
+        openShopIndex.reload();
+        LocalDateTime noon = MONDAY.withHour(12);
+        assertEquals(List.of(1L, 2L), openShopIndex.findOpenShopIds(Category.KOREAN, noon, 10));
+
+        // when
+        openShopIndex.upsert(new ShopHours(1L, Category.KOREAN, DayBit.toDays(List.of(DayBit.MON)),
+                LocalTime.of(9, 0), LocalTime.of(21, 0)));
+        openShopIndex.remove(2L);
+        openShopIndex.upsert(new ShopHours(3L, Category.KOREAN, 0, LocalTime.of(0, 0), LocalTime.of(0, 0)));
+
+        // then
+        assertEquals(List.of(3L), openShopIndex.findOpenShopIds(Category.KOREAN, noon, 10));
+        assertEquals(2, openShopIndex.size());
+        verify(mockShopRepository, times(1)).findAllHours();
+    }
+
+    @Test
+    @DisplayName("무작위 영업 일정에 대해 색인 결과가 단순 계산 결과와 같다.")
+    void test_04() {
+
+        // given
+        Random random = new Random(42);
+        List<ShopHours> hours = new ArrayList<>();
+        for (long shopId = 1; shopId <= 2_000; shopId++) {
+            hours.add(new ShopHours(shopId,
+                    Category.values()[random.nextInt(Category.values().length)],
+                    random.nextInt(1 << 8) & ~1,
+                    LocalTime.of(random.nextInt(24), random.nextInt(4) * 15),
+                    LocalTime.of(random.nextInt(24), random.nextInt(4) * 15)));
+        }
+        when(mockShopRepository.findAllHours()).thenReturn(hours);
+        openShopIndex.reload();
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime at = MONDAY.plusMinutes(random.nextInt(ShopSchedule.MINUTES_PER_WEEK));
+            Category category = Category.values()[random.nextInt(Category.values().length)];
+
+            // when
+            List<Long> actual = openShopIndex.findOpenShopIds(category, at, Integer.MAX_VALUE);
+
+            // then
+            List<Long> expected = hours.stream()
+                    .filter(h -> h.getCategory() == category && isOpenNaive(h, at))
+                    .map(ShopHours::getShopId)
+                    .toList();
+            assertEquals(expected, actual, at.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("영업 시간이 비어 있는 가게는 색인하지 않고 나머지 가게는 그대로 색인한다.")
+    void test_05() {
+
+        // given
+        when(mockShopRepository.findAllHours()).thenReturn(List.of(
+                new ShopHours(1L, Category.KOREAN, 0, null, LocalTime.of(21, 0)),
+                new ShopHours(2L, Category.KOREAN, 0, LocalTime.of(9, 0), LocalTime.of(21, 0))));
+
+        // when
+        openShopIndex.reload();
+        openShopIndex.upsert(new ShopHours(2L, Category.KOREAN, 0, LocalTime.of(9, 0), null));
+
+        // then
+        assertFalse(openShopIndex.isOpen(1L, MONDAY.withHour(12)));
+        assertEquals(List.of(), openShopIndex.findOpenShopIds(null, MONDAY.withHour(12), 10));
+        assertEquals(0, openShopIndex.size());
+    }
+
+    @Test
+    @DisplayName("전체를 다시 읽는 중에 처리된 가게 변경은 먼저 읽은 오래된 값으로 덮어써지지 않는다.")
+    void test_06() throws Exception {
+
+        // given - 전체 조회가 끝나기 전에 1번 가게의 영업 시간이 바뀌고 변경 이벤트가 처리됨
+        ShopHours stale = new ShopHours(1L, Category.KOREAN, 0, LocalTime.of(9, 0), LocalTime.of(21, 0));
+        ShopHours fresh = new ShopHours(1L, Category.KOREAN, 0, LocalTime.of(22, 0), LocalTime.of(23, 0));
+        when(mockShopRepository.findHoursById(1L)).thenReturn(Optional.of(fresh));
+        Thread changer = new Thread(() -> openShopIndex.onShopChanged(new ShopChangedEvent(1L)));
+        when(mockShopRepository.findAllHours()).thenAnswer(invocation -> {
+            changer.start();
+            changer.join(200);
+            return List.of(stale);
+        });
+
+        // when
+        openShopIndex.reload();
+        changer.join();
+
+        // then
+        assertFalse(openShopIndex.isOpen(1L, MONDAY.withHour(12)));
+        assertTrue(openShopIndex.isOpen(1L, MONDAY.withHour(22)));
+    }
+
+    private boolean isOpenNaive(ShopHours hours, LocalDateTime at) {
+        LocalTime time = at.toLocalTime();
+        LocalTime start = hours.getStartTime();
+        LocalTime end = hours.getEndTime();
+        boolean today = !DayBit.of(at.getDayOfWeek()).isSet(hours.getRestDays());
+        boolean yesterday = !DayBit.of(at.getDayOfWeek().minus(1)).isSet(hours.getRestDays());
+
+        if (start.isBefore(end)) {
+            return today && !time.isBefore(start) && time.isBefore(end);
+        }
+        // 자정을 넘기는 영업, 시작과 종료가 같으면 시작 시각부터 24시간
+        return (today && !time.isBefore(start)) || (yesterday && time.isBefore(end));
+    }
+}
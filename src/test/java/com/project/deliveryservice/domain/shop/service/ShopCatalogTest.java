@@ -0,0 +1,107 @@
+package com.project.deliveryservice.domain.shop.service;
+
+import com.project.deliveryservice.common.entity.Address;
+import com.project.deliveryservice.domain.shop.dto.ShopInfo;
+import com.project.deliveryservice.domain.shop.dto.ShopSlice;
+import com.project.deliveryservice.domain.shop.entity.Category;
+import com.project.deliveryservice.domain.shop.entity.Shop;
+import com.project.deliveryservice.domain.shop.event.ShopChangedEvent;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShopCatalogTest {
+
+    ShopRepository mockShopRepository;
+    ShopCatalog shopCatalog;
+
+    @BeforeEach
+    void setup() {
+        mockShopRepository = Mockito.mock(ShopRepository.class);
+        shopCatalog = new ShopCatalog(mockShopRepository, 600_000);
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 조회한 결과가 조건에 맞는 가게를 최소 주문 금액, 아이디 순으로 정렬한 결과와 같다.")
+    void test_01() {
+
+        // given
+        Random random = new Random(42);
+        List<Shop> shops = new ArrayList<>();
+        for (long shopId = 1; shopId <= 5_000; shopId++) {
+            shops.add(createShop(shopId, Category.values()[random.nextInt(Category.values().length)],
+                    random.nextInt(20) * 1_000));
+        }
+        when(mockShopRepository.findAllActive()).thenReturn(shops);
+        shopCatalog.refresh();
+
+        for (Category category : new Category[]{null, Category.KOREAN, Category.CAFE}) {
+            int maxMinPrice = 12_000;
+
+            // when
+            List<Long> actual = new ArrayList<>();
+            ShopSlice slice = shopCatalog.find(category, maxMinPrice, null, null, 37);
+            slice.getShops().forEach(s -> actual.add(s.getShopId()));
+            while (slice.isHasNext()) {
+                slice = shopCatalog.find(category, maxMinPrice, slice.getNextCursorMinPrice(), slice.getNextCursorShopId(), 37);
+                slice.getShops().forEach(s -> actual.add(s.getShopId()));
+            }
+
+            // then
+            List<Long> expected = shops.stream()
+                    .filter(s -> category == null || s.getCategory() == category)
+                    .filter(s -> s.getMinPrice() <= maxMinPrice)
+                    .sorted(Comparator.comparingInt(Shop::getMinPrice).thenComparing(Shop::getId))
+                    .map(Shop::getId)
+                    .toList();
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("가게가 변경되면 다음 갱신 때 새 스냅샷으로 교체되고, 변경이 없으면 다시 만들지 않는다.")
+    void test_02() {
+
+        // given
+        when(mockShopRepository.findAllActive())
+                .thenReturn(List.of(createShop(1L, Category.KOREAN, 10_000)))
+                .thenReturn(List.of(createShop(1L, Category.KOREAN, 10_000), createShop(2L, Category.KOREAN, 5_000)));
+        shopCatalog.refresh();
+        shopCatalog.refresh();
+        assertEquals(1, shopCatalog.size());
+
+        // when
+        shopCatalog.onShopChanged(new ShopChangedEvent(2L));
+        shopCatalog.refresh();
+
+        // then
+        List<Long> shopIds = shopCatalog.find(Category.KOREAN, Integer.MAX_VALUE, null, null, 10).getShops().stream()
+                .map(ShopInfo::getShopId)
+                .toList();
+        assertEquals(List.of(2L, 1L), shopIds);
+        verify(mockShopRepository, times(2)).findAllActive();
+    }
+
+    private Shop createShop(long shopId, Category category, int minPrice) {
+        return Shop.builder()
+                .id(shopId)
+                .category(category)
+                .minPrice(minPrice)
+                .address(new Address("city", "street", "12345"))
+                .description("description of shop " + shopId)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(21, 0))
+                .build();
+    }
+}
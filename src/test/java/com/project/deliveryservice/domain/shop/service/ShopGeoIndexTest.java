@@ -0,0 +1,90 @@
+package com.project.deliveryservice.domain.shop.service;
+
+import com.project.deliveryservice.domain.shop.dto.ShopDistance;
+import com.project.deliveryservice.domain.shop.dto.ShopLocation;
+import com.project.deliveryservice.domain.shop.repository.ShopRepository;
+import com.project.deliveryservice.utils.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShopGeoIndexTest {
+
+    // 서울 시청 부근
+    private static final double LATITUDE = 37.5663;
+    private static final double LONGITUDE = 126.9779;
+
+    ShopRepository mockShopRepository;
+    ShopGeoIndex shopGeoIndex;
+
+    @BeforeEach
+    void setup() {
+        mockShopRepository = Mockito.mock(ShopRepository.class);
+        shopGeoIndex = new ShopGeoIndex(mockShopRepository, 1);
+    }
+
+    @Test
+    @DisplayName("반경 검색 결과가 전체 가게와의 거리를 직접 계산한 결과와 같다.")
+    void test_01() {
+
+        // given
+        Random random = new Random(42);
+        List<ShopLocation> locations = new ArrayList<>();
+        for (long shopId = 1; shopId <= 100_000; shopId++) {
+            locations.add(new ShopLocation(shopId, LATITUDE + random.nextGaussian() * 0.2, LONGITUDE + random.nextGaussian() * 0.2));
+        }
+        when(mockShopRepository.findAllLocations()).thenReturn(locations);
+        shopGeoIndex.reload();
+
+        for (int i = 0; i < 50; i++) {
+            double latitude = LATITUDE + random.nextGaussian() * 0.2;
+            double longitude = LONGITUDE + random.nextGaussian() * 0.2;
+            double radiusKm = 0.5 + random.nextDouble() * 5;
+
+            // when
+            List<Long> actual = shopGeoIndex.findWithin(latitude, longitude, radiusKm, Integer.MAX_VALUE).stream()
+                    .map(ShopDistance::getShopId)
+                    .sorted()
+                    .toList();
+
+            // then
+            List<Long> expected = locations.stream()
+                    .filter(l -> GeoUtils.distanceKm(latitude, longitude, l.getLatitude(), l.getLongitude()) <= radiusKm)
+                    .map(ShopLocation::getShopId)
+                    .toList();
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("가게를 추가, 이동, 삭제하면 전체 재구성 없이 검색 결과에 반영되고 가까운 순으로 정렬된다.")
+    void test_02() {
+
+        // given
+        when(mockShopRepository.findAllLocations()).thenReturn(List.of(
+                new ShopLocation(1L, LATITUDE, LONGITUDE + 0.01),
+                new ShopLocation(2L, LATITUDE, LONGITUDE + 0.02)));
+        shopGeoIndex.reload();
+
+        // when
+        shopGeoIndex.upsert(new ShopLocation(3L, LATITUDE, LONGITUDE + 0.001));
+        shopGeoIndex.upsert(new ShopLocation(2L, LATITUDE + 1, LONGITUDE));
+        shopGeoIndex.remove(1L);
+        shopGeoIndex.upsert(new ShopLocation(4L, LATITUDE + 0.01, LONGITUDE));
+
+        // then
+        List<ShopDistance> nearby = shopGeoIndex.findWithin(LATITUDE, LONGITUDE, 3, 10);
+        assertEquals(List.of(3L, 4L), nearby.stream().map(ShopDistance::getShopId).toList());
+        assertTrue(nearby.get(0).getDistanceKm() < nearby.get(1).getDistanceKm());
+        assertEquals(3, shopGeoIndex.size());
+        verify(mockShopRepository, times(1)).findAllLocations();
+    }
+}